@@ -0,0 +1,257 @@
+package org.openl.binding.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.binding.IBoundNode;
+import org.openl.binding.ILocalVar;
+import org.openl.binding.impl.cast.CastFactory;
+import org.openl.binding.impl.cast.IOpenCast;
+import org.openl.binding.impl.module.RootDictionaryContext;
+import org.openl.binding.impl.operator.Comparison;
+import org.openl.types.IDataOpenField;
+import org.openl.types.IMethodCaller;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenField;
+import org.openl.types.IOpenMethod;
+import org.openl.types.impl.CastingMethodCaller;
+import org.openl.types.impl.OpenFieldDelegator;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Hash index for select expressions over a data defined at compile time like: {@code dataTable[(x) @ x.code == key]}.
+ * The condition must be an equality or a conjunction with equalities, where one side of the equality depends on the
+ * element only and another one does not depend on the element. The index is built once on the first query and
+ * returns candidates in the original order, the whole condition is still evaluated for every candidate.
+ */
+final class ConditionIndex {
+
+    private static final Class<?>[] KEY_TYPES = {String.class,
+            Integer.class,
+            int.class,
+            Long.class,
+            long.class,
+            Short.class,
+            short.class,
+            Byte.class,
+            byte.class,
+            Character.class,
+            char.class,
+            Boolean.class,
+            boolean.class};
+
+    private final IDataOpenField dataField;
+    private final ILocalVar tempVar;
+    private final IOpenCast openCast;
+    private final IBoundNode[] elementNodes;
+    private final IBoundNode[] keyNodes;
+
+    private volatile Indexed indexed;
+
+    private static final class Indexed {
+        private final Object data;
+        private final Map<Object, List<Object>> elements;
+
+        private Indexed(Object data, Map<Object, List<Object>> elements) {
+            this.data = data;
+            this.elements = elements;
+        }
+    }
+
+    private ConditionIndex(IDataOpenField dataField,
+                           ILocalVar tempVar,
+                           IOpenCast openCast,
+                           IBoundNode[] elementNodes,
+                           IBoundNode[] keyNodes) {
+        this.dataField = dataField;
+        this.tempVar = tempVar;
+        this.openCast = openCast;
+        this.elementNodes = elementNodes;
+        this.keyNodes = keyNodes;
+    }
+
+    /**
+     * @return the index or null if the target or the condition cannot be indexed
+     */
+    static ConditionIndex create(IBoundNode targetNode, IBoundNode condition, ILocalVar tempVar, IOpenCast openCast) {
+        IDataOpenField dataField = getDataField(targetNode);
+        IOpenClass targetType = targetNode.getType();
+        if (dataField == null || !targetType.isArray() || targetType.getComponentClass()
+                .getInstanceClass()
+                .isPrimitive()) {
+            return null;
+        }
+        List<IBoundNode> elementNodes = new ArrayList<>();
+        List<IBoundNode> keyNodes = new ArrayList<>();
+        collectEqualities(condition, tempVar, elementNodes, keyNodes);
+        if (elementNodes.isEmpty()) {
+            return null;
+        }
+        return new ConditionIndex(dataField,
+                tempVar,
+                openCast,
+                elementNodes.toArray(IBoundNode.EMPTY),
+                keyNodes.toArray(IBoundNode.EMPTY));
+    }
+
+    private static IDataOpenField getDataField(IBoundNode targetNode) {
+        if (!(targetNode instanceof FieldBoundNode) || ((FieldBoundNode) targetNode).getDims() > 0) {
+            return null;
+        }
+        IOpenField field = ((FieldBoundNode) targetNode).getBoundField();
+        while (field instanceof OpenFieldDelegator) {
+            field = ((OpenFieldDelegator) field).getDelegate();
+        }
+        return field instanceof IDataOpenField ? (IDataOpenField) field : null;
+    }
+
+    private static void collectEqualities(IBoundNode condition,
+                                          ILocalVar tempVar,
+                                          List<IBoundNode> elementNodes,
+                                          List<IBoundNode> keyNodes) {
+        if (condition instanceof BinaryOpNodeAnd) {
+            BinaryOpNodeAnd and = (BinaryOpNodeAnd) condition;
+            collectEqualities(and.getLeft(), tempVar, elementNodes, keyNodes);
+            collectEqualities(and.getRight(), tempVar, elementNodes, keyNodes);
+        } else if (condition instanceof BinaryOpNode && isEquality(((BinaryOpNode) condition).getMethodCaller())) {
+            IBoundNode left = condition.getChildren()[0];
+            IBoundNode right = condition.getChildren()[1];
+            if (!isKeyType(left.getType()) || left.getType().getInstanceClass() != right.getType().getInstanceClass()) {
+                return;
+            }
+            if (isElementNode(left, tempVar) && isKeyNode(right, tempVar)) {
+                elementNodes.add(left);
+                keyNodes.add(right);
+            } else if (isElementNode(right, tempVar) && isKeyNode(left, tempVar)) {
+                elementNodes.add(right);
+                keyNodes.add(left);
+            }
+        }
+    }
+
+    /**
+     * Only equalities without conversions of the operands, which are consistent with {@link Object#equals(Object)}.
+     */
+    private static boolean isEquality(IMethodCaller methodCaller) {
+        if (methodCaller instanceof CastingMethodCaller) {
+            for (IOpenCast cast : ((CastingMethodCaller) methodCaller).getCasts()) {
+                if (cast != null && !CastFactory.isIdentityCast(cast)) {
+                    return false;
+                }
+            }
+        }
+        IOpenMethod method = methodCaller.getMethod();
+        return ("eq".equals(method.getName()) || "string_eq".equals(method.getName())) && method.getDeclaringClass()
+                .getInstanceClass() == Comparison.class;
+    }
+
+    private static boolean isKeyType(IOpenClass type) {
+        Class<?> instanceClass = type.getInstanceClass();
+        if (instanceClass == null) {
+            return false;
+        }
+        if (instanceClass.isEnum()) {
+            return true;
+        }
+        for (Class<?> keyType : KEY_TYPES) {
+            if (keyType == instanceClass) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The node reads a value of the element or of its fields.
+     */
+    private static boolean isElementNode(IBoundNode node, ILocalVar tempVar) {
+        if (!(node instanceof FieldBoundNode) || ((FieldBoundNode) node).getDims() > 0) {
+            return false;
+        }
+        FieldBoundNode fieldNode = (FieldBoundNode) node;
+        IBoundNode targetNode = fieldNode.getTargetNode();
+        if (targetNode == null) {
+            return RootDictionaryContext.isReadFrom(fieldNode.getBoundField(), tempVar);
+        }
+        return !RootDictionaryContext.isReadFrom(fieldNode.getBoundField(), tempVar) && isElementNode(targetNode,
+                tempVar);
+    }
+
+    /**
+     * The node is a literal or reads fields which do not depend on the element.
+     */
+    private static boolean isKeyNode(IBoundNode node, ILocalVar tempVar) {
+        if (node instanceof LiteralBoundNode) {
+            return true;
+        }
+        if (!(node instanceof FieldBoundNode) || RootDictionaryContext
+                .isReadFrom(((FieldBoundNode) node).getBoundField(), tempVar)) {
+            return false;
+        }
+        IBoundNode targetNode = node.getTargetNode();
+        return targetNode == null || isKeyNode(targetNode, tempVar);
+    }
+
+    /**
+     * @return the elements which can match the condition in the original order, or null if the target is not the
+     *         indexed data and must be iterated as usual
+     */
+    Iterator<Object> find(Object target, IRuntimeEnv env) {
+        Indexed current = indexed;
+        if (current == null) {
+            if (target != dataField.getData()) {
+                return null;
+            }
+            current = buildIndex(target, env);
+        }
+        if (current.data != target || current.elements == null) {
+            return null;
+        }
+        Object key;
+        try {
+            key = evaluateKey(keyNodes, env);
+        } catch (RuntimeException e) {
+            // Let the usual iteration report the error if it is reproduced for the elements
+            return null;
+        }
+        List<Object> found = current.elements.get(key);
+        return found == null ? Collections.emptyIterator() : found.iterator();
+    }
+
+    private synchronized Indexed buildIndex(Object data, IRuntimeEnv env) {
+        if (indexed == null) {
+            Map<Object, List<Object>> elements = new HashMap<>();
+            try {
+                for (Object element : (Object[]) data) {
+                    if (element == null) {
+                        continue;
+                    }
+                    Object converted = openCast != null ? openCast.convert(element) : element;
+                    tempVar.set(null, converted, env);
+                    elements.computeIfAbsent(evaluateKey(elementNodes, env), e -> new ArrayList<>(1)).add(element);
+                }
+            } catch (RuntimeException e) {
+                // The element fields cannot be evaluated, so the data is iterated as usual
+                elements = null;
+            }
+            indexed = new Indexed(data, elements);
+        }
+        return indexed;
+    }
+
+    private static Object evaluateKey(IBoundNode[] nodes, IRuntimeEnv env) {
+        if (nodes.length == 1) {
+            return nodes[0].evaluate(env);
+        }
+        Object[] key = new Object[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            key[i] = nodes[i].evaluate(env);
+        }
+        return Arrays.asList(key);
+    }
+}
@@ -19,6 +19,7 @@ class SelectAllIndexNode extends ABoundNode {
     private final IBoundNode condition;
     private final IBoundNode targetNode;
     private final IOpenCast openCast;
+    private final ConditionIndex conditionIndex;
     private final Class<?> componentClass;
     private final IOpenClass type;
 
@@ -26,12 +27,14 @@ class SelectAllIndexNode extends ABoundNode {
                        IBoundNode targetNode,
                        IBoundNode condition,
                        ILocalVar tempVar,
-                       IOpenCast openCast) {
+                       IOpenCast openCast,
+                       ConditionIndex conditionIndex) {
         super(syntaxNode, targetNode, condition);
         this.tempVar = tempVar;
         this.targetNode = targetNode;
         this.condition = condition;
         this.openCast = openCast;
+        this.conditionIndex = conditionIndex;
 
         if (targetNode.getType().isArray()) {
             this.componentClass = targetNode.getType().getComponentClass().getInstanceClass();
@@ -50,8 +53,11 @@ class SelectAllIndexNode extends ABoundNode {
         if (target == null) {
             return null;
         }
-        IAggregateInfo aggregateInfo = targetNode.getType().getAggregateInfo();
-        Iterator<Object> elementsIterator = aggregateInfo.getIterator(target);
+        Iterator<Object> elementsIterator = conditionIndex != null ? conditionIndex.find(target, env) : null;
+        if (elementsIterator == null) {
+            IAggregateInfo aggregateInfo = targetNode.getType().getAggregateInfo();
+            elementsIterator = aggregateInfo.getIterator(target);
+        }
         List<Object> firedElements = new ArrayList<>();
         while (elementsIterator.hasNext()) {
             Object element = elementsIterator.next();
@@ -22,6 +22,11 @@ public class SelectAllIndexNodeBinder extends BaseAggregateIndexNodeBinder {
                                          IOpenCast openCast,
                                          IBindingContext bindingContext) {
         expressionNode = BindHelper.checkConditionBoundNode(expressionNode, bindingContext);
-        return new SelectAllIndexNode(node, targetNode, expressionNode, localVar, openCast);
+        return new SelectAllIndexNode(node,
+                targetNode,
+                expressionNode,
+                localVar,
+                openCast,
+                ConditionIndex.create(targetNode, expressionNode, localVar, openCast));
     }
 }
@@ -16,17 +16,20 @@ class SelectFirstIndexNode extends ABoundNode {
     private final IBoundNode condition;
     private final IBoundNode targetNode;
     private final IOpenCast openCast;
+    private final ConditionIndex conditionIndex;
 
     SelectFirstIndexNode(ISyntaxNode syntaxNode,
                          IBoundNode targetNode,
                          IBoundNode condition,
                          ILocalVar tempVar,
-                         IOpenCast openCast) {
+                         IOpenCast openCast,
+                         ConditionIndex conditionIndex) {
         super(syntaxNode, targetNode, condition);
         this.tempVar = tempVar;
         this.targetNode = targetNode;
         this.condition = condition;
         this.openCast = openCast;
+        this.conditionIndex = conditionIndex;
     }
 
     @Override
@@ -35,8 +38,11 @@ class SelectFirstIndexNode extends ABoundNode {
         if (target == null) {
             return null;
         }
-        IAggregateInfo aggregateInfo = targetNode.getType().getAggregateInfo();
-        Iterator<Object> elementsIterator = aggregateInfo.getIterator(target);
+        Iterator<Object> elementsIterator = conditionIndex != null ? conditionIndex.find(target, env) : null;
+        if (elementsIterator == null) {
+            IAggregateInfo aggregateInfo = targetNode.getType().getAggregateInfo();
+            elementsIterator = aggregateInfo.getIterator(target);
+        }
         while (elementsIterator.hasNext()) {
             Object element = elementsIterator.next();
             if (element == null) {
@@ -22,6 +22,11 @@ public class SelectFirstIndexNodeBinder extends BaseAggregateIndexNodeBinder {
                                          IOpenCast openCast,
                                          IBindingContext bindingContext) {
         expressionNode = BindHelper.checkConditionBoundNode(expressionNode, bindingContext);
-        return new SelectFirstIndexNode(node, targetNode, expressionNode, localVar, openCast);
+        return new SelectFirstIndexNode(node,
+                targetNode,
+                expressionNode,
+                localVar,
+                openCast,
+                ConditionIndex.create(targetNode, expressionNode, localVar, openCast));
     }
 }
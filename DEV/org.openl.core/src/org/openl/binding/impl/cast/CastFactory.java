@@ -97,6 +97,13 @@ public class CastFactory implements ICastFactory {
     public static final String CAST_METHOD_NAME = "cast";
     public static final String DISTANCE_METHOD_NAME = "distance";
 
+    /**
+     * @return true if the cast returns the same object, e.g. a cast to a super type
+     */
+    public static boolean isIdentityCast(IOpenCast cast) {
+        return cast instanceof JavaNoCast || cast instanceof JavaUpCast;
+    }
+
     /**
      * Method factory object. This factory allows to define cast operations thru java methods.
      */
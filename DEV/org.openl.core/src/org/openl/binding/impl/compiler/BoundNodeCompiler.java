@@ -0,0 +1,110 @@
+package org.openl.binding.impl.compiler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.openl.binding.IBoundMethodNode;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.BlockNode;
+import org.openl.binding.impl.ReturnNode;
+import org.openl.util.BooleanUtils;
+import org.openl.util.ClassUtils;
+
+/**
+ * Optional compilation tier for bound expressions. An expression tree is translated to a generated class with direct
+ * calls of static Java methods, the nodes which cannot be translated are evaluated by the interpreter. If the tree
+ * cannot be compiled, the original one is returned.
+ * <p>
+ * The compilation is turned on by the {@value #EXPRESSION_COMPILATION_PROPERTY} system property.
+ */
+public final class BoundNodeCompiler {
+
+    public static final String EXPRESSION_COMPILATION_PROPERTY = "org.openl.expression.compilation";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundNodeCompiler.class);
+
+    /**
+     * Types of the errors which have already been reported as warnings. Errors of the environment, e.g. inaccessible
+     * {@code ClassLoader.defineClass} on JDK 17 without {@code --add-opens}, fail every expression in the same way.
+     */
+    private static final Set<String> REPORTED_FAILURES = ConcurrentHashMap.newKeySet();
+
+    private BoundNodeCompiler() {
+    }
+
+    public static boolean isEnabled() {
+        return BooleanUtils.toBoolean(System.getProperty(EXPRESSION_COMPILATION_PROPERTY));
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @return the compiled node or the given one if the expression is not supported
+     */
+    public static IBoundNode compile(IBoundNode node) {
+        if (node == null || node instanceof CompiledBoundNode) {
+            return node;
+        } else if (node instanceof BlockNode) {
+            return (IBoundNode) compile((IBoundMethodNode) node);
+        }
+        try {
+            ClassLoader classLoader = ClassUtils.getCurrentClassLoader(BoundNodeCompiler.class);
+            ExpressionByteCodeGenerator generator = new ExpressionByteCodeGenerator(node, classLoader);
+            if (!generator.isCompilable()) {
+                return node;
+            }
+            Class<?> expressionClass = ClassUtils
+                    .defineClass(generator.getClassName(), generator.byteCode(), classLoader);
+            CompiledExpression expression = (CompiledExpression) expressionClass
+                    .getConstructor(IBoundNode[].class, Object[].class)
+                    .newInstance(generator.getNodes(), generator.getConstants());
+            return new CompiledBoundNode(node, expression);
+        } catch (Exception | LinkageError e) {
+            Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+            if (REPORTED_FAILURES.add(cause.getClass().getName())) {
+                LOG.warn("Expression compilation fails with '{}'. The interpreter is used for the failed expressions.",
+                        cause.getClass().getName(),
+                        e);
+            } else {
+                LOG.debug("Failed to compile the expression. The interpreter is used instead.", e);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Compiles statements of a method body separately.
+     *
+     * @return the compiled method body or the given one if none of the statements is supported
+     */
+    public static IBoundMethodNode compile(IBoundMethodNode methodNode) {
+        if (!(methodNode instanceof BlockNode)) {
+            return methodNode;
+        }
+        BlockNode block = (BlockNode) methodNode;
+        IBoundNode[] children = block.getChildren();
+        if (children == null || children.length == 0) {
+            return methodNode;
+        }
+        IBoundNode[] compiled = new IBoundNode[children.length];
+        boolean changed = false;
+        for (int i = 0; i < children.length; i++) {
+            IBoundNode child = children[i];
+            if (child instanceof ReturnNode && child.getChildren().length == 1) {
+                IBoundNode returnExpression = compile(child.getChildren()[0]);
+                if (returnExpression != child.getChildren()[0]) {
+                    child = new ReturnNode(child.getSyntaxNode(), new IBoundNode[]{returnExpression});
+                }
+            } else {
+                child = compile(child);
+            }
+            changed |= child != children[i];
+            compiled[i] = child;
+        }
+        return changed ? new BlockNode(block.getSyntaxNode(), block.getLocalFrameSize(), compiled) : methodNode;
+    }
+}
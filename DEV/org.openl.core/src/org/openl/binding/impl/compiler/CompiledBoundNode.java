@@ -0,0 +1,36 @@
+package org.openl.binding.impl.compiler;
+
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.ABoundNode;
+import org.openl.types.IOpenClass;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Replaces an expression tree with the generated code. The original tree is kept as the only child to be available
+ * for the tools traversing bound nodes.
+ */
+public class CompiledBoundNode extends ABoundNode {
+
+    private final IBoundNode original;
+    private final CompiledExpression expression;
+
+    CompiledBoundNode(IBoundNode original, CompiledExpression expression) {
+        super(original.getSyntaxNode(), original);
+        this.original = original;
+        this.expression = expression;
+    }
+
+    @Override
+    protected Object evaluateRuntime(IRuntimeEnv env) {
+        return expression.evaluate(env.getLocalFrame(), env);
+    }
+
+    @Override
+    public IOpenClass getType() {
+        return original.getType();
+    }
+
+    public IBoundNode getOriginal() {
+        return original;
+    }
+}
@@ -0,0 +1,91 @@
+package org.openl.binding.impl.compiler;
+
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.BinaryOpNode;
+import org.openl.binding.impl.ControlSignal;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * A base class for the expressions generated by {@link BoundNodeCompiler}. A generated class implements
+ * {@link #evaluate(Object[], IRuntimeEnv)} and calls back to this class for the nodes which are not compiled and for
+ * the constants which cannot be pushed to the operand stack directly.
+ */
+public abstract class CompiledExpression {
+
+    private final IBoundNode[] nodes;
+    private final Object[] constants;
+
+    protected CompiledExpression(IBoundNode[] nodes, Object[] constants) {
+        this.nodes = nodes;
+        this.constants = constants;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param frame the current local frame, it contains method parameters and local variables
+     * @param env   the runtime environment
+     * @return the result of the evaluation, primitive values are boxed
+     */
+    public abstract Object evaluate(Object[] frame, IRuntimeEnv env);
+
+    /**
+     * Evaluates a not compiled node by the interpreter.
+     */
+    protected final Object evaluateNode(int node, IRuntimeEnv env) {
+        return nodes[node].evaluate(env);
+    }
+
+    protected final Object constant(int constant) {
+        return constants[constant];
+    }
+
+    /**
+     * Converts an exception thrown during a direct call of a Java method the same way as the interpreter does it.
+     */
+    protected final RuntimeException failure(Throwable t, int method, int node) {
+        if (t instanceof ControlSignal) {
+            return (ControlSignal) t;
+        }
+        OpenLRuntimeException exception = ((JavaOpenMethod) constants[method]).toRuntimeException(t);
+        IBoundNode boundNode = nodes[node];
+        if (!(boundNode instanceof BinaryOpNode)) {
+            exception.pushMethodNode(boundNode);
+        }
+        return exception;
+    }
+
+    public static boolean toBoolean(Object value) {
+        return value != null && (Boolean) value;
+    }
+
+    public static char toChar(Object value) {
+        return value == null ? 0 : (Character) value;
+    }
+
+    public static byte toByte(Object value) {
+        return value == null ? 0 : ((Number) value).byteValue();
+    }
+
+    public static short toShort(Object value) {
+        return value == null ? 0 : ((Number) value).shortValue();
+    }
+
+    public static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    public static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    public static float toFloat(Object value) {
+        return value == null ? 0 : ((Number) value).floatValue();
+    }
+
+    public static double toDouble(Object value) {
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+}
@@ -0,0 +1,547 @@
+package org.openl.binding.impl.compiler;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.Method;
+
+import org.openl.binding.ILocalVar;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.BinaryMethodCallerSwapParams;
+import org.openl.binding.impl.BinaryOpNode;
+import org.openl.binding.impl.FieldBoundNode;
+import org.openl.binding.impl.LiteralBoundNode;
+import org.openl.binding.impl.MethodBoundNode;
+import org.openl.binding.impl.cast.IOpenCast;
+import org.openl.types.IMethodCaller;
+import org.openl.types.IOpenClass;
+import org.openl.types.impl.CastingMethodCaller;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.util.ClassUtils;
+
+/**
+ * Generates a subclass of {@link CompiledExpression} for a tree of bound nodes.
+ * <p>
+ * Literals, reading of local variables and calls of public static Java methods (e.g. {@code Operators}) are translated
+ * to the byte code with typed values on the operand stack. All other nodes are evaluated by the interpreter via
+ * {@link CompiledExpression#evaluateNode(int, org.openl.vm.IRuntimeEnv)}.
+ */
+final class ExpressionByteCodeGenerator {
+
+    private static final AtomicInteger nameCounter = new AtomicInteger(0);
+    private static final String CLASS_NAME_PREFIX = "org.openl.generated.expressions.Expression";
+
+    private static final Type EXPRESSION_TYPE = Type.getType(CompiledExpression.class);
+    private static final Type OBJECT_TYPE = Type.getType(Object.class);
+    private static final Type OPEN_CAST_TYPE = Type.getType(IOpenCast.class);
+    private static final Method CONSTRUCTOR = Method
+            .getMethod("void <init>(org.openl.binding.IBoundNode[], java.lang.Object[])");
+    private static final Method EVALUATE = Method
+            .getMethod("java.lang.Object evaluate(java.lang.Object[], org.openl.vm.IRuntimeEnv)");
+    private static final Method EVALUATE_NODE = Method
+            .getMethod("java.lang.Object evaluateNode(int, org.openl.vm.IRuntimeEnv)");
+    private static final Method CONSTANT = Method.getMethod("java.lang.Object constant(int)");
+    private static final Method FAILURE = Method
+            .getMethod("java.lang.RuntimeException failure(java.lang.Throwable, int, int)");
+    private static final Method CONVERT = Method.getMethod("java.lang.Object convert(java.lang.Object)");
+
+    private final ClassLoader classLoader;
+    private final String className;
+    private final Expr root;
+
+    private final List<IBoundNode> nodes = new ArrayList<>();
+    private final List<Object> constants = new ArrayList<>();
+    private final Map<Integer, Class<?>> variables = new TreeMap<>();
+    private final Map<Integer, Integer> variableLocals = new TreeMap<>();
+    private int fallbacks;
+    private int calls;
+
+    ExpressionByteCodeGenerator(IBoundNode node, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.className = CLASS_NAME_PREFIX + nameCounter.incrementAndGet();
+        Expr expr = analyze(node);
+        this.root = expr instanceof Fallback ? null : expr;
+    }
+
+    /**
+     * The expression is worth compiling if it contains at least one direct method call.
+     */
+    boolean isCompilable() {
+        return root != null && calls > 0;
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    IBoundNode[] getNodes() {
+        return nodes.toArray(IBoundNode.EMPTY);
+    }
+
+    Object[] getConstants() {
+        return constants.toArray();
+    }
+
+    byte[] byteCode() {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Frames are merged in the exception handlers only, which are not sensitive to the types of locals.
+                return OBJECT_TYPE.getInternalName();
+            }
+        };
+        Type type = Type.getObjectType(className.replace('.', '/'));
+        cw.visit(Opcodes.V1_8,
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER | Opcodes.ACC_FINAL,
+                type.getInternalName(),
+                null,
+                EXPRESSION_TYPE.getInternalName(),
+                null);
+
+        GeneratorAdapter constructor = new GeneratorAdapter(Opcodes.ACC_PUBLIC, CONSTRUCTOR, null, null, cw);
+        constructor.visitCode();
+        constructor.loadThis();
+        constructor.loadArgs();
+        constructor.invokeConstructor(EXPRESSION_TYPE, CONSTRUCTOR);
+        constructor.returnValue();
+        constructor.endMethod();
+
+        GeneratorAdapter mv = new GeneratorAdapter(Opcodes.ACC_PUBLIC, EVALUATE, null, null, cw);
+        mv.visitCode();
+        if (fallbacks == 0) {
+            // Nothing can modify the local frame during the evaluation, so the variables are read once.
+            for (Map.Entry<Integer, Class<?>> variable : variables.entrySet()) {
+                Type varType = Type.getType(variable.getValue());
+                int local = mv.newLocal(varType);
+                loadFrameElement(mv, variable.getKey(), variable.getValue());
+                mv.storeLocal(local);
+                variableLocals.put(variable.getKey(), local);
+            }
+        }
+        root.emit(mv);
+        if (root.type.isPrimitive()) {
+            mv.valueOf(Type.getType(root.type));
+        }
+        mv.returnValue();
+        mv.endMethod();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private Expr analyze(IBoundNode node) {
+        Expr expr = null;
+        if (node.getClass() == LiteralBoundNode.class) {
+            expr = analyzeLiteral((LiteralBoundNode) node);
+        } else if (node.getClass() == FieldBoundNode.class) {
+            expr = analyzeVariable((FieldBoundNode) node);
+        } else if (node.getClass() == BinaryOpNode.class || node.getClass() == MethodBoundNode.class) {
+            expr = analyzeCall((MethodBoundNode) node);
+        }
+        return expr != null ? expr : new Fallback(node);
+    }
+
+    private Expr analyzeLiteral(LiteralBoundNode node) {
+        Object value = node.getValue();
+        Class<?> type = node.getType().getInstanceClass();
+        if (value == null || type == null) {
+            return null;
+        }
+        if (type.isPrimitive()) {
+            return ClassUtils.primitiveToWrapper(type) == value.getClass() ? new Literal(value, type) : null;
+        }
+        return new Literal(value, value instanceof String ? String.class : Object.class);
+    }
+
+    private Expr analyzeVariable(FieldBoundNode node) {
+        if (node.getTargetNode() != null || !(node.getBoundField() instanceof ILocalVar)) {
+            return null;
+        }
+        ILocalVar var = (ILocalVar) node.getBoundField();
+        IOpenClass varType = var.getType();
+        Class<?> type = varType.getInstanceClass();
+        if (type == null || !type.isPrimitive()) {
+            if (varType.nullObject() != null) {
+                return null;
+            }
+            type = Object.class;
+        }
+        Class<?> existed = variables.putIfAbsent(var.getIndexInLocalFrame(), type);
+        if (existed != null && existed != type) {
+            return null;
+        }
+        return new Variable(var.getIndexInLocalFrame(), type);
+    }
+
+    private Expr analyzeCall(MethodBoundNode node) {
+        if (node.getTargetNode() != null) {
+            return null;
+        }
+        IMethodCaller caller = node.getMethodCaller();
+        IBoundNode[] children = node.getChildren();
+        if (children == null) {
+            return null;
+        }
+        int[] order = new int[children.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (caller instanceof BinaryMethodCallerSwapParams) {
+            if (!(node instanceof BinaryOpNode) || children.length != 2) {
+                return null;
+            }
+            caller = ((BinaryMethodCallerSwapParams) caller).getDelegate();
+            order = new int[]{1, 0};
+        }
+        IOpenCast[] casts = null;
+        if (caller.getClass() == CastingMethodCaller.class) {
+            casts = ((CastingMethodCaller) caller).getCasts();
+            caller = caller.getMethod();
+        }
+        if (caller.getClass() != JavaOpenMethod.class) {
+            return null;
+        }
+        JavaOpenMethod method = (JavaOpenMethod) caller;
+        java.lang.reflect.Method javaMethod = method.getJavaMethod();
+        int modifiers = javaMethod.getModifiers();
+        Class<?>[] paramTypes = javaMethod.getParameterTypes();
+        Class<?> returnType = javaMethod.getReturnType();
+        Class<?> declaringClass = javaMethod.getDeclaringClass();
+        if (!Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || declaringClass.isInterface()
+                || !isVisible(declaringClass)) {
+            return null;
+        }
+        if (paramTypes.length != children.length || casts != null && casts.length != paramTypes.length) {
+            return null;
+        }
+        if (returnType == void.class || !isVisible(returnType)) {
+            return null;
+        }
+        if (!returnType.isPrimitive() && node.getType().nullObject() != null) {
+            return null;
+        }
+        for (Class<?> paramType : paramTypes) {
+            if (!isVisible(paramType)) {
+                return null;
+            }
+        }
+
+        int nodesSize = nodes.size();
+        int constantsSize = constants.size();
+        int fallbacksSize = fallbacks;
+        int callsSize = calls;
+        Expr[] args = new Expr[children.length];
+        for (int i = 0; i < children.length; i++) {
+            args[i] = analyze(children[i]);
+        }
+        for (int i = 0; i < paramTypes.length; i++) {
+            if ((casts == null || casts[i] == null) && !isConvertible(args[order[i]].type, paramTypes[i])) {
+                // Roll back registrations of the children, the node will be interpreted as a whole.
+                nodes.subList(nodesSize, nodes.size()).clear();
+                constants.subList(constantsSize, constants.size()).clear();
+                fallbacks = fallbacksSize;
+                calls = callsSize;
+                return null;
+            }
+        }
+        calls++;
+        return new Call(node, method, casts, order, args);
+    }
+
+    private boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that the value can be passed as a parameter of the Java method the same way as the reflection does it.
+     */
+    private static boolean isConvertible(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        } else if (to.isPrimitive()) {
+            return from.isPrimitive() && isWidening(from, to);
+        } else if (from.isPrimitive()) {
+            return to.isAssignableFrom(ClassUtils.primitiveToWrapper(from));
+        }
+        // A reference is checked by the cast at runtime
+        return true;
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == boolean.class || to == boolean.class || to == char.class) {
+            return false;
+        }
+        if (from == char.class) {
+            return to != byte.class && to != short.class;
+        }
+        Class<?>[] order = {byte.class, short.class, int.class, long.class, float.class, double.class};
+        int fromIndex = -1;
+        int toIndex = -1;
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] == from) {
+                fromIndex = i;
+            }
+            if (order[i] == to) {
+                toIndex = i;
+            }
+        }
+        return fromIndex >= 0 && fromIndex < toIndex;
+    }
+
+    private static void convert(GeneratorAdapter mv, Class<?> from, Class<?> to) {
+        if (from == to) {
+            return;
+        }
+        if (to.isPrimitive()) {
+            if (from.isPrimitive()) {
+                mv.cast(Type.getType(from), Type.getType(to));
+            } else {
+                mv.unbox(Type.getType(to));
+            }
+        } else {
+            if (from.isPrimitive()) {
+                mv.valueOf(Type.getType(from));
+                from = ClassUtils.primitiveToWrapper(from);
+            }
+            if (!to.isAssignableFrom(from)) {
+                mv.checkCast(Type.getType(to));
+            }
+        }
+    }
+
+    /**
+     * Converts an object to the expected type with the same semantic as {@code IOpenClass.nullObject()} has for
+     * primitives.
+     */
+    private static void fromObject(GeneratorAdapter mv, Class<?> type) {
+        if (type.isPrimitive()) {
+            String name = "to" + Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            mv.invokeStatic(EXPRESSION_TYPE, new Method(name, Type.getType(type), new Type[]{OBJECT_TYPE}));
+        } else if (type != Object.class) {
+            mv.checkCast(Type.getType(type));
+        }
+    }
+
+    private void loadFrameElement(GeneratorAdapter mv, int index, Class<?> type) {
+        mv.loadArg(0);
+        mv.push(index);
+        mv.arrayLoad(OBJECT_TYPE);
+        fromObject(mv, type);
+    }
+
+    private int addNode(IBoundNode node) {
+        nodes.add(node);
+        return nodes.size() - 1;
+    }
+
+    private int addConstant(Object value) {
+        constants.add(value);
+        return constants.size() - 1;
+    }
+
+    private abstract static class Expr {
+        /**
+         * A type of the value on the operand stack after the evaluation.
+         */
+        final Class<?> type;
+
+        Expr(Class<?> type) {
+            this.type = type;
+        }
+
+        abstract void emit(GeneratorAdapter mv);
+    }
+
+    private final class Literal extends Expr {
+        private final Object value;
+        private final int constant;
+
+        Literal(Object value, Class<?> type) {
+            super(type);
+            this.value = value;
+            this.constant = type == Object.class ? addConstant(value) : -1;
+        }
+
+        @Override
+        void emit(GeneratorAdapter mv) {
+            if (type == boolean.class) {
+                mv.push((Boolean) value);
+            } else if (type == char.class) {
+                mv.push((Character) value);
+            } else if (type == byte.class || type == short.class || type == int.class) {
+                mv.push(((Number) value).intValue());
+            } else if (type == long.class) {
+                mv.push((Long) value);
+            } else if (type == float.class) {
+                mv.push((Float) value);
+            } else if (type == double.class) {
+                mv.push((Double) value);
+            } else if (type == String.class) {
+                mv.push((String) value);
+            } else {
+                mv.loadThis();
+                mv.push(constant);
+                mv.invokeVirtual(EXPRESSION_TYPE, CONSTANT);
+            }
+        }
+    }
+
+    private final class Variable extends Expr {
+        private final int index;
+
+        Variable(int index, Class<?> type) {
+            super(type);
+            this.index = index;
+        }
+
+        @Override
+        void emit(GeneratorAdapter mv) {
+            Integer local = variableLocals.get(index);
+            if (local != null) {
+                mv.loadLocal(local);
+            } else {
+                loadFrameElement(mv, index, type);
+            }
+        }
+    }
+
+    private final class Fallback extends Expr {
+        private final int node;
+
+        Fallback(IBoundNode node) {
+            super(typeOf(node.getType()));
+            this.node = addNode(node);
+            fallbacks++;
+        }
+
+        @Override
+        void emit(GeneratorAdapter mv) {
+            mv.loadThis();
+            mv.push(node);
+            mv.loadArg(1);
+            mv.invokeVirtual(EXPRESSION_TYPE, EVALUATE_NODE);
+            fromObject(mv, type);
+        }
+    }
+
+    /**
+     * Only primitive types are trusted for not compiled nodes. Instance classes of some open classes, e.g. custom
+     * spreadsheet results, differ from the classes of runtime values.
+     */
+    private static Class<?> typeOf(IOpenClass openClass) {
+        Class<?> type = openClass == null ? null : openClass.getInstanceClass();
+        return type != null && type.isPrimitive() && type != void.class ? type : Object.class;
+    }
+
+    private final class Call extends Expr {
+        private final MethodBoundNode boundNode;
+        private final java.lang.reflect.Method javaMethod;
+        private final int[] casts;
+        private final int[] order;
+        private final Expr[] args;
+        private final int method;
+        private final int node;
+
+        Call(MethodBoundNode boundNode, JavaOpenMethod method, IOpenCast[] casts, int[] order, Expr[] args) {
+            super(method.getJavaMethod().getReturnType());
+            this.boundNode = boundNode;
+            this.javaMethod = method.getJavaMethod();
+            this.order = order;
+            this.args = args;
+            this.method = addConstant(method);
+            this.node = addNode(boundNode);
+            this.casts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                this.casts[i] = casts == null || casts[i] == null ? -1 : addConstant(casts[i]);
+            }
+        }
+
+        @Override
+        void emit(GeneratorAdapter mv) {
+            Class<?>[] paramTypes = javaMethod.getParameterTypes();
+            // The interpreter catches exceptions of the children for method calls but not for operators
+            boolean operator = boundNode instanceof BinaryOpNode;
+            Label start = mv.mark();
+            int[] params = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                params[order[i]] = i;
+            }
+            int[] locals = new int[args.length];
+            boolean ordered = params.length < 2 || params[0] == 0;
+            for (int i = 0; i < args.length; i++) {
+                int param = params[i];
+                args[i].emit(mv);
+                if (casts[param] >= 0) {
+                    convert(mv, args[i].type, Object.class);
+                    mv.loadThis();
+                    mv.push(casts[param]);
+                    mv.invokeVirtual(EXPRESSION_TYPE, CONSTANT);
+                    mv.checkCast(OPEN_CAST_TYPE);
+                    mv.swap();
+                    mv.invokeInterface(OPEN_CAST_TYPE, CONVERT);
+                    fromCast(mv, paramTypes[param]);
+                } else {
+                    convert(mv, args[i].type, paramTypes[param]);
+                }
+                if (!ordered) {
+                    locals[param] = mv.newLocal(Type.getType(paramTypes[param]));
+                    mv.storeLocal(locals[param]);
+                }
+            }
+            if (!ordered) {
+                for (int local : locals) {
+                    mv.loadLocal(local);
+                }
+            }
+            Label callStart = operator ? mv.mark() : start;
+            mv.invokeStatic(Type.getType(javaMethod.getDeclaringClass()), Method.getMethod(javaMethod));
+            Label end = mv.mark();
+            Label handler = mv.newLabel();
+            Label next = mv.newLabel();
+            mv.visitTryCatchBlock(callStart, end, handler, "java/lang/Throwable");
+            mv.goTo(next);
+            // The handler is placed inside the try blocks of the enclosing calls, so they add their nodes to the
+            // OpenL call stack of the exception as the interpreter does
+            mv.mark(handler);
+            mv.loadThis();
+            mv.swap();
+            mv.push(method);
+            mv.push(node);
+            mv.invokeVirtual(EXPRESSION_TYPE, FAILURE);
+            mv.throwException();
+            mv.mark(next);
+        }
+
+        private void fromCast(GeneratorAdapter mv, Class<?> paramType) {
+            if (paramType.isPrimitive()) {
+                mv.unbox(Type.getType(paramType));
+            } else if (paramType != Object.class) {
+                mv.checkCast(Type.getType(paramType));
+            }
+        }
+    }
+}
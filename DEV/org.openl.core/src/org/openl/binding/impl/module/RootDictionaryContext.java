@@ -86,6 +86,20 @@ public class RootDictionaryContext implements VariableInContextFinder {
         initializeRoots();
     }
 
+    /**
+     * Checks if the value of the field is read from the given root field, e.g. it is the root itself or its field.
+     */
+    public static boolean isReadFrom(IOpenField field, IOpenField root) {
+        if (field == root) {
+            return true;
+        }
+        if (field instanceof ContextField) {
+            ContextField contextField = (ContextField) field;
+            return contextField.parent == null ? contextField.getDelegate() == root : contextField.parent == root;
+        }
+        return false;
+    }
+
     private void add(ContextField contextField) {
         addToMap(contextField.getName(), contextField, fields);
         addToMap(contextField.getName().toLowerCase().replace(" ", ""), contextField, lowerCaseFields);
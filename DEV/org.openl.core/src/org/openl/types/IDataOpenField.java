@@ -0,0 +1,13 @@
+package org.openl.types;
+
+/**
+ * A field which holds data defined in a module at compile time, e.g. a data table. The data is shared between all
+ * instances of the module and is not changed at runtime, so the structures built over it can be reused.
+ */
+public interface IDataOpenField extends IOpenField {
+
+    /**
+     * @return the data defined at compile time
+     */
+    Object getData();
+}
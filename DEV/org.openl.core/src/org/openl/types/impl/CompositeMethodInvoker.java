@@ -9,6 +9,7 @@ import org.openl.binding.IBoundNode;
 import org.openl.binding.impl.ABoundNode;
 import org.openl.binding.impl.BlockNode;
 import org.openl.binding.impl.ControlSignalReturn;
+import org.openl.binding.impl.compiler.BoundNodeCompiler;
 import org.openl.types.Invokable;
 import org.openl.vm.IRuntimeEnv;
 
@@ -44,6 +45,13 @@ public class CompositeMethodInvoker implements Invokable {
             this.methodBodyBoundNode = null;
         }
 
+        if (BoundNodeCompiler.isEnabled()) {
+            if (expressionNode != null) {
+                expressionNode = BoundNodeCompiler.compile(expressionNode);
+            } else {
+                this.methodBodyBoundNode = BoundNodeCompiler.compile(this.methodBodyBoundNode);
+            }
+        }
     }
 
     public void removeDebugInformation() {
@@ -143,18 +143,25 @@ public class JavaOpenMethod implements IOpenMethod, IMethodSignature {
         try {
             return method.invoke(target, params);
         } catch (InvocationTargetException t) {
-            Throwable targetException = t.getTargetException();
-            if (targetException instanceof OpenLRuntimeException) {
-                throw (OpenLRuntimeException) targetException;
-            }
-            String msg = getMessage(targetException);
-            throw new OpenLRuntimeException(msg, targetException);
+            throw toRuntimeException(t.getTargetException());
         } catch (Exception t) {
             String msg = getMessage(t);
             throw new OpenLRuntimeException(msg, t);
         }
     }
 
+    /**
+     * Converts an exception thrown by the underlying Java method to the one thrown by {@link #invoke}. It is used when
+     * the Java method is called directly, bypassing reflection.
+     */
+    public OpenLRuntimeException toRuntimeException(Throwable targetException) {
+        if (targetException instanceof OpenLRuntimeException) {
+            return (OpenLRuntimeException) targetException;
+        }
+        String msg = getMessage(targetException);
+        return new OpenLRuntimeException(msg, targetException);
+    }
+
     private String getMessage(Throwable exception) {
         String message = exception.getMessage();
         if (message == null) {
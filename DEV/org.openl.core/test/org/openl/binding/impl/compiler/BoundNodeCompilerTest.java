@@ -0,0 +1,130 @@
+package org.openl.binding.impl.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.binding.IBoundNode;
+import org.openl.binding.impl.ABoundNode;
+import org.openl.binding.impl.BinaryMethodCallerSwapParams;
+import org.openl.binding.impl.BinaryOpNode;
+import org.openl.binding.impl.LiteralBoundNode;
+import org.openl.binding.impl.Operators;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.types.java.JavaOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.SimpleVM;
+
+public class BoundNodeCompilerTest {
+
+    private final IRuntimeEnv env = new SimpleVM.SimpleRuntimeEnv();
+
+    @Test
+    public void testPrimitiveOperators() throws Exception {
+        // (2 + 3) * 1.5
+        IBoundNode sum = operator("add", int.class, literal(2, JavaOpenClass.INT), literal(3, JavaOpenClass.INT));
+        IBoundNode node = operator("multiply", double.class, sum, literal(1.5, JavaOpenClass.DOUBLE));
+
+        IBoundNode compiled = BoundNodeCompiler.compile(node);
+
+        assertInstanceOf(CompiledBoundNode.class, compiled);
+        assertEquals(node.evaluate(env), compiled.evaluate(env));
+        assertEquals(7.5, compiled.evaluate(env));
+    }
+
+    @Test
+    public void testFallbackNode() throws Exception {
+        IBoundNode interpreted = new ValueNode(40, JavaOpenClass.INT);
+        IBoundNode node = operator("add", int.class, interpreted, literal(2, JavaOpenClass.INT));
+
+        IBoundNode compiled = BoundNodeCompiler.compile(node);
+
+        assertInstanceOf(CompiledBoundNode.class, compiled);
+        assertEquals(42, compiled.evaluate(env));
+    }
+
+    @Test
+    public void testSwappedParameters() throws Exception {
+        IBoundNode left = literal("a", JavaOpenClass.STRING);
+        IBoundNode right = literal("b", JavaOpenClass.STRING);
+        JavaOpenMethod add = new JavaOpenMethod(Operators.class.getMethod("add", String.class, String.class));
+        IBoundNode node = new BinaryOpNode(null, left, right, new BinaryMethodCallerSwapParams(add));
+
+        IBoundNode compiled = BoundNodeCompiler.compile(node);
+
+        assertInstanceOf(CompiledBoundNode.class, compiled);
+        assertEquals("ba", node.evaluate(env));
+        assertEquals("ba", compiled.evaluate(env));
+    }
+
+    @Test
+    public void testNullObject() throws Exception {
+        IOpenClass integer = JavaOpenClass.getOpenClass(Integer.class);
+        IBoundNode node = operator("add",
+            Integer.class,
+            new ValueNode(null, integer),
+            new ValueNode(null, integer));
+
+        IBoundNode compiled = BoundNodeCompiler.compile(node);
+
+        assertInstanceOf(CompiledBoundNode.class, compiled);
+        assertEquals(node.evaluate(env), compiled.evaluate(env));
+    }
+
+    @Test
+    public void testNotCompilable() {
+        IBoundNode node = literal(1, JavaOpenClass.INT);
+        assertSame(node, BoundNodeCompiler.compile(node));
+    }
+
+    @Test
+    public void testException() throws Exception {
+        IBoundNode node = operator("rem", int.class, literal(1, JavaOpenClass.INT), literal(0, JavaOpenClass.INT));
+        IBoundNode compiled = BoundNodeCompiler.compile(node);
+
+        assertInstanceOf(CompiledBoundNode.class, compiled);
+        OpenLRuntimeException expected = assertThrows(OpenLRuntimeException.class, () -> node.evaluate(env));
+        OpenLRuntimeException actual = assertThrows(OpenLRuntimeException.class, () -> compiled.evaluate(env));
+        assertEquals(expected.getOriginalMessage(), actual.getOriginalMessage());
+        assertTrue(actual.getCause() instanceof ArithmeticException);
+    }
+
+    private static IBoundNode literal(Object value, IOpenClass type) {
+        return new LiteralBoundNode(null, value, type);
+    }
+
+    private static IBoundNode operator(String name,
+            Class<?> type,
+            IBoundNode left,
+            IBoundNode right) throws NoSuchMethodException {
+        JavaOpenMethod method = new JavaOpenMethod(Operators.class.getMethod(name, type, type));
+        return new BinaryOpNode(null, left, right, method);
+    }
+
+    private static class ValueNode extends ABoundNode {
+        private final Object value;
+        private final IOpenClass type;
+
+        ValueNode(Object value, IOpenClass type) {
+            super(null);
+            this.value = value;
+            this.type = type;
+        }
+
+        @Override
+        protected Object evaluateRuntime(IRuntimeEnv env) {
+            return value;
+        }
+
+        @Override
+        public IOpenClass getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.openl.excel.grid;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only compact storage of parsed sheet cells. Instead of a dense array covering the whole used range of a sheet,
+ * only non-empty cells are stored:
+ * <ul>
+ * <li>numbers are stored as primitive doubles, so they are not boxed while the grid is alive,</li>
+ * <li>other values are stored in an array of objects, equal strings are shared,</li>
+ * <li>for every row the columns of its cells are kept sorted, a cell is found by the binary search.</li>
+ * </ul>
+ */
+final class CompactCells {
+
+    private static final int[] EMPTY_OFFSETS = new int[1];
+
+    private final int[] rowLengths;
+
+    private final int[] objectOffsets;
+    private final char[] objectColumns;
+    private final Object[] objects;
+
+    private final int[] numberOffsets;
+    private final char[] numberColumns;
+    private final double[] numbers;
+    private final BitSet integers;
+
+    private CompactCells(int[] rowLengths,
+                         int[] objectOffsets,
+                         char[] objectColumns,
+                         Object[] objects,
+                         int[] numberOffsets,
+                         char[] numberColumns,
+                         double[] numbers,
+                         BitSet integers) {
+        this.rowLengths = rowLengths;
+        this.objectOffsets = objectOffsets;
+        this.objectColumns = objectColumns;
+        this.objects = objects;
+        this.numberOffsets = numberOffsets;
+        this.numberColumns = numberColumns;
+        this.numbers = numbers;
+        this.integers = integers;
+    }
+
+    static CompactCells of(Object[][] cells) {
+        int rows = cells.length;
+        int[] rowLengths = new int[rows];
+        int objectCount = 0;
+        int numberCount = 0;
+        for (int i = 0; i < rows; i++) {
+            Object[] row = cells[i];
+            rowLengths[i] = row.length;
+            if (row.length > Character.MAX_VALUE + 1) {
+                throw new IllegalArgumentException("Too many columns in a row: " + row.length);
+            }
+            for (Object value : row) {
+                if (isNumber(value)) {
+                    numberCount++;
+                } else if (value != null) {
+                    objectCount++;
+                }
+            }
+        }
+
+        int[] objectOffsets = objectCount == 0 ? EMPTY_OFFSETS : new int[rows + 1];
+        char[] objectColumns = new char[objectCount];
+        Object[] objects = new Object[objectCount];
+        int[] numberOffsets = numberCount == 0 ? EMPTY_OFFSETS : new int[rows + 1];
+        char[] numberColumns = new char[numberCount];
+        double[] numbers = new double[numberCount];
+        BitSet integers = new BitSet();
+
+        Map<String, String> strings = new HashMap<>();
+        int o = 0;
+        int n = 0;
+        for (int i = 0; i < rows; i++) {
+            Object[] row = cells[i];
+            for (int j = 0; j < row.length; j++) {
+                Object value = row[j];
+                if (isNumber(value)) {
+                    numberColumns[n] = (char) j;
+                    numbers[n] = ((Number) value).doubleValue();
+                    if (value instanceof Integer) {
+                        integers.set(n);
+                    }
+                    n++;
+                } else if (value != null) {
+                    objectColumns[o] = (char) j;
+                    objects[o] = value instanceof String ? strings.computeIfAbsent((String) value, e -> e) : value;
+                    o++;
+                }
+            }
+            if (objectCount > 0) {
+                objectOffsets[i + 1] = o;
+            }
+            if (numberCount > 0) {
+                numberOffsets[i + 1] = n;
+            }
+        }
+        return new CompactCells(rowLengths,
+                objectOffsets,
+                objectColumns,
+                objects,
+                numberOffsets,
+                numberColumns,
+                numbers,
+                integers);
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Double || value instanceof Integer;
+    }
+
+    int getRowCount() {
+        return rowLengths.length;
+    }
+
+    int getRowLength(int row) {
+        return rowLengths[row];
+    }
+
+    /**
+     * @return true if the cell is inside the range of the parsed cells
+     */
+    boolean contains(int row, int col) {
+        return row >= 0 && col >= 0 && row < rowLengths.length && col < rowLengths[row];
+    }
+
+    /**
+     * @return the value of the cell or null if the cell is empty or out of the range
+     */
+    Object get(int row, int col) {
+        if (!contains(row, col)) {
+            return null;
+        }
+        if (objects.length > 0) {
+            int i = find(objectColumns, objectOffsets[row], objectOffsets[row + 1], col);
+            if (i >= 0) {
+                return objects[i];
+            }
+        }
+        if (numbers.length > 0) {
+            int i = find(numberColumns, numberOffsets[row], numberOffsets[row + 1], col);
+            if (i >= 0) {
+                if (integers.get(i)) {
+                    return (int) numbers[i];
+                }
+                return numbers[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Passes all non-empty cells which are not numbers to the consumer.
+     */
+    void forEachObject(CellConsumer consumer) {
+        if (objects.length == 0) {
+            return;
+        }
+        for (int row = 0; row < rowLengths.length; row++) {
+            for (int i = objectOffsets[row]; i < objectOffsets[row + 1]; i++) {
+                consumer.accept(row, objectColumns[i], objects[i]);
+            }
+        }
+    }
+
+    private static int find(char[] columns, int from, int to, int col) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midCol = columns[mid];
+            if (midCol < col) {
+                low = mid + 1;
+            } else if (midCol > col) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    interface CellConsumer {
+        void accept(int row, int col, Object value);
+    }
+}
@@ -35,7 +35,7 @@ public class ParsedGrid extends AGrid {
     private final Logger log = LoggerFactory.getLogger(ParsedGrid.class);
 
     private final String workbookPath;
-    private final Object[][] cells;
+    private final CompactCells cells;
     private final String uri;
     private final XlsSheetSourceCodeModule sheetSource;
     private final SheetDescriptor sheetDescriptor;
@@ -54,7 +54,7 @@ public class ParsedGrid extends AGrid {
                Object[][] cells,
                boolean use1904Windowing) {
         this.workbookPath = workbookPath;
-        this.cells = cells;
+        this.cells = CompactCells.of(cells);
         this.sheetSource = sheetSource;
         this.uri = sheetSource.getUri();
         this.sheetDescriptor = sheet;
@@ -79,15 +79,15 @@ public class ParsedGrid extends AGrid {
     public int getMaxColumnIndex(int row) {
         int internalRow = row - getFirstRowNum();
 
-        if (cells.length <= internalRow) {
+        if (cells.getRowCount() <= internalRow) {
             return 0;
         }
-        return getFirstColNum() + cells[internalRow].length - 1;
+        return getFirstColNum() + cells.getRowLength(internalRow) - 1;
     }
 
     @Override
     public int getMaxRowIndex() {
-        return getFirstRowNum() + cells.length - 1;
+        return getFirstRowNum() + cells.getRowCount() - 1;
     }
 
     @Override
@@ -110,6 +110,11 @@ public class ParsedGrid extends AGrid {
         return regions.size();
     }
 
+    @Override
+    public IGridRegion getRegionContaining(int col, int row) {
+        return regionsPool.getRegionContaining(col, row);
+    }
+
     @Override
     public String getUri() {
         return uri;
@@ -135,17 +140,11 @@ public class ParsedGrid extends AGrid {
         LinkedHashSet<CellRowCol> startPoints = new LinkedHashSet<>();
 
         // Find top left points
-        for (int i = 0; i < cells.length; i++) {
-            Object[] row = cells[i];
-            for (int j = 0; j < row.length; j++) {
-                Object col = row[j];
-
-                if (col instanceof MergedCell) {
-                    CellRowCol rowCol = findTopLeft(i, j);
-                    startPoints.add(rowCol);
-                }
+        cells.forEachObject((row, col, value) -> {
+            if (value instanceof MergedCell) {
+                startPoints.add(findTopLeft(row, col));
             }
-        }
+        });
 
         // Find bottom right points and create regions
         for (CellRowCol start : startPoints) {
@@ -160,13 +159,13 @@ public class ParsedGrid extends AGrid {
     }
 
     private CellRowCol findTopLeft(int internalRow, int internalCol) {
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_LEFT) {
+        while (cells.get(internalRow, internalCol) == MergedCell.MERGE_WITH_LEFT) {
             if (internalCol == 0) {
                 break;
             }
             internalCol--;
         }
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_UP) {
+        while (cells.get(internalRow, internalCol) == MergedCell.MERGE_WITH_UP) {
             if (internalRow == 0) {
                 break;
             }
@@ -178,10 +177,10 @@ public class ParsedGrid extends AGrid {
     private CellRowCol findBottomRight(int internalRow, int internalCol) {
         int endRow = internalRow;
         int endCol = internalCol;
-        while (endRow < cells.length - 1 && cells[endRow + 1][endCol] == MergedCell.MERGE_WITH_UP) {
+        while (cells.get(endRow + 1, endCol) == MergedCell.MERGE_WITH_UP) {
             endRow++;
         }
-        while (endCol < cells[endRow].length - 1 && cells[endRow][endCol + 1] == MergedCell.MERGE_WITH_LEFT) {
+        while (cells.get(endRow, endCol + 1) == MergedCell.MERGE_WITH_LEFT) {
             endCol++;
         }
 
@@ -194,14 +193,10 @@ public class ParsedGrid extends AGrid {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow < 0 || internalCol < 0 || cells.length <= internalRow || cells[internalRow].length <= internalCol) {
-            return null;
-        }
-
-        Object value = cells[internalRow][internalCol];
+        Object value = cells.get(internalRow, internalCol);
         if (value instanceof MergedCell) {
             CellRowCol topLeft = findTopLeft(internalRow, internalCol);
-            value = cells[topLeft.row][topLeft.col];
+            value = cells.get(topLeft.row, topLeft.col);
         }
         if (value instanceof ExtendedValue) {
             value = ((ExtendedValue) value).getValue();
@@ -214,11 +209,11 @@ public class ParsedGrid extends AGrid {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow < 0 || internalCol < 0 || cells.length <= internalRow || cells[internalRow].length <= internalCol) {
+        if (!cells.contains(internalRow, internalCol)) {
             return null;
         }
 
-        Object value = cells[internalRow][internalCol];
+        Object value = cells.get(internalRow, internalCol);
         short indent = value instanceof AlignedValue ? ((AlignedValue) value).getIndent() : 0;
         return new IndentedStyle(indent, this, row, column);
     }
@@ -227,7 +222,7 @@ public class ParsedGrid extends AGrid {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow >= 0 && internalCol >= 0 && cells.length > internalRow && cells[internalRow].length > internalCol) {
+        if (cells.contains(internalRow, internalCol)) {
             CellRowCol topLeft = findTopLeft(internalRow, internalCol);
             row -= internalRow - topLeft.row;
             column -= internalCol - topLeft.col;
@@ -275,10 +270,6 @@ public class ParsedGrid extends AGrid {
         return regionsPool.getRegionContaining(col, row);
     }
 
-    protected Object[][] getCells() {
-        return cells;
-    }
-
     private int getFirstRowNum() {
         return sheetDescriptor.getFirstRowNum();
     }
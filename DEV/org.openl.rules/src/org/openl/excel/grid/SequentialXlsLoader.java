@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,6 +22,7 @@ import org.openl.excel.parser.SheetDescriptor;
 import org.openl.exception.OpenLCompilationException;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
+import org.openl.rules.core.ce.ServiceMT;
 import org.openl.rules.lang.xls.IXlsTableNames;
 import org.openl.rules.lang.xls.IncludeSearcher;
 import org.openl.rules.lang.xls.TablePart;
@@ -55,6 +57,10 @@ import org.openl.util.StringUtils;
 import org.openl.util.text.LocationUtils;
 
 public class SequentialXlsLoader {
+    private static final boolean PARALLEL_READING = Boolean
+            .parseBoolean(System.getProperty("org.openl.excel.parallel", "true"));
+    // max number of sheets which are parsed ahead of the sheet being processed
+    private static final int READ_AHEAD_SHEETS = Runtime.getRuntime().availableProcessors();
     private final Logger log = LoggerFactory.getLogger(SequentialXlsLoader.class);
     private final Collection<String> imports = new HashSet<>();
     private final IncludeSearcher includeSeeker;
@@ -99,7 +105,8 @@ public class SequentialXlsLoader {
             // Example of such case is AlgorithmTableSpecification.xls.
             path = null;
         }
-        try (ExcelReader excelReader = path == null ? factory.create(source.getByteStream()) : factory.create(path)) {
+        try (ExcelReader excelReader = path == null ? factory.create(source.getByteStream()) : factory.create(path);
+                SheetCellsReader cellsReader = new SheetCellsReader(excelReader)) {
             List<? extends SheetDescriptor> sheets = excelReader.getSheets();
             boolean use1904Windowing = excelReader.isUse1904Windowing();
 
@@ -110,7 +117,7 @@ public class SequentialXlsLoader {
                 final SheetDescriptor sheet = sheets.get(i);
                 XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(workbookSourceModule,
                         sheet);
-                Object[][] cells = excelReader.getCells(sheet);
+                Object[][] cells = cellsReader.getCells(sheets, i);
                 IGridTable[] tables = new ParsedGrid(path, sheetSource, sheet, cells, use1904Windowing).getTables();
                 sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSource, tables);
             }
@@ -404,4 +411,60 @@ public class SequentialXlsLoader {
             }
         }
     }
+
+    /**
+     * Reads cells of sheets. If the reader supports it, the next sheets are parsed concurrently while the current sheet
+     * is processed, the rest of the workbook processing is sequential because it depends on the order of tables. At
+     * most {@link #READ_AHEAD_SHEETS} parsed sheets wait for processing, so the memory footprint is bounded.
+     */
+    private static final class SheetCellsReader implements AutoCloseable {
+        private final ExcelReader excelReader;
+        private final boolean concurrent;
+        private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        private final List<ForkJoinTask<Object[][]>> tasks = new ArrayList<>();
+
+        SheetCellsReader(ExcelReader excelReader) {
+            this.excelReader = excelReader;
+            this.concurrent = PARALLEL_READING && excelReader.isConcurrentReadingSupported();
+        }
+
+        Object[][] getCells(List<? extends SheetDescriptor> sheets, int index) {
+            if (!concurrent) {
+                return excelReader.getCells(sheets.get(index));
+            }
+            int last = Math.min(sheets.size(), index + 1 + READ_AHEAD_SHEETS);
+            while (tasks.size() < last) {
+                tasks.add(submit(sheets.get(tasks.size())));
+            }
+            // the processed sheet is released as soon as its grid is built
+            return tasks.set(index, null).join();
+        }
+
+        private ForkJoinTask<Object[][]> submit(SheetDescriptor sheet) {
+            ForkJoinTask<Object[][]> task = ForkJoinTask.adapt(() -> {
+                ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+                try {
+                    Thread.currentThread().setContextClassLoader(classLoader);
+                    return excelReader.getCells(sheet);
+                } finally {
+                    Thread.currentThread().setContextClassLoader(oldClassLoader);
+                }
+            });
+            ServiceMT.getInstance().execute(task);
+            return task;
+        }
+
+        /**
+         * Waits for the sheets which are still being parsed, the reader must not be closed before.
+         */
+        @Override
+        public void close() {
+            for (ForkJoinTask<Object[][]> task : tasks) {
+                if (task != null) {
+                    task.quietlyJoin();
+                }
+            }
+            tasks.clear();
+        }
+    }
 }
@@ -18,6 +18,13 @@ public interface ExcelReader extends AutoCloseable {
      */
     Object[][] getCells(SheetDescriptor sheet);
 
+    /**
+     * @return true if {@link #getCells(SheetDescriptor)} can be invoked for different sheets concurrently
+     */
+    default boolean isConcurrentReadingSupported() {
+        return false;
+    }
+
     /**
      * Sometimes we need to convert parsed double value to date. For example a cell contains value 1.25, user sees it in
      * Excel as 1.25 but in OpenL this value has a type Date. It should be converted from double to Date. (There is unit
@@ -19,6 +19,7 @@ import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.util.XMLHelper;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.CommentsTable;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -41,9 +42,10 @@ public class SAXReader implements ExcelReader {
     private final String fileName;
     private File tempFile;
 
-    private boolean use1904Windowing;
-    private List<SAXSheetDescriptor> sheets;
-    private MinimalStyleTable styleTable;
+    private volatile boolean use1904Windowing;
+    private volatile List<SAXSheetDescriptor> sheets;
+    private volatile MinimalStyleTable styleTable;
+    private volatile String[] sharedStrings;
 
     public SAXReader(String fileName) {
         this.fileName = fileName;
@@ -59,7 +61,7 @@ public class SAXReader implements ExcelReader {
     }
 
     @Override
-    public List<SAXSheetDescriptor> getSheets() {
+    public synchronized List<SAXSheetDescriptor> getSheets() {
         if (sheets == null) {
             try (ReadOnlyOPCPackage pkg = ReadOnlyOPCPackage.open(fileName)) {
 
@@ -91,9 +93,10 @@ public class SAXReader implements ExcelReader {
             XSSFReader r = new XSSFReader(pkg.pck);
 
             initializeNeededData(r, pkg.pck);
+            initializeSharedStrings(r);
 
             XMLReader parser = XMLHelper.newXMLReader();
-            SheetHandler handler = new SheetHandler(r.getSharedStringsTable(),
+            SheetHandler handler = new SheetHandler(sharedStrings,
                     use1904Windowing,
                     styleTable,
                     parserDateUtil);
@@ -113,6 +116,15 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    /**
+     * Shared strings and styles are parsed once and shared read-only between sheets, every sheet is parsed from its own
+     * package instance.
+     */
+    @Override
+    public boolean isConcurrentReadingSupported() {
+        return true;
+    }
+
     @Override
     public boolean isUse1904Windowing() {
         // Initialize use1904Windowing property if it's not initialized yet
@@ -153,6 +165,7 @@ public class SAXReader implements ExcelReader {
     @Override
     public void close() {
         styleTable = null;
+        sharedStrings = null;
         sheets = null;
         use1904Windowing = false;
 
@@ -161,7 +174,7 @@ public class SAXReader implements ExcelReader {
         parserDateUtil.reset();
     }
 
-    private void initializeNeededData(XSSFReader r, OPCPackage pkg) {
+    private synchronized void initializeNeededData(XSSFReader r, OPCPackage pkg) {
         // Ensure that needed settings were read from workbook and styles files
         if (sheets == null) {
             getSheets();
@@ -172,6 +185,28 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    private synchronized void initializeSharedStrings(XSSFReader r) {
+        if (sharedStrings == null) {
+            sharedStrings = readSharedStrings(r);
+        }
+    }
+
+    private static String[] readSharedStrings(XSSFReader r) {
+        try {
+            SharedStrings sharedStringsTable = r.getSharedStringsTable();
+            if (sharedStringsTable == null) {
+                return new String[0];
+            }
+            String[] strings = new String[sharedStringsTable.getUniqueCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = sharedStringsTable.getItemAt(i).toString();
+            }
+            return strings;
+        } catch (IOException | OpenXML4JException e) {
+            throw new ExcelParseException(e);
+        }
+    }
+
     private void parseStyles(XSSFReader r, OPCPackage pkg) {
         List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
         if (parts.isEmpty()) {
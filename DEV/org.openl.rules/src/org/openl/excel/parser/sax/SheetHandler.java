@@ -3,14 +3,11 @@ package org.openl.excel.parser.sax;
 import static org.apache.poi.xssf.usermodel.XSSFRelation.NS_SPREADSHEETML;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.model.SharedStrings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.Attributes;
@@ -28,12 +25,11 @@ public class SheetHandler extends DefaultHandler {
 
     private final Logger log = LoggerFactory.getLogger(SheetHandler.class);
 
-    private final SharedStrings sharedStringsTable;
+    private final String[] sharedStrings;
     private final ParserDateUtil parserDateUtil;
     private final boolean use1904Windowing;
     private final MinimalStyleTable stylesTable;
 
-    private final LruCache<Integer, String> lruCache = new LruCache<>(50);
     private Object[][] cells = new Object[0][];
 
     private CellAddress start = CellAddress.A1;
@@ -61,11 +57,11 @@ public class SheetHandler extends DefaultHandler {
 
     private final List<CellRangeAddress> mergedCells = new ArrayList<>();
 
-    SheetHandler(SharedStrings sharedStringsTable,
+    SheetHandler(String[] sharedStrings,
                  boolean use1904Windowing,
                  MinimalStyleTable stylesTable,
                  ParserDateUtil parserDateUtil) {
-        this.sharedStringsTable = sharedStringsTable;
+        this.sharedStrings = sharedStrings;
         this.use1904Windowing = use1904Windowing;
         this.stylesTable = stylesTable;
         this.parserDateUtil = parserDateUtil;
@@ -179,12 +175,7 @@ public class SheetHandler extends DefaultHandler {
                     String sstIndex = value.toString();
                     try {
                         int idx = Integer.parseInt(sstIndex);
-                        String strValue = lruCache.get(idx);
-                        if (strValue == null && !lruCache.containsKey(idx)) {
-                            strValue = sharedStringsTable.getItemAt(idx).toString();
-                            lruCache.put(idx, strValue);
-                        }
-                        parsedValue = StringUtils.trimToNull(strValue);
+                        parsedValue = StringUtils.trimToNull(sharedStrings[idx]);
                     } catch (NumberFormatException ex) {
                         throw new ExcelParseException("Failed to parse SST index '" + sstIndex, ex);
                     }
@@ -377,21 +368,6 @@ public class SheetHandler extends DefaultHandler {
         return start;
     }
 
-    private static class LruCache<A, B> extends LinkedHashMap<A, B> {
-        private static final long serialVersionUID = -6937158218983475882L;
-        private final int maxEntries;
-
-        LruCache(final int maxEntries) {
-            super(maxEntries + 1, 1.0f, true);
-            this.maxEntries = maxEntries;
-        }
-
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<A, B> eldest) {
-            return super.size() > maxEntries;
-        }
-    }
-
     private enum XmlCellType {
         BOOLEAN,
         ERROR,
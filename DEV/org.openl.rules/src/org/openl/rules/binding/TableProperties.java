@@ -173,6 +173,10 @@ public class TableProperties {
         return tableProperties.getParallel();
     }
 
+    public java.lang.Boolean getParallelCells() {
+        return tableProperties.getParallelCells();
+    }
+
     public java.lang.String getNature() {
         return tableProperties.getNature();
     }
@@ -328,6 +332,12 @@ public class TableProperties {
         if (tableProperties.getParallel() != null) {
             sb.append("Parallel").append(" = ").append(toString(tableProperties.getParallel())).append("\r\n");
         }
+        if (tableProperties.getParallelCells() != null) {
+            sb.append("ParallelCells")
+                    .append(" = ")
+                    .append(toString(tableProperties.getParallelCells()))
+                    .append("\r\n");
+        }
         if (tableProperties.getNature() != null) {
             sb.append("Nature").append(" = ").append(toString(tableProperties.getNature())).append("\r\n");
         }
@@ -25,6 +25,11 @@ public class Spreadsheet extends ExecutableRulesMethod {
 
     private SpreadsheetCell[][] cells;
 
+    /**
+     * Dependencies between the cells for the parallel calculation. Is null if the cells are calculated sequentially.
+     */
+    private SpreadsheetDependencyGraph dependencyGraph;
+
     /**
      * Top left cell of the whole Spreadsheet is not included. So the row names starts from [1, 0] in the Spreadsheet
      * table body
@@ -93,6 +98,14 @@ public class Spreadsheet extends ExecutableRulesMethod {
         return bindingDependencies;
     }
 
+    public SpreadsheetDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    public void setDependencyGraph(SpreadsheetDependencyGraph dependencyGraph) {
+        this.dependencyGraph = dependencyGraph;
+    }
+
     public IResultBuilder getResultBuilder() {
         return resultBuilder;
     }
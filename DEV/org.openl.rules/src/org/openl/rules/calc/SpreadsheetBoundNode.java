@@ -237,6 +237,13 @@ public class SpreadsheetBoundNode extends AMethodBasedNode {
             spreadsheet.setCells(cells);
 
             spreadsheet.setResultBuilder(structureBuilder.buildResultBuilder(spreadsheet, bindingContext));
+
+            if (Boolean.TRUE.equals(spreadsheet.getMethodProperties().getParallelCells())) {
+                SpreadsheetDependencyGraph dependencyGraph = structureBuilder.buildDependencyGraph(spreadsheet);
+                if (dependencyGraph != null && dependencyGraph.isParallel()) {
+                    spreadsheet.setDependencyGraph(dependencyGraph);
+                }
+            }
         }
     }
 
@@ -0,0 +1,106 @@
+package org.openl.rules.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Static dependencies between the method cells of a spreadsheet, built at compile time. The cells are split into
+ * levels: a cell depends only on the cells of the previous levels, so the cells of one level can be calculated in
+ * parallel. The cells are identified by the index {@code row * width + column}.
+ */
+public final class SpreadsheetDependencyGraph {
+
+    private final int width;
+    private final int[][] dependencies;
+    private final int[][] levels;
+
+    private SpreadsheetDependencyGraph(int width, int[][] dependencies, int[][] levels) {
+        this.width = width;
+        this.dependencies = dependencies;
+        this.levels = levels;
+    }
+
+    /**
+     * Creates the graph for the required cells and all cells they depend on.
+     *
+     * @param width width of the spreadsheet
+     * @param dependencies method cells referenced by each method cell, {@code null} for other cells
+     * @param required cells to calculate
+     * @return the graph or {@code null} if the cells depend on each other cyclically
+     */
+    static SpreadsheetDependencyGraph create(int width, int[][] dependencies, boolean[] required) {
+        int[] cellLevels = new int[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            if (required[i] && dependencies[i] != null && calculateLevel(i, dependencies, cellLevels) < 0) {
+                return null;
+            }
+        }
+        List<List<Integer>> levels = new ArrayList<>();
+        for (int i = 0; i < cellLevels.length; i++) {
+            int level = cellLevels[i];
+            if (level > 0) {
+                while (levels.size() < level) {
+                    levels.add(new ArrayList<>());
+                }
+                levels.get(level - 1).add(i);
+            }
+        }
+        int[][] result = new int[levels.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = levels.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new SpreadsheetDependencyGraph(width, dependencies, result);
+    }
+
+    /**
+     * Level of a cell is a length of the longest path to the cells without dependencies. Zero means the cell is not
+     * visited yet, negative value means the cell is in progress.
+     */
+    private static int calculateLevel(int cell, int[][] dependencies, int[] cellLevels) {
+        if (cellLevels[cell] != 0) {
+            return cellLevels[cell];
+        }
+        cellLevels[cell] = -1;
+        int level = 1;
+        for (int dependency : dependencies[cell]) {
+            int dependencyLevel = calculateLevel(dependency, dependencies, cellLevels);
+            if (dependencyLevel < 0) {
+                return -1;
+            }
+            level = Math.max(level, dependencyLevel + 1);
+        }
+        cellLevels[cell] = level;
+        return level;
+    }
+
+    /**
+     * @return cells grouped by levels in the calculation order
+     */
+    public int[][] getLevels() {
+        return levels;
+    }
+
+    public int[] getDependencies(int cell) {
+        return dependencies[cell];
+    }
+
+    public int getRow(int cell) {
+        return cell / width;
+    }
+
+    public int getColumn(int cell) {
+        return cell % width;
+    }
+
+    /**
+     * @return {@code true} if at least two cells can be calculated at the same time
+     */
+    public boolean isParallel() {
+        for (int[] level : levels) {
+            if (level.length > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,9 +1,14 @@
 package org.openl.rules.calc;
 
+import java.util.Set;
+
 import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.calc.result.SpreadsheetResultBuilder;
 import org.openl.rules.method.RulesMethodInvoker;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.types.IDynamicObject;
 import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
 
 /**
  * Invoker for {@link Spreadsheet}.
@@ -32,9 +37,44 @@ public class SpreadsheetInvoker extends RulesMethodInvoker<Spreadsheet> {
                 params,
                 env,
                 preFetchedResult);
+        Set<String> resultFields = pollResultFields(env);
+        SpreadsheetDependencyGraph dependencyGraph = getInvokableMethod().getDependencyGraph();
+        if (resultFields != null && getInvokableMethod().getResultBuilder() instanceof SpreadsheetResultBuilder) {
+            res.setResultFields(resultFields);
+        } else if (dependencyGraph != null && isParallelCalculationAllowed(env)) {
+            res.calculateInParallel(dependencyGraph);
+        }
         return getInvokableMethod().getResultBuilder().buildResult(res);
     }
 
+    /**
+     * Requested fields are applied to the top level spreadsheet only, so they are removed from the environment before
+     * the cells are calculated.
+     */
+    private static Set<String> pollResultFields(IRuntimeEnv env) {
+        if (!(env instanceof SimpleRulesRuntimeEnv)) {
+            return null;
+        }
+        SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) env;
+        Set<String> resultFields = simpleRulesRuntimeEnv.getResultFields();
+        if (resultFields != null) {
+            simpleRulesRuntimeEnv.setResultFields(null);
+        }
+        return resultFields;
+    }
+
+    /**
+     * Tracing shows the cells in the calculation order and variations are not supported by the forked runtime
+     * environments, so the cells are calculated sequentially in these cases.
+     */
+    private static boolean isParallelCalculationAllowed(IRuntimeEnv env) {
+        if (Tracer.isEnabled() || !(env instanceof SimpleRulesRuntimeEnv)) {
+            return false;
+        }
+        SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) env;
+        return simpleRulesRuntimeEnv.isIgnoreRecalculation() && !simpleRulesRuntimeEnv.isMethodArgumentsCacheEnable();
+    }
+
     /**
      * Creates a result with constant values that are populated
      */
@@ -1,10 +1,14 @@
 package org.openl.rules.calc;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.calc.element.SpreadsheetCellField;
 import org.openl.rules.calc.element.SpreadsheetCellType;
+import org.openl.rules.core.ce.ServiceMT;
 import org.openl.types.IDynamicObject;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenField;
@@ -31,6 +35,11 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
 
     private final Object[][] results;
 
+    /**
+     * Cells of the fields requested by the client or null if all cells are required.
+     */
+    private boolean[][] requiredCells;
+
     public SpreadsheetResultCalculator(Spreadsheet spreadsheet,
                                        IDynamicObject targetModule,
                                        Object[] params,
@@ -98,6 +107,9 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
         if (result == EMPTY_CELL) {
             return null;
         }
+        if (result instanceof CellFailure) {
+            throw ((CellFailure) result).exception;
+        }
         SpreadsheetCell spreadsheetCell = spreadsheet.getCells()[row][column];
         if (result != METHOD_VALUE) {
             if (spreadsheetCell.getSpreadsheetCellType() == SpreadsheetCellType.METHOD) {
@@ -112,6 +124,83 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
         return result;
     }
 
+    /**
+     * Calculates the method cells level by level, the cells of one level are calculated in parallel. The exception of a
+     * failed cell is thrown when the cell is requested, and the cells depending on it are left for the calculation on
+     * demand, so errors are thrown in the same order as without parallelism.
+     */
+    public void calculateInParallel(SpreadsheetDependencyGraph dependencyGraph) {
+        ServiceMT serviceMT = ServiceMT.getInstance();
+        for (int[] level : dependencyGraph.getLevels()) {
+            if (level.length == 1) {
+                calculateIfReady(dependencyGraph, level[0], env);
+                continue;
+            }
+            for (int cell : level) {
+                serviceMT.execute(env, e -> calculateIfReady(dependencyGraph, cell, e));
+            }
+            serviceMT.join(env);
+        }
+    }
+
+    private void calculateIfReady(SpreadsheetDependencyGraph dependencyGraph, int cell, IRuntimeEnv env) {
+        for (int dependency : dependencyGraph.getDependencies(cell)) {
+            int row = dependencyGraph.getRow(dependency);
+            int column = dependencyGraph.getColumn(dependency);
+            Object result = results[row][column];
+            if (result == METHOD_VALUE || result instanceof CellFailure) {
+                return;
+            }
+        }
+        int row = dependencyGraph.getRow(cell);
+        int column = dependencyGraph.getColumn(cell);
+        try {
+            results[row][column] = spreadsheet.getCells()[row][column].invoke(this, params, env);
+        } catch (RuntimeException e) {
+            // The cell is not calculated again, the exception is thrown when the cell is requested
+            results[row][column] = new CellFailure(e);
+        }
+    }
+
+    /**
+     * The exception of a cell calculated in parallel.
+     */
+    private static final class CellFailure {
+        private final RuntimeException exception;
+
+        private CellFailure(RuntimeException exception) {
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Restricts the result to the given fields. The fields can be referenced by the names of the spreadsheet fields,
+     * like {@code $Value$Step}, or by the default names of the serialized result, like {@code Value_Step}. Only the
+     * requested cells and the cells they depend on are calculated, other cells are empty in the result.
+     */
+    public void setResultFields(Set<String> fieldNames) {
+        String[] rowNames = spreadsheet.getRowNames();
+        String[] columnNames = spreadsheet.getColumnNames();
+        boolean singleRow = Arrays.stream(rowNames).filter(Objects::nonNull).count() == 1;
+        boolean singleColumn = Arrays.stream(columnNames).filter(Objects::nonNull).count() == 1;
+        requiredCells = new boolean[height()][width()];
+        for (int row = 0; row < rowNames.length; row++) {
+            for (int column = 0; column < columnNames.length; column++) {
+                String rowName = rowNames[row];
+                String columnName = columnNames[column];
+                if (rowName != null && columnName != null) {
+                    requiredCells[row][column] = fieldNames
+                            .contains(SpreadsheetStructureBuilder.getSpreadsheetCellFieldName(columnName, rowName))
+                            || fieldNames.contains(columnName + "_" + rowName)
+                            || singleColumn && (fieldNames.contains(rowName) || fieldNames
+                                    .contains(SpreadsheetStructureBuilder.DOLLAR_SIGN + rowName))
+                            || singleRow && (fieldNames.contains(columnName) || fieldNames
+                                    .contains(SpreadsheetStructureBuilder.DOLLAR_SIGN + columnName));
+                }
+            }
+        }
+    }
+
     public void setValue(int row, int column, Object res) {
         results[row][column] = res;
     }
@@ -142,7 +231,9 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
-                resultArray[row][col] = getValue(row, col);
+                if (requiredCells == null || requiredCells[row][col]) {
+                    resultArray[row][col] = getValue(row, col);
+                }
             }
         }
         return resultArray;
@@ -1,5 +1,9 @@
 package org.openl.rules.calc;
 
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -14,11 +18,17 @@ import java.util.function.Predicate;
 
 import org.openl.OpenL;
 import org.openl.base.INamedThing;
+import org.openl.binding.BindingDependencies;
 import org.openl.binding.IBindingContext;
 import org.openl.binding.IBoundMethodNode;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.ILocalVar;
+import org.openl.binding.impl.FieldBoundNode;
 import org.openl.binding.impl.NodeType;
 import org.openl.binding.impl.NodeUsage;
+import org.openl.binding.impl.PrefixNode;
 import org.openl.binding.impl.SimpleNodeUsage;
+import org.openl.binding.impl.SuffixNode;
 import org.openl.binding.impl.cast.IOneElementArrayCast;
 import org.openl.binding.impl.cast.IOpenCast;
 import org.openl.binding.impl.component.ComponentOpenClass;
@@ -33,6 +43,7 @@ import org.openl.rules.calc.element.SpreadsheetCellField;
 import org.openl.rules.calc.element.SpreadsheetCellRefType;
 import org.openl.rules.calc.element.SpreadsheetCellType;
 import org.openl.rules.calc.element.SpreadsheetExpressionMarker;
+import org.openl.rules.calc.element.SpreadsheetRangeField;
 import org.openl.rules.calc.element.SpreadsheetStructureBuilderHolder;
 import org.openl.rules.calc.result.ArrayResultBuilder;
 import org.openl.rules.calc.result.EmptyResultBuilder;
@@ -65,6 +76,7 @@ import org.openl.types.NullOpenClass;
 import org.openl.types.impl.CompositeMethod;
 import org.openl.types.impl.OpenMethodHeader;
 import org.openl.types.java.JavaOpenClass;
+import org.openl.types.java.JavaOpenMethod;
 import org.openl.util.JavaKeywordUtils;
 import org.openl.util.MessageUtils;
 import org.openl.util.OpenClassUtils;
@@ -990,6 +1002,48 @@ public class SpreadsheetStructureBuilder {
         return resultBuilder;
     }
 
+    /**
+     * Builds the static dependency graph of the method cells that are calculated for the result of the spreadsheet.
+     * <p>
+     * Only the side effects visible in the cells are detected. Rules and static Java methods called from the cells are
+     * not analyzed: by setting the {@code parallelCells} property in the spreadsheet table the user declares that they
+     * do not change the state shared between the cells, like the arguments of the spreadsheet.
+     *
+     * @return the graph or {@code null} if the cells cannot be calculated in parallel: a cell assigns values to
+     *         anything except its local variables, calls methods without a result or Java methods of objects which can
+     *         change the objects, or the cells depend on each other cyclically
+     */
+    public SpreadsheetDependencyGraph buildDependencyGraph(Spreadsheet spreadsheet) {
+        SpreadsheetCell[][] cells = getCells();
+        int width = getWidth();
+        int[][] dependencies = new int[getHeight() * width][];
+        boolean[] required = new boolean[dependencies.length];
+        IResultBuilder resultBuilder = spreadsheet.getResultBuilder();
+        boolean calculateAllCells = isCalculateAllCellsInSpreadsheet(spreadsheet)
+                || !(resultBuilder instanceof ScalarResultBuilder || resultBuilder instanceof ArrayResultBuilder);
+        for (SpreadsheetCell[] row : cells) {
+            for (SpreadsheetCell cell : row) {
+                if (!cell.isMethodCell()) {
+                    continue;
+                }
+                if (!(cell.getMethod() instanceof CompositeMethod)) {
+                    return null;
+                }
+                CellDependencies cellDependencies = new CellDependencies(cells);
+                ((CompositeMethod) cell.getMethod()).updateDependency(cellDependencies);
+                if (cellDependencies.sideEffects) {
+                    return null;
+                }
+                int index = cell.getRowIndex() * width + cell.getColumnIndex();
+                dependencies[index] = cellDependencies.cells.stream()
+                        .mapToInt(c -> c.getRowIndex() * width + c.getColumnIndex())
+                        .toArray();
+                required[index] = calculateAllCells || cell.isReturnCell();
+            }
+        }
+        return SpreadsheetDependencyGraph.create(width, dependencies, required);
+    }
+
     private boolean isCalculateAllCellsInSpreadsheet(Spreadsheet spreadsheet) {
         return !Boolean.FALSE.equals(spreadsheet.getMethodProperties().getCalculateAllCells());
     }
@@ -1002,6 +1056,108 @@ public class SpreadsheetStructureBuilder {
         return rowHeaders.length;
     }
 
+    /**
+     * Collects the method cells referenced by a cell and detects the changes of the state outside the cell. Called rules
+     * are trusted to have no side effects.
+     */
+    private static final class CellDependencies extends BindingDependencies {
+
+        private static final List<Class<?>> IMMUTABLE_TYPES = List.of(String.class,
+                Boolean.class,
+                Character.class,
+                Byte.class,
+                Short.class,
+                Integer.class,
+                Long.class,
+                Float.class,
+                Double.class,
+                BigInteger.class,
+                BigDecimal.class,
+                Enum.class,
+                Temporal.class);
+        private static final Set<String> READ_ONLY_METHODS = Set.of("equals",
+                "hashCode",
+                "toString",
+                "compareTo",
+                "contains",
+                "containsKey",
+                "containsValue",
+                "size",
+                "length");
+
+        private final SpreadsheetCell[][] spreadsheetCells;
+        private final Set<SpreadsheetCell> cells = new HashSet<>();
+        private boolean sideEffects;
+
+        private CellDependencies(SpreadsheetCell[][] spreadsheetCells) {
+            this.spreadsheetCells = spreadsheetCells;
+        }
+
+        @Override
+        public void addFieldDependency(IOpenField field, IBoundNode node) {
+            if (field instanceof SpreadsheetCellField) {
+                addCell(((SpreadsheetCellField) field).getCell());
+            } else if (field instanceof SpreadsheetRangeField) {
+                SpreadsheetRangeField range = (SpreadsheetRangeField) field;
+                for (int row = range.getStartRow(); row <= range.getEndRow(); row++) {
+                    for (int column = range.getStartColumn(); column <= range.getEndColumn(); column++) {
+                        addCell(spreadsheetCells[row][column]);
+                    }
+                }
+            }
+        }
+
+        private void addCell(SpreadsheetCell cell) {
+            int row = cell.getRowIndex();
+            int column = cell.getColumnIndex();
+            // Cells of other spreadsheets are calculated by their own calculators
+            if (cell.isMethodCell() && row < spreadsheetCells.length
+                    && column < spreadsheetCells[row].length
+                    && spreadsheetCells[row][column] == cell) {
+                cells.add(cell);
+            }
+        }
+
+        @Override
+        public void addAssign(IBoundNode target, IBoundNode node) {
+            checkAssign(target);
+        }
+
+        @Override
+        public void addMethodDependency(IOpenMethod method, IBoundNode node) {
+            if (node instanceof PrefixNode || node instanceof SuffixNode) {
+                // Increment and decrement operators
+                checkAssign(node.getChildren()[0]);
+            } else if (JavaOpenClass.VOID.equals(method.getType()) || JavaOpenClass.getOpenClass(Void.class)
+                    .equals(method.getType()) || isModifyingJavaMethod(method)) {
+                sideEffects = true;
+            }
+        }
+
+        /**
+         * Methods of objects are considered as modifying the object, except for getters, the common methods which do
+         * not modify objects and the methods of immutable types.
+         */
+        private static boolean isModifyingJavaMethod(IOpenMethod method) {
+            if (!(method instanceof JavaOpenMethod) || ((JavaOpenMethod) method).isStatic()) {
+                return false;
+            }
+            Method javaMethod = ((JavaOpenMethod) method).getJavaMethod();
+            Class<?> declaringClass = javaMethod.getDeclaringClass();
+            String name = javaMethod.getName();
+            return !(IMMUTABLE_TYPES.stream().anyMatch(type -> type.isAssignableFrom(declaringClass))
+                    || javaMethod.getParameterCount() == 0 && (name.startsWith("get") || name.startsWith("is"))
+                    || READ_ONLY_METHODS.contains(name));
+        }
+
+        private void checkAssign(IBoundNode target) {
+            if (!(target instanceof FieldBoundNode) || target.getTargetNode() != null || !(((FieldBoundNode) target)
+                    .getBoundField() instanceof ILocalVar)) {
+                sideEffects = true;
+            }
+        }
+    }
+
     private static class CellSourceCodeModule extends StringSourceCodeModule {
 
         public CellSourceCodeModule(ICell cell, ILogicalTable table) {
@@ -68,6 +68,22 @@ public class SpreadsheetRangeField extends ASpreadsheetField implements NodeDesc
         return array;
     }
 
+    public int getStartColumn() {
+        return sx;
+    }
+
+    public int getStartRow() {
+        return sy;
+    }
+
+    public int getEndColumn() {
+        return ex;
+    }
+
+    public int getEndRow() {
+        return ey;
+    }
+
     @Override
     public String getDescription() {
         return getType().getDisplayName(SHORT) + " " + rangeName;
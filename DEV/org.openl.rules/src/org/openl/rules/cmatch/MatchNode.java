@@ -5,6 +5,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.openl.rules.cmatch.algorithm.Argument;
+import org.openl.rules.cmatch.matcher.IMatchIndex;
 import org.openl.rules.cmatch.matcher.IMatcher;
 
 public class MatchNode {
@@ -24,6 +25,11 @@ public class MatchNode {
      */
     private Object[] checkValues;
 
+    /**
+     * Index of check values
+     */
+    private IMatchIndex matchIndex;
+
     public MatchNode(int rowIndex) {
         children = new LinkedList<>();
         this.rowIndex = rowIndex;
@@ -50,6 +56,10 @@ public class MatchNode {
         return Collections.unmodifiableList(children);
     }
 
+    public IMatchIndex getMatchIndex() {
+        return matchIndex;
+    }
+
     public IMatcher getMatcher() {
         return matcher;
     }
@@ -78,6 +88,10 @@ public class MatchNode {
         this.checkValues = checkValues;
     }
 
+    public void setMatchIndex(IMatchIndex matchIndex) {
+        this.matchIndex = matchIndex;
+    }
+
     public void setMatcher(IMatcher matcher) {
         this.matcher = matcher;
     }
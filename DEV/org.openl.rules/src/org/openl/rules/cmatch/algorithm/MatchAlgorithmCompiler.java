@@ -258,6 +258,7 @@ public class MatchAlgorithmCompiler implements IMatchAlgorithmCompiler {
         }
 
         node.setCheckValues(checkValues);
+        node.setMatchIndex(matcher.buildIndex(checkValues));
     }
 
     /**
@@ -1,10 +1,9 @@
 package org.openl.rules.cmatch.algorithm;
 
-import java.util.List;
+import java.util.BitSet;
 
 import org.openl.rules.cmatch.ColumnMatch;
 import org.openl.rules.cmatch.MatchNode;
-import org.openl.rules.cmatch.matcher.IMatcher;
 import org.openl.vm.IRuntimeEnv;
 import org.openl.vm.Tracer;
 
@@ -23,31 +22,44 @@ public class MatchAlgorithmExecutor implements IMatchAlgorithmExecutor {
             }
 
             // find matching result value from left to right
-            for (int resultIndex = 0; resultIndex < returnValues.length; resultIndex++) {
-                boolean success = true;
-                // check that all children are MATCH at resultIndex element
-                List<MatchNode> children = line.getChildren();
-                for (MatchNode node : children) {
-                    Argument arg = node.getArgument();
-                    Object var = arg.extractValue(target, params, env);
-                    IMatcher matcher = node.getMatcher();
-                    Object checkValue = node.getCheckValues()[resultIndex];
-                    if (!matcher.match(var, checkValue)) {
-                        success = false;
-                        break;
-                    }
+            int resultIndex = findMatchingColumn(line, target, params, env);
+            if (resultIndex >= 0) {
+                Object result = returnValues[resultIndex];
+                for (MatchNode node : line.getChildren()) {
+                    Tracer.put(this, "match", target, node, resultIndex, null);
                 }
+                Tracer.put(this, "result", target, resultIndex, result);
+                return result;
+            }
+        }
+        return NO_MATCH;
+    }
 
-                if (success) {
-                    Object result = returnValues[resultIndex];
-                    for (MatchNode node : line.getChildren()) {
-                        Tracer.put(this, "match", target, node, resultIndex, null);
-                    }
-                    Tracer.put(this, "result", target, resultIndex, result);
-                    return result;
+    /**
+     * Finds the first column where all children are MATCH.
+     *
+     * @return index of the column or -1 if there is no such column
+     */
+    private static int findMatchingColumn(MatchNode line, ColumnMatch target, Object[] params, IRuntimeEnv env) {
+        BitSet columns = null;
+        boolean shared = true;
+        for (MatchNode node : line.getChildren()) {
+            Object var = node.getArgument().extractValue(target, params, env);
+            BitSet found = node.getMatchIndex().find(var);
+            if (columns == null) {
+                columns = found;
+            } else {
+                if (shared) {
+                    // found columns are owned by the index
+                    columns = (BitSet) columns.clone();
+                    shared = false;
                 }
+                columns.and(found);
+            }
+            if (columns.isEmpty()) {
+                return -1;
             }
         }
-        return NO_MATCH;
+        return columns == null ? -1 : columns.nextSetBit(0);
     }
 }
@@ -22,4 +22,23 @@ public class ClassMatchMatcher implements IMatcher {
 
         return checkValue.equals(var);
     }
+
+    @Override
+    public IMatchIndex buildIndex(Object[] checkValues) {
+        if (hasOwnHashCode()) {
+            return new EqualsMatchIndex(checkValues);
+        }
+        return IMatcher.super.buildIndex(checkValues);
+    }
+
+    /**
+     * Hashing is consistent with {@link #match(Object, Object)} only if the class defines hash code for its equality.
+     */
+    private boolean hasOwnHashCode() {
+        try {
+            return clazz.getMethod("hashCode").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 }
@@ -27,4 +27,16 @@ public class ClassMinMaxMatcher<T extends Comparable<? super T>> implements IMat
         int result = Comparator.nullsFirst(Comparator.<T>naturalOrder()).compare((T) var, (T) checkValue);
         return isMaxMode ? (result <= 0) : (result >= 0);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public IMatchIndex buildIndex(Object[] checkValues) {
+        Comparator<?> comparator = Comparator.nullsFirst(Comparator.<T>naturalOrder());
+        try {
+            return new MinMaxMatchIndex((Comparator<Object>) comparator, isMaxMode, checkValues);
+        } catch (ClassCastException e) {
+            // check values are not comparable with each other
+            return IMatcher.super.buildIndex(checkValues);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package org.openl.rules.cmatch.matcher;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds columns by a hash of check values for matchers which compare values using {@link Object#equals(Object)}.
+ * Empty check values never match.
+ */
+final class EqualsMatchIndex implements IMatchIndex {
+    private static final BitSet NONE = new BitSet(0);
+
+    private final Map<Object, BitSet> columns = new HashMap<>();
+
+    EqualsMatchIndex(Object[] checkValues) {
+        for (int i = 0; i < checkValues.length; i++) {
+            if (checkValues[i] != null) {
+                columns.computeIfAbsent(checkValues[i], e -> new BitSet(checkValues.length)).set(i);
+            }
+        }
+    }
+
+    @Override
+    public BitSet find(Object var) {
+        BitSet result = var == null ? null : columns.get(var);
+        return result == null ? NONE : result;
+    }
+}
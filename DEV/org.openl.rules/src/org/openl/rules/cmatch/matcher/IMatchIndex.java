@@ -0,0 +1,17 @@
+package org.openl.rules.cmatch.matcher;
+
+import java.util.BitSet;
+
+/**
+ * Index of check values of a row which finds all matching columns at once instead of matching a value with every
+ * check value one by one.
+ */
+public interface IMatchIndex {
+    /**
+     * Find columns where the actual value matches check values.
+     *
+     * @param var actual value
+     * @return indexes of matching columns. The result can be shared between invocations, so it must not be modified.
+     */
+    BitSet find(Object var);
+}
@@ -19,4 +19,15 @@ public interface IMatcher {
      * @return true if it matches
      */
     boolean match(Object var, Object checkValue);
+
+    /**
+     * Build an index of check values of a row. The index must find the same columns as {@link #match(Object, Object)}
+     * does.
+     *
+     * @param checkValues check values of a row
+     * @return index of check values
+     */
+    default IMatchIndex buildIndex(Object[] checkValues) {
+        return new LinearMatchIndex(this, checkValues);
+    }
 }
@@ -0,0 +1,27 @@
+package org.openl.rules.cmatch.matcher;
+
+import java.util.BitSet;
+
+/**
+ * Checks every check value with the matcher. It is used when check values cannot be indexed.
+ */
+final class LinearMatchIndex implements IMatchIndex {
+    private final IMatcher matcher;
+    private final Object[] checkValues;
+
+    LinearMatchIndex(IMatcher matcher, Object[] checkValues) {
+        this.matcher = matcher;
+        this.checkValues = checkValues;
+    }
+
+    @Override
+    public BitSet find(Object var) {
+        BitSet result = new BitSet(checkValues.length);
+        for (int i = 0; i < checkValues.length; i++) {
+            if (matcher.match(var, checkValues[i])) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package org.openl.rules.cmatch.matcher;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Finds columns by a binary search over sorted thresholds. In the min mode a value matches all thresholds which are
+ * less or equal to it, in the max mode - all thresholds which are greater or equal to it. So matching columns are
+ * precomputed for every position in the sorted thresholds.
+ */
+final class MinMaxMatchIndex implements IMatchIndex {
+    private final Comparator<Object> comparator;
+    private final boolean isMaxMode;
+    private final Object[] thresholds;
+    private final BitSet[] columns;
+
+    MinMaxMatchIndex(Comparator<Object> comparator, boolean isMaxMode, Object[] checkValues) {
+        this.comparator = comparator;
+        this.isMaxMode = isMaxMode;
+
+        int n = checkValues.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> comparator.compare(checkValues[x], checkValues[y]));
+
+        thresholds = new Object[n];
+        columns = new BitSet[n + 1];
+        BitSet current = new BitSet(n);
+        if (isMaxMode) {
+            // columns[i] contains columns of thresholds[i..n-1]
+            columns[n] = (BitSet) current.clone();
+            for (int i = n - 1; i >= 0; i--) {
+                thresholds[i] = checkValues[order[i]];
+                current.set(order[i]);
+                columns[i] = (BitSet) current.clone();
+            }
+        } else {
+            // columns[i] contains columns of thresholds[0..i-1]
+            columns[0] = (BitSet) current.clone();
+            for (int i = 0; i < n; i++) {
+                thresholds[i] = checkValues[order[i]];
+                current.set(order[i]);
+                columns[i + 1] = (BitSet) current.clone();
+            }
+        }
+    }
+
+    @Override
+    public BitSet find(Object var) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int result = comparator.compare(thresholds[mid], var);
+            // min mode: count of thresholds <= var; max mode: count of thresholds < var
+            if (result < 0 || result == 0 && !isMaxMode) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return columns[low];
+    }
+}
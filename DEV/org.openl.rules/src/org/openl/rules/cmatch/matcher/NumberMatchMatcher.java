@@ -1,5 +1,7 @@
 package org.openl.rules.cmatch.matcher;
 
+import java.util.BitSet;
+
 import org.openl.rules.convertor.IString2DataConvertor;
 import org.openl.rules.convertor.String2DataConvertorFactory;
 import org.openl.rules.helpers.INumberRange;
@@ -54,4 +56,31 @@ public class NumberMatchMatcher implements IMatcher {
         }
     }
 
+    @Override
+    public IMatchIndex buildIndex(Object[] checkValues) {
+        Object[] values = new Object[checkValues.length];
+        Object[] ranges = new Object[checkValues.length];
+        boolean hasRanges = false;
+        for (int i = 0; i < checkValues.length; i++) {
+            if (checkValues[i] instanceof INumberRange) {
+                ranges[i] = checkValues[i];
+                hasRanges = true;
+            } else {
+                values[i] = checkValues[i];
+            }
+        }
+
+        IMatchIndex valuesIndex = new EqualsMatchIndex(values);
+        if (!hasRanges) {
+            return valuesIndex;
+        }
+        // ranges can overlap, so they are checked one by one
+        IMatchIndex rangesIndex = new LinearMatchIndex(this, ranges);
+        return var -> {
+            BitSet result = rangesIndex.find(var);
+            result.or(valuesIndex.find(var));
+            return result;
+        };
+    }
+
 }
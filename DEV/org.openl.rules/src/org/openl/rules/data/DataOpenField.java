@@ -2,12 +2,13 @@ package org.openl.rules.data;
 
 import org.openl.binding.impl.module.ModuleOpenClass;
 import org.openl.rules.lang.xls.XlsNodeTypes;
+import org.openl.types.IDataOpenField;
 import org.openl.types.IDynamicObject;
 import org.openl.types.IOpenClass;
 import org.openl.types.impl.AOpenField;
 import org.openl.vm.IRuntimeEnv;
 
-public class DataOpenField extends AOpenField {
+public class DataOpenField extends AOpenField implements IDataOpenField {
 
     private ITable table;
     private Object data;
@@ -38,6 +39,7 @@ public class DataOpenField extends AOpenField {
         return table;
     }
 
+    @Override
     public Object getData() {
         return data;
     }
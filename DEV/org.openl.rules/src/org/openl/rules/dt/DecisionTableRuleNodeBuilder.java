@@ -1,6 +1,7 @@
 package org.openl.rules.dt;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class DecisionTableRuleNodeBuilder {
@@ -36,4 +37,12 @@ public class DecisionTableRuleNodeBuilder {
         }
         return res;
     }
+
+    public BitSet makeRuleSet() {
+        BitSet res = new BitSet();
+        for (int rule : rules) {
+            res.set(rule);
+        }
+        return res;
+    }
 }
@@ -6,18 +6,26 @@ import org.openl.rules.dt.index.IRuleIndex;
 
 public class EqualsIndexDecisionTableRuleNode extends DecisionTableRuleNode implements IDecisionTableRuleNodeV2 {
 
-    private final int[] rules;
+    private final BitSet ruleSet;
     private final IRuleIndex nextIndex;
 
-    public EqualsIndexDecisionTableRuleNode(int[] rules, IRuleIndex nextIndex) {
+    public EqualsIndexDecisionTableRuleNode(BitSet ruleSet, IRuleIndex nextIndex) {
         super(null);
-        this.rules = rules;
+        this.ruleSet = ruleSet;
         this.nextIndex = nextIndex;
     }
 
     @Override
     public int[] getRules() {
-        return rules;
+        int[] result = new int[ruleSet.cardinality()];
+        int i = 0;
+        for (int rule = ruleSet.nextSetBit(0); rule >= 0; rule = ruleSet.nextSetBit(rule + 1)) {
+            result[i++] = rule;
+            if (rule == Integer.MAX_VALUE) {
+                break; // or (i+1) would overflow
+            }
+        }
+        return result;
     }
 
     @Override
@@ -32,10 +40,6 @@ public class EqualsIndexDecisionTableRuleNode extends DecisionTableRuleNode impl
 
     @Override
     public BitSet getRuleSet() {
-        BitSet result = new BitSet();
-        for (int ruleN : rules) {
-            result.set(ruleN);
-        }
-        return result;
+        return ruleSet;
     }
 }
@@ -4,6 +4,9 @@ import java.util.BitSet;
 
 public interface IDecisionTableRuleNodeV2 extends IDecisionTableRuleNode {
 
+    /**
+     * Returns the set of rule numbers. The set can be shared with an index, so it must not be modified.
+     */
     BitSet getRuleSet();
 
 }
@@ -1,9 +1,12 @@
 package org.openl.rules.dt.algorithm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.openl.binding.BindingDependencies;
@@ -213,9 +216,19 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
     private BindingDependencies dependencies;
 
     DecisionTableOptimizedAlgorithm(IConditionEvaluator[] evaluators, DecisionTable table, IndexInfo info) {
+        this(evaluators, table, info, true);
+    }
+
+    /**
+     * @param shareIndexes if {@code false}, every node gets its own index even if other nodes have the same rules
+     */
+    DecisionTableOptimizedAlgorithm(IConditionEvaluator[] evaluators,
+            DecisionTable table,
+            IndexInfo info,
+            boolean shareIndexes) {
         this.evaluators = initEvaluators(evaluators, table, info);
         this.info = info;
-        this.indexRoot = buildIndex(info);
+        this.indexRoot = buildIndex(info, shareIndexes ? new HashMap<>() : null);
         this.dependencies = new RulesBindingDependencies();
         table.updateDependency(dependencies);
     }
@@ -396,7 +409,7 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
         }
     }
 
-    private IRuleIndex buildIndex(IndexInfo info) {
+    private IRuleIndex buildIndex(IndexInfo info, Map<NodeRulesKey, IRuleIndex> sharedIndexes) {
         if (evaluators.length == 0) {
             return null;
         }
@@ -405,11 +418,16 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
             return null;
         }
         IRuleIndex indexRoot = firstPair.makeIndex(info.makeRuleIterator());
-        indexNodes(indexRoot, 1, info);
+        indexNodes(indexRoot, 1, info, sharedIndexes);
         return indexRoot;
     }
 
-    private void indexNodes(IRuleIndex index, int condN, IndexInfo info) {
+    /**
+     * Builds indexes for the nodes of the given index. The nodes with the same rules on the same condition share the same
+     * index, so the tree of indexes is reduced to an acyclic graph without duplicated subtrees. The indexes are not
+     * shared if the map of shared indexes is {@code null}.
+     */
+    private void indexNodes(IRuleIndex index, int condN, IndexInfo info, Map<NodeRulesKey, IRuleIndex> sharedIndexes) {
         if (index == null || condN >= evaluators.length) {
             return;
         }
@@ -420,17 +438,32 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
         }
 
         for (DecisionTableRuleNode node : index.nodes()) {
-            indexNode(node, condN, info);
+            indexNode(node, condN, info, sharedIndexes);
         }
-        indexNode(index.getEmptyOrFormulaNodes(), condN, info);
+        indexNode(index.getEmptyOrFormulaNodes(), condN, info, sharedIndexes);
     }
 
-    private void indexNode(DecisionTableRuleNode node, int condN, IndexInfo info) {
-        ConditionToEvaluatorHolder pair = evaluators[condN];
-        IRuleIndex nodeIndex = pair.makeIndex(node.getRulesIterator());
+    private void indexNode(DecisionTableRuleNode node,
+            int condN,
+            IndexInfo info,
+            Map<NodeRulesKey, IRuleIndex> sharedIndexes) {
+        NodeRulesKey key = sharedIndexes != null ? new NodeRulesKey(condN, node.getRules()) : null;
+        IRuleIndex nodeIndex;
+        if (key != null && sharedIndexes.containsKey(key)) {
+            nodeIndex = sharedIndexes.get(key);
+        } else {
+            ConditionToEvaluatorHolder pair = evaluators[condN];
+            nodeIndex = pair.makeIndex(node.getRulesIterator());
+            if (key != null) {
+                sharedIndexes.put(key, nodeIndex);
+            }
+            indexNodes(nodeIndex, condN + 1, info, sharedIndexes);
+        }
         node.setNextIndex(nodeIndex);
+    }
 
-        indexNodes(nodeIndex, condN + 1, info);
+    IRuleIndex getIndexRoot() {
+        return indexRoot;
     }
 
     private Object evaluateTestValue(ICondition condition, Object target, Object[] dtparams, IRuntimeEnv env) {
@@ -595,4 +628,33 @@ public class DecisionTableOptimizedAlgorithm implements IDecisionTableAlgorithm
             return uniqueKeysSize;
         }
     }
+
+    private static final class NodeRulesKey {
+        private final int condN;
+        private final int[] rules;
+        private final int hashCode;
+
+        NodeRulesKey(int condN, int[] rules) {
+            this.condN = condN;
+            this.rules = rules;
+            this.hashCode = 31 * condN + Arrays.hashCode(rules);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            NodeRulesKey that = (NodeRulesKey) o;
+            return condN == that.condN && Arrays.equals(rules, that.rules);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package org.openl.rules.dt.algorithm.evaluator;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.openl.binding.impl.cast.IOpenCast;
 import org.openl.domain.IIntIterator;
 import org.openl.rules.dt.DecisionTableRuleNode;
 import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
@@ -10,6 +11,7 @@ import org.openl.rules.dt.element.ConditionCasts;
 import org.openl.rules.dt.element.ICondition;
 import org.openl.rules.dt.index.CombinedRangeIndex;
 import org.openl.rules.dt.index.IRuleIndex;
+import org.openl.rules.dt.index.IntervalRangeIndex;
 import org.openl.rules.dt.index.RangeAscIndex;
 import org.openl.rules.dt.index.RangeDescIndex;
 import org.openl.rules.dt.type.IRangeAdaptor;
@@ -45,10 +47,11 @@ public class CombinedRangeIndexEvaluator extends ARangeIndexEvaluator {
                 indexNodeAdaptor,
                 emptyRulesBuilder.makeNode().getRules());
 
-        return new CombinedRangeIndex(minIndex,
-                maxIndex,
-                nextNode,
-                nparams == 2 ? conditionCasts.getCastToConditionType() : null);
+        IOpenCast castToConditionType = nparams == 2 ? conditionCasts.getCastToConditionType() : null;
+        if (IntervalRangeIndex.isSuitable(minIndex, maxIndex)) {
+            return new IntervalRangeIndex(minIndex, maxIndex, nextNode, castToConditionType);
+        }
+        return new CombinedRangeIndex(minIndex, maxIndex, nextNode, castToConditionType);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,209 @@
+package org.openl.rules.dt.index;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+import org.openl.rules.helpers.NumberUtils;
+
+/**
+ * Read-only map from condition values to rule sets used by {@link EqualsIndexV2}. Specialized implementations are used
+ * for the most common key types to avoid hashing and comparing of boxed values on lookup:
+ * <ul>
+ * <li>integral numbers of the same type - open addressing table with primitive keys,</li>
+ * <li>constants of the same enum - array indexed by ordinal,</li>
+ * <li>floating point numbers - sorted array of primitive values with binary search.</li>
+ * </ul>
+ * Other keys are looked up in the original map.
+ */
+abstract class EqualsIndexMap {
+
+    /**
+     * @return the rules for the key or null if the key is absent
+     */
+    abstract BitSet get(Object key);
+
+    abstract Collection<BitSet> values();
+
+    static EqualsIndexMap of(Map<Object, BitSet> map) {
+        if (map instanceof SortedMap) {
+            SortedMap<Object, BitSet> sortedMap = (SortedMap<Object, BitSet>) map;
+            if (!map.isEmpty() && sortedMap.comparator() == FloatTypeComparator.getInstance()) {
+                return DoubleKeys.create(sortedMap);
+            }
+            return new ObjectKeys(map);
+        }
+        if (map.isEmpty() || map.containsKey(null)) {
+            return new ObjectKeys(map);
+        }
+        Class<?> keyType = map.keySet().iterator().next().getClass();
+        if (keyType == Integer.class || keyType == Long.class || keyType == Short.class || keyType == Byte.class) {
+            if (map.keySet().stream().allMatch(key -> key.getClass() == keyType)) {
+                return new IntegralKeys(map, keyType);
+            }
+        } else if (Enum.class.isAssignableFrom(keyType)) {
+            Class<?> enumType = ((Enum<?>) map.keySet().iterator().next()).getDeclaringClass();
+            if (map.keySet()
+                    .stream()
+                    .allMatch(key -> key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == enumType)) {
+                return new EnumKeys(map, enumType);
+            }
+        }
+        return new ObjectKeys(map);
+    }
+
+    private static final class ObjectKeys extends EqualsIndexMap {
+        private final Map<Object, BitSet> map;
+
+        ObjectKeys(Map<Object, BitSet> map) {
+            this.map = map;
+        }
+
+        @Override
+        BitSet get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        Collection<BitSet> values() {
+            return map.values();
+        }
+    }
+
+    private static final class IntegralKeys extends EqualsIndexMap {
+        private final Class<?> keyType;
+        private final long[] keys;
+        private final BitSet[] rules;
+        private final int mask;
+        private final Collection<BitSet> values;
+
+        IntegralKeys(Map<Object, BitSet> map, Class<?> keyType) {
+            this.keyType = keyType;
+            // load factor is not more than 0.5
+            int capacity = Integer.highestOneBit(Math.max(map.size(), 1) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.rules = new BitSet[capacity];
+            this.mask = capacity - 1;
+            for (Map.Entry<Object, BitSet> entry : map.entrySet()) {
+                long key = ((Number) entry.getKey()).longValue();
+                int i = slot(key);
+                while (rules[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                rules[i] = entry.getValue();
+            }
+            this.values = map.values();
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        @Override
+        BitSet get(Object key) {
+            if (key == null || key.getClass() != keyType) {
+                return null;
+            }
+            long k = ((Number) key).longValue();
+            for (int i = slot(k); rules[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == k) {
+                    return rules[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Collection<BitSet> values() {
+            return values;
+        }
+    }
+
+    private static final class EnumKeys extends EqualsIndexMap {
+        private final Class<?> enumType;
+        private final BitSet[] rules;
+        private final Collection<BitSet> values;
+
+        EnumKeys(Map<Object, BitSet> map, Class<?> enumType) {
+            this.enumType = enumType;
+            this.rules = new BitSet[enumType.getEnumConstants().length];
+            for (Map.Entry<Object, BitSet> entry : map.entrySet()) {
+                rules[((Enum<?>) entry.getKey()).ordinal()] = entry.getValue();
+            }
+            this.values = map.values();
+        }
+
+        @Override
+        BitSet get(Object key) {
+            if (key instanceof Enum && ((Enum<?>) key).getDeclaringClass() == enumType) {
+                return rules[((Enum<?>) key).ordinal()];
+            }
+            return null;
+        }
+
+        @Override
+        Collection<BitSet> values() {
+            return values;
+        }
+    }
+
+    private static final class DoubleKeys extends EqualsIndexMap {
+        private final double[] keys;
+        private final BitSet[] rules;
+        private final Collection<BitSet> values;
+
+        private DoubleKeys(double[] keys, BitSet[] rules, Collection<BitSet> values) {
+            this.keys = keys;
+            this.rules = rules;
+            this.values = values;
+        }
+
+        static EqualsIndexMap create(SortedMap<Object, BitSet> map) {
+            double[] keys = new double[map.size()];
+            BitSet[] rules = new BitSet[map.size()];
+            int i = 0;
+            for (Map.Entry<Object, BitSet> entry : map.entrySet()) {
+                Double key = NumberUtils.convertToDouble(entry.getKey());
+                if (key == null) {
+                    return new ObjectKeys(map);
+                }
+                keys[i] = key;
+                rules[i++] = entry.getValue();
+            }
+            return new DoubleKeys(keys, rules, map.values());
+        }
+
+        @Override
+        BitSet get(Object key) {
+            Double value = NumberUtils.convertToDouble(key);
+            if (value == null) {
+                return null;
+            }
+            double d = value;
+            // the same comparison as the map sorted by FloatTypeComparator uses
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = FloatTypeComparator.compare(d, keys[mid]);
+                if (cmp > 0) {
+                    low = mid + 1;
+                } else if (cmp < 0) {
+                    high = mid - 1;
+                } else {
+                    return rules[mid];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Collection<BitSet> values() {
+            return values;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package org.openl.rules.dt.index;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,34 +23,32 @@ import org.openl.rules.helpers.NumberUtils;
  */
 public class EqualsIndexV2 implements IRuleIndex {
 
-    static final int[] EMPTY_ARRAY = new int[0];
+    private static final BitSet EMPTY_RULE_SET = new BitSet();
 
     private final DecisionTableRuleNode emptyNodeStub = new DecisionTableRuleNodeBuilder().makeNode();
 
-    private final Map<Object, int[]> index;
-    private final int[] emptyRules;
+    private final EqualsIndexMap index;
+    private final BitSet emptyRules;
     private final DecisionTableRuleNode nextNode;
-    private final int rulesTotalSize;
     private final ConditionCasts conditionCasts;
 
     public EqualsIndexV2(DecisionTableRuleNode nextNode,
-                         Map<Object, int[]> index,
-                         int[] emptyRules,
+                         Map<Object, BitSet> index,
+                         BitSet emptyRules,
                          ConditionCasts conditionCasts) {
-        this.index = Collections.unmodifiableMap(index);
+        this.index = EqualsIndexMap.of(index);
         this.emptyRules = emptyRules;
         this.nextNode = nextNode;
-        this.rulesTotalSize = nextNode.getRules().length;
         this.conditionCasts = Objects.requireNonNull(conditionCasts, "conditionCasts cannot be null");
     }
 
-    private int[] findIndex(Object value) {
-        int[] result = null;
+    private BitSet findIndex(Object value) {
+        BitSet result = null;
         if (value != null) {
             value = conditionCasts.castToConditionType(value);
             result = index.get(value);
         }
-        return result == null ? EMPTY_ARRAY : result;
+        return result == null ? EMPTY_RULE_SET : result;
     }
 
     @Override
@@ -58,23 +56,35 @@ public class EqualsIndexV2 implements IRuleIndex {
         return new EqualsIndexDecisionTableRuleNode(findRules(value, prevResult), nextNode.getNextIndex());
     }
 
-    private int[] findRules(Object value, DecisionTableRuleNode prevResult) {
+    /**
+     * Finds rules for the value. The rule sets of the index are shared between lookups, so a new set is created only
+     * if they are combined or intersected with the previous result.
+     */
+    private BitSet findRules(Object value, DecisionTableRuleNode prevResult) {
+        BitSet rules = findIndex(value);
         if (!(prevResult instanceof IDecisionTableRuleNodeV2)) {
-            int[] rules = findIndex(value);
-            rules = combineSortedArrays(rules, emptyRules);
-            return rules;
+            return union(rules, emptyRules);
         }
-        return getResultAndIntersect(value, (IDecisionTableRuleNodeV2) prevResult);
+        BitSet prevRes = ((IDecisionTableRuleNodeV2) prevResult).getRuleSet();
+        if (prevRes.isEmpty()) {
+            return prevRes;
+        }
+        BitSet result = (BitSet) rules.clone();
+        result.or(emptyRules);
+        result.and(prevRes);
+        return result;
     }
 
-    private int[] getResultAndIntersect(Object value, IDecisionTableRuleNodeV2 prevResult) {
-        int[] prevRes = prevResult.getRules();
-        if (prevRes.length == 0) {
-            return EMPTY_ARRAY;
+    private static BitSet union(BitSet a, BitSet b) {
+        if (a.isEmpty()) {
+            return b;
+        }
+        if (b.isEmpty()) {
+            return a;
         }
-        int[] rules = findIndex(value);
-        rules = combineSortedArrays(rules, emptyRules);
-        return intersectionSortedArrays(rules, prevRes);
+        BitSet result = (BitSet) a.clone();
+        result.or(b);
+        return result;
     }
 
     @Override
@@ -84,18 +94,16 @@ public class EqualsIndexV2 implements IRuleIndex {
 
     @Override
     public int[] collectRules() {
-        int[] result = new int[rulesTotalSize];
-        int k = 0;
-        for (int[] arr : index.values()) {
-            for (int ruleN : arr) {
-                result[k++] = ruleN;
-            }
+        BitSet result = (BitSet) emptyRules.clone();
+        for (BitSet rules : index.values()) {
+            result.or(rules);
         }
-        for (int ruleN : emptyRules) {
-            result[k++] = ruleN;
+        int[] rules = new int[result.cardinality()];
+        int i = 0;
+        for (int rule = result.nextSetBit(0); rule >= 0; rule = result.nextSetBit(rule + 1)) {
+            rules[i++] = rule;
         }
-        Arrays.sort(result);
-        return result;
+        return rules;
     }
 
     @Override
@@ -103,68 +111,12 @@ public class EqualsIndexV2 implements IRuleIndex {
         return emptyNodeStub;
     }
 
-    /**
-     * Combine two sorted arrays into one. Time Complexity: O(a.length + b.length)
-     *
-     * @param a first array.
-     * @param b second array.
-     * @return a new array instance. If first argument is empty, it returns second argument. If second is empty - first.
-     */
-    private static int[] combineSortedArrays(int[] a, int[] b) {
-        if (a.length == 0) {
-            return b;
-        }
-        if (b.length == 0) {
-            return a;
-        }
-        int[] result = new int[a.length + b.length];
-        int i = 0, j = 0, k = 0;
-        while (i < a.length && j < b.length) {
-            result[k++] = a[i] < b[j] ? a[i++] : b[j++];
-        }
-        while (i < a.length) {
-            result[k++] = a[i++];
-        }
-        while (j < b.length) {
-            result[k++] = b[j++];
-        }
-        return result;
-    }
-
-    /**
-     * Find an intersection between two sorted arrays. Time Complexity: O(a.length + b.length)
-     *
-     * @param a first array
-     * @param b second array
-     * @return a new array which contains common elements
-     */
-    private static int[] intersectionSortedArrays(int[] a, int[] b) {
-        int[] result = new int[Math.min(a.length, b.length)];
-        int i = 0, j = 0, k = 0;
-        while (i < a.length && j < b.length) {
-            if (a[i] < b[j]) {
-                i++;
-            } else if (b[j] < a[i]) {
-                j++;
-            } else {
-                result[k++] = b[j++];
-                i++;
-            }
-        }
-        if (result.length != k) {
-            int[] res = new int[k];
-            System.arraycopy(result, 0, res, 0, k);
-            return res;
-        }
-        return result;
-    }
-
     public static class Builder {
         private final DecisionTableRuleNodeBuilder nextNodeBuilder = new DecisionTableRuleNodeBuilder();
         private final DecisionTableRuleNodeBuilder emptyBuilder = new DecisionTableRuleNodeBuilder();
 
         private Map<Object, DecisionTableRuleNodeBuilder> map = null;
-        private Map<Object, int[]> result = null;
+        private Map<Object, BitSet> result = null;
         private boolean comparatorBasedMap = false;
 
         private ConditionCasts conditionCasts;
@@ -211,11 +163,11 @@ public class EqualsIndexV2 implements IRuleIndex {
                 result = Collections.emptyMap();
             } else {
                 for (Map.Entry<Object, DecisionTableRuleNodeBuilder> element : map.entrySet()) {
-                    result.put(element.getKey(), element.getValue().makeRulesAry());
+                    result.put(element.getKey(), element.getValue().makeRuleSet());
                 }
             }
 
-            return new EqualsIndexV2(nextNodeBuilder.makeNode(), result, emptyBuilder.makeRulesAry(), conditionCasts);
+            return new EqualsIndexV2(nextNodeBuilder.makeNode(), result, emptyBuilder.makeRuleSet(), conditionCasts);
         }
     }
 
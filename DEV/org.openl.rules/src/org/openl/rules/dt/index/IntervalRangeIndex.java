@@ -0,0 +1,148 @@
+package org.openl.rules.dt.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.openl.binding.impl.cast.IOpenCast;
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.IDecisionTableRuleNodeV2;
+import org.openl.rules.dt.RangeIndexDecisionTableRuleNode;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.IndexNode;
+import org.openl.rules.dt.type.IRangeAdaptor;
+
+/**
+ * Range index with precomputed rules for every elementary interval. All bounds of the ranges split the domain into
+ * points and intervals between them, and every value inside such an interval matches the same rules. So a lookup is a
+ * binary search of the value in the bounds without collecting of rules.
+ * <p>
+ * The index needs memory proportional to the number of bounds multiplied by the number of rules, so it is used only
+ * for the tables where it is small enough, see {@link #isSuitable(RangeAscIndex, RangeDescIndex)}.
+ */
+public class IntervalRangeIndex implements IRuleIndex {
+
+    /**
+     * Max memory for the rule sets of a single index in 64-bit words.
+     */
+    private static final long MAX_INDEX_WORDS = 1L << 17;
+
+    private final DecisionTableRuleNode emptyNodeStub = new DecisionTableRuleNodeBuilder().makeNode();
+    private final DecisionTableRuleNode nextNode;
+    private final RangeAscIndex minIndex;
+    private final IRangeAdaptor<IndexNode, ?> adaptor;
+    private final IOpenCast castToConditionType;
+
+    private final List<IndexNode> bounds;
+    /**
+     * Even elements are the rules for the intervals between the bounds, odd ones are the rules for the bounds itself.
+     */
+    private final BitSet[] intervals;
+    private final BitSet nullValueRules;
+
+    public IntervalRangeIndex(RangeAscIndex minIndex,
+                              RangeDescIndex maxIndex,
+                              DecisionTableRuleNode nextNode,
+                              IOpenCast expressionToParamOpenCast) {
+        this.nextNode = nextNode;
+        this.minIndex = minIndex;
+        this.adaptor = minIndex.getAdaptor();
+        this.castToConditionType = expressionToParamOpenCast;
+        this.bounds = mergeBounds(minIndex.index, maxIndex.index);
+        this.intervals = new BitSet[bounds.size() * 2 + 1];
+        for (int i = 0; i < intervals.length; i++) {
+            intervals[i] = intersect(minIndex.findRulesBySearchResult(searchResult(minIndex.index, i)),
+                    maxIndex.findRulesBySearchResult(searchResult(maxIndex.index, i)));
+        }
+        this.nullValueRules = intersect(minIndex.findRules(null, null), maxIndex.findRules(null, null));
+    }
+
+    /**
+     * Checks that the memory needed for the index is acceptable.
+     */
+    public static boolean isSuitable(RangeAscIndex minIndex, RangeDescIndex maxIndex) {
+        long intervals = 2L * (minIndex.index.size() + maxIndex.index.size()) + 1;
+        int[] rules = minIndex.collectRules();
+        long words = rules.length == 0 ? 1 : rules[rules.length - 1] / 64 + 1;
+        return intervals * words <= MAX_INDEX_WORDS;
+    }
+
+    private static List<IndexNode> mergeBounds(List<IndexNode> a, List<IndexNode> b) {
+        List<IndexNode> result = new ArrayList<>(a.size() + b.size());
+        int i = 0, j = 0;
+        while (i < a.size() || j < b.size()) {
+            IndexNode next;
+            if (j == b.size() || i < a.size() && a.get(i).compareTo(b.get(j)) <= 0) {
+                next = a.get(i++);
+            } else {
+                next = b.get(j++);
+            }
+            if (result.isEmpty() || result.get(result.size() - 1).compareTo(next) != 0) {
+                result.add(next);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Emulates the binary search in the index for a value from the given interval.
+     */
+    private int searchResult(List<IndexNode> index, int interval) {
+        int k = interval / 2;
+        if (interval % 2 == 1) {
+            return Collections.binarySearch(index, bounds.get(k));
+        }
+        // a value between the bounds k-1 and k is not in the index, so the result is its insertion point
+        int insertionPoint = index.size();
+        if (k < bounds.size()) {
+            int idx = Collections.binarySearch(index, bounds.get(k));
+            insertionPoint = idx >= 0 ? idx : -(idx + 1);
+        }
+        return -(insertionPoint + 1);
+    }
+
+    private static BitSet intersect(BitSet a, BitSet b) {
+        BitSet result = (BitSet) a.clone();
+        result.and(b);
+        return result;
+    }
+
+    private BitSet findRules(Object value) {
+        if (value == null || bounds.isEmpty()) {
+            return nullValueRules;
+        }
+        IndexNode key = (IndexNode) adaptor.adaptValueType(value);
+        int idx = Collections.binarySearch(bounds, key);
+        return intervals[idx >= 0 ? 2 * idx + 1 : -2 * (idx + 1)];
+    }
+
+    @Override
+    public DecisionTableRuleNode findNode(Object value, DecisionTableRuleNode prevResult) {
+        if (castToConditionType != null && castToConditionType.isImplicit()) {
+            value = castToConditionType.convert(value);
+        }
+        BitSet rules = findRules(value);
+        if (prevResult instanceof IDecisionTableRuleNodeV2) {
+            BitSet prevRes = ((IDecisionTableRuleNodeV2) prevResult).getRuleSet();
+            rules = prevRes.isEmpty() ? prevRes : intersect(rules, prevRes);
+        }
+        return new RangeIndexDecisionTableRuleNode(rules, nextNode.getNextIndex());
+    }
+
+    @Override
+    public DecisionTableRuleNode getEmptyOrFormulaNodes() {
+        return emptyNodeStub;
+    }
+
+    @Override
+    public Iterable<? extends DecisionTableRuleNode> nodes() {
+        return Collections.singletonList(nextNode);
+    }
+
+    @Override
+    public int[] collectRules() {
+        // we assume that both indexes have the same list of rules and no need to merge them
+        return minIndex.collectRules();
+    }
+}
@@ -14,24 +14,72 @@ import org.openl.rules.dt.RangeIndexDecisionTableRuleNode;
 import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.IndexNode;
 import org.openl.rules.dt.type.IRangeAdaptor;
 
+/**
+ * Index for the ranges bounded from one side. The rules of the matched index nodes are combined from the precomputed
+ * unions of every {@value #CHECKPOINT_STEP} nodes and the rest of the nodes, so a lookup costs a few word-wise
+ * operations over the rule sets instead of touching every rule of the matched nodes.
+ */
 public class RangeAscIndex implements IRuleIndex {
 
+    private static final int CHECKPOINT_STEP = 64;
+
     protected final List<IndexNode> index;
     private final DecisionTableRuleNode emptyNodeStub = new DecisionTableRuleNodeBuilder().makeNode();
     private final DecisionTableRuleNode nextNode;
     private final IRangeAdaptor<IndexNode, ?> adaptor;
     private final int[] emptyRules;
+    private final BitSet emptyRuleSet;
     private final int rulesTotalSize;
+    private final boolean fromEnd;
+    private final BitSet[] checkpoints;
 
     public RangeAscIndex(DecisionTableRuleNode nextNode,
                          List<IndexNode> index,
                          IRangeAdaptor<IndexNode, ?> adaptor,
                          int[] emptyRules) {
+        this(nextNode, index, adaptor, emptyRules, false);
+    }
+
+    /**
+     * @param fromEnd true if the matched nodes are always at the end of the index, false if they are at the beginning
+     */
+    protected RangeAscIndex(DecisionTableRuleNode nextNode,
+                            List<IndexNode> index,
+                            IRangeAdaptor<IndexNode, ?> adaptor,
+                            int[] emptyRules,
+                            boolean fromEnd) {
         this.index = Collections.unmodifiableList(index);
         this.adaptor = adaptor;
         this.nextNode = nextNode;
         this.emptyRules = emptyRules;
         this.rulesTotalSize = nextNode.getRules().length;
+        this.fromEnd = fromEnd;
+        this.emptyRuleSet = new BitSet();
+        for (int ruleN : emptyRules) {
+            emptyRuleSet.set(ruleN);
+        }
+        this.checkpoints = buildCheckpoints();
+    }
+
+    /**
+     * Checkpoint {@code j} contains the rules without values and the rules of the nodes {@code [0, j * step)}, or the
+     * nodes {@code [size - j * step, size)} if the matched nodes are at the end of the index.
+     */
+    private BitSet[] buildCheckpoints() {
+        int size = index.size();
+        BitSet[] result = new BitSet[size / CHECKPOINT_STEP + 1];
+        BitSet bits = (BitSet) emptyRuleSet.clone();
+        result[0] = (BitSet) bits.clone();
+        for (int i = 0; i < size; i++) {
+            IndexNode node = index.get(fromEnd ? size - 1 - i : i);
+            for (int ruleN : node.getRules()) {
+                bits.set(ruleN);
+            }
+            if ((i + 1) % CHECKPOINT_STEP == 0) {
+                result[(i + 1) / CHECKPOINT_STEP] = (BitSet) bits.clone();
+            }
+        }
+        return result;
     }
 
     private Pair<Integer, Integer> findIndexRange(Object value) {
@@ -63,6 +111,17 @@ public class RangeAscIndex implements IRuleIndex {
         return new RangeIndexDecisionTableRuleNode(findRules(value, prevResult), nextNode.getNextIndex());
     }
 
+    IRangeAdaptor<IndexNode, ?> getAdaptor() {
+        return adaptor;
+    }
+
+    /**
+     * Collects the rules matched to a value by the result of a binary search of the value in the index.
+     */
+    BitSet findRulesBySearchResult(int idx) {
+        return index.isEmpty() ? emptyRuleSet : collectAllRules(retrieveIndexRange(idx));
+    }
+
     BitSet findRules(Object value, DecisionTableRuleNode prevResult) {
         if (!(prevResult instanceof IDecisionTableRuleNodeV2)) {
             Pair<Integer, Integer> range = findIndexRange(value);
@@ -71,16 +130,35 @@ public class RangeAscIndex implements IRuleIndex {
         return getResultAndIntersect(value, (IDecisionTableRuleNodeV2) prevResult);
     }
 
+    /**
+     * Collects the rules of the range. The returned set can be shared with the index.
+     */
     private BitSet collectAllRules(Pair<Integer, Integer> range) {
-        BitSet bits = new BitSet();
-        for (int ruleN : emptyRules) {
-            bits.set(ruleN);
+        return collectAllRules(range, false);
+    }
+
+    /**
+     * Collects the rules of the range.
+     *
+     * @param copy if {@code true} then the returned set is a new one and can be modified, otherwise it can be shared
+     *            with the index
+     */
+    private BitSet collectAllRules(Pair<Integer, Integer> range, boolean copy) {
+        if (range == null) {
+            return copy ? (BitSet) emptyRuleSet.clone() : emptyRuleSet;
         }
-        if (range != null) {
-            for (int i = range.getLeft(); i < range.getRight(); i++) {
-                for (int ruleN : index.get(i).getRules()) {
-                    bits.set(ruleN);
-                }
+        // the number of matched nodes counting from the start or from the end of the index
+        int count = fromEnd ? index.size() - range.getLeft() : range.getRight();
+        int checkpoint = count / CHECKPOINT_STEP;
+        BitSet bits = checkpoints[checkpoint];
+        if (checkpoint * CHECKPOINT_STEP == count) {
+            return copy ? (BitSet) bits.clone() : bits;
+        }
+        bits = (BitSet) bits.clone();
+        for (int i = checkpoint * CHECKPOINT_STEP; i < count; i++) {
+            IndexNode node = index.get(fromEnd ? index.size() - 1 - i : i);
+            for (int ruleN : node.getRules()) {
+                bits.set(ruleN);
             }
         }
         return bits;
@@ -91,22 +169,8 @@ public class RangeAscIndex implements IRuleIndex {
         if (prevRes.isEmpty()) {
             return prevRes;
         }
-        Pair<Integer, Integer> range = findIndexRange(value);
-        BitSet result = new BitSet();
-        for (int ruleN : emptyRules) {
-            if (prevRes.get(ruleN)) {
-                result.set(ruleN);
-            }
-        }
-        if (range != null) {
-            for (int i = range.getLeft(); i < range.getRight(); i++) {
-                for (int ruleN : index.get(i).getRules()) {
-                    if (prevRes.get(ruleN)) {
-                        result.set(ruleN);
-                    }
-                }
-            }
-        }
+        BitSet result = collectAllRules(findIndexRange(value), true);
+        result.and(prevRes);
         return result;
     }
 
@@ -7,6 +7,7 @@ import org.openl.binding.BindingDependencies;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
 import org.openl.rules.calc.Spreadsheet;
 import org.openl.rules.calc.SpreadsheetBoundNode;
+import org.openl.rules.calc.SpreadsheetDependencyGraph;
 import org.openl.rules.calc.SpreadsheetInvoker;
 import org.openl.rules.calc.SpreadsheetOpenClass;
 import org.openl.rules.calc.element.SpreadsheetCell;
@@ -64,6 +65,16 @@ public class AbstractSpreadsheetWrapper extends Spreadsheet {
         return delegate.getDependencies();
     }
 
+    @Override
+    public SpreadsheetDependencyGraph getDependencyGraph() {
+        return delegate.getDependencyGraph();
+    }
+
+    @Override
+    public void setDependencyGraph(SpreadsheetDependencyGraph dependencyGraph) {
+        delegate.setDependencyGraph(dependencyGraph);
+    }
+
     @Override
     public IResultBuilder getResultBuilder() {
         return delegate.getResultBuilder();
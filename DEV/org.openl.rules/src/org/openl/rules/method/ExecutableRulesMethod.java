@@ -129,6 +129,11 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
                         simpleRulesRuntimeEnv.getArgumentCachingStorage().putToCache(this, params, result);
                     }
                 }
+            } else if (oldIsIgnoreRecalculate && simpleRulesRuntimeEnv.getMemoizationCache() != null
+                    && simpleRulesRuntimeEnv.getResultFields() == null
+                    && isMethodCacheable()) {
+                result = simpleRulesRuntimeEnv.getMemoizationCache()
+                        .invoke(this, env.getContext(), params, () -> innerInvoke(target, params, env));
             } else {
                 result = innerInvoke(target, params, env);
             }
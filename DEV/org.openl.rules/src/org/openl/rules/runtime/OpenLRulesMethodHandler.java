@@ -3,17 +3,26 @@ package org.openl.rules.runtime;
 import java.lang.reflect.Method;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.openl.rules.context.IRulesRuntimeContext;
 import org.openl.rules.context.IRulesRuntimeContextProvider;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.vm.MemoizationCache;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.runtime.IEngineWrapper;
 import org.openl.runtime.IRuntimeEnvBuilder;
 import org.openl.runtime.OpenLMethodHandler;
 import org.openl.types.IOpenMember;
 import org.openl.types.IOpenMethod;
+import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
 
 public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRulesRuntimeContextProvider {
 
+    private static final Logger LOG = LoggerFactory.getLogger(OpenLRulesMethodHandler.class);
+
     private final ValidationHandler validationHandler = new ValidationHandler();
 
     @Override
@@ -68,7 +77,7 @@ public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRule
                     validationHandler
                             .validateProxyArguments(((IOpenMethod) targetMethod).getSignature(), getRuntimeEnv(), args);
                 }
-                result = super.invoke(method, args);
+                result = invokeInRequestScope(method, args);
             } catch (Exception e) {
                 exception = e;
             }
@@ -88,4 +97,32 @@ public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRule
         }
         return super.invoke(method, args);
     }
+
+    /**
+     * Results of the cacheable rules are shared between all calls made during the invocation of the method. The
+     * cache is created on the top level call only and is dropped when it is finished.
+     */
+    private Object invokeInRequestScope(Method method, Object[] args) throws Exception {
+        IRuntimeEnv env = getRuntimeEnv();
+        if (!(env instanceof SimpleRulesRuntimeEnv) || Tracer.isEnabled()) {
+            return super.invoke(method, args);
+        }
+        SimpleRulesRuntimeEnv simpleRulesRuntimeEnv = (SimpleRulesRuntimeEnv) env;
+        if (simpleRulesRuntimeEnv.getMemoizationCache() != null) {
+            return super.invoke(method, args);
+        }
+        MemoizationCache memoizationCache = new MemoizationCache();
+        simpleRulesRuntimeEnv.setMemoizationCache(memoizationCache);
+        try {
+            return super.invoke(method, args);
+        } finally {
+            simpleRulesRuntimeEnv.setMemoizationCache(null);
+            if (LOG.isDebugEnabled() && memoizationCache.size() > 0) {
+                LOG.debug("Memoized results of method '{}': {} hits, {} misses.",
+                        method.getName(),
+                        memoizationCache.getHits(),
+                        memoizationCache.getMisses());
+            }
+        }
+    }
 }
@@ -293,6 +293,10 @@ public interface ITableProperties {
 
     void setParallel(java.lang.Boolean parallel);
 
+    java.lang.Boolean getParallelCells();
+
+    void setParallelCells(java.lang.Boolean parallelCells);
+
     java.lang.String getNature();
 
     void setNature(java.lang.String nature);
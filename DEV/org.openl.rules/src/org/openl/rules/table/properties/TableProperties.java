@@ -516,6 +516,17 @@ public class TableProperties implements ITableProperties {
         reset();
     }
 
+    @Override
+    public java.lang.Boolean getParallelCells() {
+        return (java.lang.Boolean) getPropertyValue("parallelCells");
+    }
+
+    @Override
+    public void setParallelCells(java.lang.Boolean parallelCells) {
+        setFieldValue("parallelCells", parallelCells);
+        reset();
+    }
+
     @Override
     public java.lang.String getNature() {
         return (java.lang.String) getPropertyValue("nature");
@@ -20,7 +20,7 @@ public final class DefaultPropertyDefinitions {
 
     static {
         // <<< INSERT TablePropertiesDefinition >>>
-        definitions = new TablePropertyDefinition[41];
+        definitions = new TablePropertyDefinition[42];
 
         definitions[0] = new TablePropertyDefinition();
         definitions[0].setConstraints(new Constraints("unique in:module"));
@@ -585,19 +585,33 @@ public final class DefaultPropertyDefinitions {
         definitions[39].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.Boolean.class));
 
         definitions[40] = new TablePropertyDefinition();
-        definitions[40].setConstraints(new Constraints("list: Defined by method getNature()"));
-        definitions[40].setDescription("Nature (type) for which this table works and should be used");
-        definitions[40].setDimensional(true);
-        definitions[40].setDisplayName("Nature");
-        definitions[40].setExpression(new MatchingExpression("eq(nature)"));
-        definitions[40].setGroup("Business Dimension");
-        definitions[40].setInheritanceLevel(new InheritanceLevel[]{InheritanceLevel.MODULE, InheritanceLevel.CATEGORY, InheritanceLevel.TABLE});
-        definitions[40].setName("nature");
+        definitions[40].setDefaultValue("false");
+        definitions[40].setDescription("Calculates independent cells of the Spreadsheet in parallel. Cells and the rules and methods they call must not change the state shared with other cells. By default = false.");
+        definitions[40].setDimensional(false);
+        definitions[40].setDisplayName("Concurrent Cells Calculation");
+        definitions[40].setGroup("Dev");
+        definitions[40].setInheritanceLevel(new InheritanceLevel[]{InheritanceLevel.TABLE});
+        definitions[40].setName("parallelCells");
         definitions[40].setPrimaryKey(false);
-        definitions[40].setSecurityFilter("yes (coma separated filter specification by user role: category/role pairs)");
+        definitions[40].setSecurityFilter("no");
         definitions[40].setSystem(false);
-        definitions[40].setTableType(new XlsNodeTypes[]{XlsNodeTypes.XLS_DT, XlsNodeTypes.XLS_SPREADSHEET, XlsNodeTypes.XLS_TBASIC, XlsNodeTypes.XLS_COLUMN_MATCH, XlsNodeTypes.XLS_METHOD, XlsNodeTypes.XLS_PROPERTIES});
-        definitions[40].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.String.class));
+        definitions[40].setTableType(new XlsNodeTypes[]{XlsNodeTypes.XLS_SPREADSHEET});
+        definitions[40].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.Boolean.class));
+
+        definitions[41] = new TablePropertyDefinition();
+        definitions[41].setConstraints(new Constraints("list: Defined by method getNature()"));
+        definitions[41].setDescription("Nature (type) for which this table works and should be used");
+        definitions[41].setDimensional(true);
+        definitions[41].setDisplayName("Nature");
+        definitions[41].setExpression(new MatchingExpression("eq(nature)"));
+        definitions[41].setGroup("Business Dimension");
+        definitions[41].setInheritanceLevel(new InheritanceLevel[]{InheritanceLevel.MODULE, InheritanceLevel.CATEGORY, InheritanceLevel.TABLE});
+        definitions[41].setName("nature");
+        definitions[41].setPrimaryKey(false);
+        definitions[41].setSecurityFilter("yes (coma separated filter specification by user role: category/role pairs)");
+        definitions[41].setSystem(false);
+        definitions[41].setTableType(new XlsNodeTypes[]{XlsNodeTypes.XLS_DT, XlsNodeTypes.XLS_SPREADSHEET, XlsNodeTypes.XLS_TBASIC, XlsNodeTypes.XLS_COLUMN_MATCH, XlsNodeTypes.XLS_METHOD, XlsNodeTypes.XLS_PROPERTIES});
+        definitions[41].setType(org.openl.types.java.JavaOpenClass.getOpenClass(java.lang.String.class));
         // <<< END INSERT TablePropertiesDefinition >>>
     }
 
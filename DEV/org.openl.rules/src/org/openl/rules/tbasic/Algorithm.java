@@ -9,6 +9,7 @@ import java.util.Map;
 import org.openl.binding.BindingDependencies;
 import org.openl.rules.annotations.Executable;
 import org.openl.rules.binding.RulesBindingDependencies;
+import org.openl.rules.tbasic.runtime.TBasicVMDataContext;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMethod;
@@ -32,6 +33,11 @@ public class Algorithm extends AlgorithmFunction {
     private List<RuntimeOperation> algorithmSteps;
     private Map<String, RuntimeOperation> labels;
 
+    /**
+     * Resolved operations and labels for execution.
+     */
+    private volatile TBasicVMDataContext mainContext;
+
     /**
      * Invoker for current method.
      */
@@ -68,11 +74,13 @@ public class Algorithm extends AlgorithmFunction {
     @Override
     public void setAlgorithmSteps(List<RuntimeOperation> algorithmSteps) {
         this.algorithmSteps = algorithmSteps;
+        mainContext = null;
     }
 
     @Override
     public void setLabels(Map<String, RuntimeOperation> labels) {
         this.labels = labels;
+        mainContext = null;
     }
 
     public void setThisClass(IOpenClass thisClass) {
@@ -88,6 +96,15 @@ public class Algorithm extends AlgorithmFunction {
         return labels;
     }
 
+    protected TBasicVMDataContext getMainContext() {
+        TBasicVMDataContext context = mainContext;
+        if (context == null) {
+            context = new TBasicVMDataContext(algorithmSteps, labels, true);
+            mainContext = context;
+        }
+        return context;
+    }
+
     protected IOpenClass getThisClass() {
         return thisClass;
     }
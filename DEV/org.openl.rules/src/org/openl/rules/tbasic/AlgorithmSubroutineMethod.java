@@ -8,6 +8,7 @@ import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.table.IGridRegion;
 import org.openl.rules.tbasic.runtime.TBasicContextHolderEnv;
 import org.openl.rules.tbasic.runtime.TBasicVM;
+import org.openl.rules.tbasic.runtime.TBasicVMDataContext;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 import org.openl.types.IOpenMethodHeader;
 import org.openl.vm.IRuntimeEnv;
@@ -24,6 +25,11 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
     private List<RuntimeOperation> algorithmSteps;
     private Map<String, RuntimeOperation> labels;
 
+    /**
+     * Resolved operations and labels for execution.
+     */
+    private volatile TBasicVMDataContext methodContext;
+
     public AlgorithmSubroutineMethod(IOpenMethodHeader header) {
         super(header, null);
     }
@@ -70,12 +76,22 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
         TBasicContextHolderEnv environment = (TBasicContextHolderEnv) env;
         TBasicVM vm = environment.getTbasicVm();
 
-        return vm.run(algorithmSteps, labels, environment);
+        return vm.run(getMethodContext(), environment);
+    }
+
+    private TBasicVMDataContext getMethodContext() {
+        TBasicVMDataContext context = methodContext;
+        if (context == null) {
+            context = new TBasicVMDataContext(algorithmSteps, labels, false);
+            methodContext = context;
+        }
+        return context;
     }
 
     @Override
     public void setAlgorithmSteps(List<RuntimeOperation> operations) {
         algorithmSteps = operations;
+        methodContext = null;
     }
 
     @Override
@@ -86,6 +102,7 @@ public class AlgorithmSubroutineMethod extends AlgorithmFunction {
     @Override
     public void setLabels(Map<String, RuntimeOperation> localLabelsRegister) {
         labels = localLabelsRegister;
+        methodContext = null;
     }
 
     @Override
@@ -27,8 +27,18 @@ public class TBasicVM {
      * @param labels
      */
     public TBasicVM(IOpenClass tbasicType, List<RuntimeOperation> operations, Map<String, RuntimeOperation> labels) {
+        this(tbasicType, new TBasicVMDataContext(operations, labels, true));
+    }
+
+    /**
+     * Create an instance of <code>TBasicVM</code> initialized with the context of main Algorithm method.
+     *
+     * @param tbasicType  The return type of Algorithm.
+     * @param mainContext The context of main Algorithm method. It can be shared between executions.
+     */
+    public TBasicVM(IOpenClass tbasicType, TBasicVMDataContext mainContext) {
         this.tbasicType = tbasicType;
-        this.mainContext = new TBasicVMDataContext(operations, labels, true);
+        this.mainContext = mainContext;
 
         // in the first turn only main can be called
         this.currentContext = mainContext;
@@ -40,11 +50,11 @@ public class TBasicVM {
      * execution will be switched to there.
      *
      * @param label The label to switch to.
-     * @return The labeled operation.
+     * @return The position of the labeled operation in the current context.
      */
-    private RuntimeOperation getLabeledOperation(String label) {
+    private int getLabeledOperationIndex(String label) {
         if (currentContext.isLabelInContext(label)) {
-            return currentContext.getLabeledOperation(label);
+            return currentContext.getLabeledOperationIndex(label);
         } else if (mainContext.isLabelInContext(label)) {
             goToLabelInMainContext(label);
         }
@@ -76,9 +86,18 @@ public class TBasicVM {
     public Object run(List<RuntimeOperation> methodSteps,
                       Map<String, RuntimeOperation> methodLabels,
                       TBasicContextHolderEnv environment) {
+        return run(new TBasicVMDataContext(methodSteps, methodLabels, false), environment);
+    }
 
-        TBasicVMDataContext methodContext = new TBasicVMDataContext(methodSteps, methodLabels, false);
-
+    /**
+     * Run sub-method of Algorithm with the prepared context.
+     *
+     * @param methodContext The context of sub-method. It can be shared between executions.
+     * @param environment   The environment for execution.
+     * @return The result of the method execution.
+     * @see #run(List, Map, TBasicContextHolderEnv)
+     */
+    public Object run(TBasicVMDataContext methodContext, TBasicContextHolderEnv environment) {
         TBasicVMDataContext previousContext = swapContext(methodContext);
 
         try {
@@ -144,11 +163,13 @@ public class TBasicVM {
      */
     private Object runAll(TBasicContextHolderEnv environment) {
 
-        RuntimeOperation operation = currentContext.getFirstOperation();
+        RuntimeOperation[] operations = currentContext.getSteps();
+        int index = 0;
         Object previousStepResult = null;
         Object returnResult = null;
 
-        while (operation != null) {
+        while (index < operations.length) {
+            RuntimeOperation operation = operations[index];
             Result operationResult;
             try {
 
@@ -156,20 +177,20 @@ public class TBasicVM {
                         .invoke(operation, null, new Object[]{previousStepResult}, environment, this);
 
             } catch (OpenLAlgorithmGoToMainSignal signal) {
-                operation = getLabeledOperation(signal.getLabel());
+                index = getLabeledOperationIndex(signal.getLabel());
                 continue;
             }
 
             if (operationResult.getReturnType() == ReturnType.GOTO) {
                 assert operationResult.getValue() instanceof String;
-                operation = getLabeledOperation((String) operationResult.getValue());
+                index = getLabeledOperationIndex((String) operationResult.getValue());
                 continue;
             } else if (operationResult.getReturnType() == ReturnType.RETURN) {
                 returnResult = operationResult.getValue();
                 break;
             }
 
-            operation = currentContext.getNextOperation(operation);
+            index++;
             previousStepResult = operationResult.getValue();
             if (previousStepResult != null) {
                 // store last not-null calculation result,
@@ -1,18 +1,26 @@
 package org.openl.rules.tbasic.runtime;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 
 /**
- * The <code>TBasicVMDataContext</code> contains context for running <code>TBasicVM</code>.
+ * The <code>TBasicVMDataContext</code> contains context for running <code>TBasicVM</code>. Operations and labels are
+ * resolved to positions in the operations list once, so the context can be created at compile time and shared between
+ * executions.
  */
 public class TBasicVMDataContext {
     private final List<RuntimeOperation> operations;
     private final Map<String, RuntimeOperation> labels;
     private final boolean isMainMethodContext;
 
+    private final RuntimeOperation[] steps;
+    private final Map<RuntimeOperation, Integer> stepIndexes;
+    private final Map<String, Integer> labelIndexes;
+
     /**
      * Create a new instance of <code>TBasicVMDataContext</code>.
      *
@@ -30,6 +38,16 @@ public class TBasicVMDataContext {
         this.operations = operations;
         this.labels = labels;
         isMainMethodContext = isMainMethod;
+
+        steps = operations.toArray(new RuntimeOperation[0]);
+        stepIndexes = new IdentityHashMap<>(steps.length);
+        for (int i = 0; i < steps.length; i++) {
+            stepIndexes.putIfAbsent(steps[i], i);
+        }
+        labelIndexes = new HashMap<>(labels.size());
+        for (Map.Entry<String, RuntimeOperation> label : labels.entrySet()) {
+            labelIndexes.put(label.getKey(), stepIndexes.getOrDefault(label.getValue(), -1));
+        }
     }
 
     /**
@@ -38,7 +56,7 @@ public class TBasicVMDataContext {
      * @return The first operation.
      */
     public RuntimeOperation getFirstOperation() {
-        return !operations.isEmpty() ? operations.get(0) : null;
+        return steps.length > 0 ? steps[0] : null;
     }
 
     /**
@@ -51,6 +69,22 @@ public class TBasicVMDataContext {
         return labels.get(label);
     }
 
+    /**
+     * Get position of the operation with the label.
+     *
+     * @param label The label to look for.
+     * @return The position of the labeled operation in the operations list.
+     */
+    int getLabeledOperationIndex(String label) {
+        Integer index = labelIndexes.get(label);
+        if (index == null || index < 0) {
+            throw AlgorithmErrorHelper.createExecutionException(
+                    "Cannot find the next operation after the specified one",
+                    labels.get(label));
+        }
+        return index;
+    }
+
     /**
      * Get labels register in context.
      *
@@ -67,22 +101,13 @@ public class TBasicVMDataContext {
      * @return The next operation.
      */
     public RuntimeOperation getNextOperation(RuntimeOperation operation) {
-        RuntimeOperation nextOperation = null;
-
-        int indexOfCurrent = operations.indexOf(operation);
-
-        if (indexOfCurrent > -1) {
-            int indexOfNext = indexOfCurrent + 1;
-
-            if (indexOfNext < operations.size()) {
-                nextOperation = operations.get(indexOfNext);
-            }
-        } else {
+        Integer indexOfCurrent = stepIndexes.get(operation);
+        if (indexOfCurrent == null) {
             throw AlgorithmErrorHelper
                     .createExecutionException("Cannot find the next operation after the specified one", operation);
         }
-
-        return nextOperation;
+        int indexOfNext = indexOfCurrent + 1;
+        return indexOfNext < steps.length ? steps[indexOfNext] : null;
     }
 
     /**
@@ -94,6 +119,15 @@ public class TBasicVMDataContext {
         return operations;
     }
 
+    /**
+     * Get operations in context in the order of execution.
+     *
+     * @return The operations array. It must not be modified.
+     */
+    RuntimeOperation[] getSteps() {
+        return steps;
+    }
+
     /**
      * Is the label in the context.
      *
@@ -112,4 +146,4 @@ public class TBasicVMDataContext {
     public boolean isMainMethodContext() {
         return isMainMethodContext;
     }
-}
\ No newline at end of file
+}
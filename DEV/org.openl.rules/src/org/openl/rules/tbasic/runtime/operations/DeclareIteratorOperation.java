@@ -12,16 +12,16 @@ import org.openl.rules.tbasic.runtime.TBasicContextHolderEnv;
  */
 public class DeclareIteratorOperation extends RuntimeOperation {
 
-    private final String elementName;
+    private final String iteratorName;
 
     public DeclareIteratorOperation(String label, String elementName) {
-        this.elementName = elementName;
+        this.iteratorName = IteratorNextOperation.ITERATOR + elementName;
     }
 
     @Override
     public Result execute(TBasicContextHolderEnv environment, Object param) {
         Iterator iterator = getIterator(param);
-        environment.getTbasicTarget().setFieldValue(IteratorNextOperation.ITERATOR + elementName, iterator, true);
+        environment.getTbasicTarget().setFieldValue(iteratorName, iterator, true);
 
         return new Result(ReturnType.NEXT, iterator);
     }
@@ -11,16 +11,15 @@ import org.openl.rules.tbasic.runtime.TBasicContextHolderEnv;
  */
 public class IteratorHasNextOperation extends RuntimeOperation {
 
-    private final String elementName;
+    private final String iteratorName;
 
     public IteratorHasNextOperation(String elementName) {
-        this.elementName = elementName;
+        this.iteratorName = IteratorNextOperation.ITERATOR + elementName;
     }
 
     @Override
     public Result execute(TBasicContextHolderEnv environment, Object param) {
-        Iterator iterator = (Iterator) environment.getTbasicTarget()
-                .getFieldValue(IteratorNextOperation.ITERATOR + elementName);
+        Iterator iterator = (Iterator) environment.getTbasicTarget().getFieldValue(iteratorName);
 
         return new Result(ReturnType.NEXT, iterator.hasNext());
     }
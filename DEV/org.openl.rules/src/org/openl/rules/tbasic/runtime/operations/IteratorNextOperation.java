@@ -12,15 +12,15 @@ import org.openl.rules.tbasic.runtime.TBasicContextHolderEnv;
 public class IteratorNextOperation extends RuntimeOperation {
 
     public static final String ITERATOR = "iterator";
-    private final String elementName;
+    private final String iteratorName;
 
     public IteratorNextOperation(String elementName) {
-        this.elementName = elementName;
+        this.iteratorName = ITERATOR + elementName;
     }
 
     @Override
     public Result execute(TBasicContextHolderEnv environment, Object param) {
-        Iterator iterator = (Iterator) environment.getTbasicTarget().getFieldValue(ITERATOR + elementName);
+        Iterator iterator = (Iterator) environment.getTbasicTarget().getFieldValue(iteratorName);
         return new Result(ReturnType.NEXT, iterator.next());
     }
 }
@@ -0,0 +1,210 @@
+package org.openl.rules.types.impl;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Index of overloaded methods by dimension properties. It replaces matching of every candidate against the runtime
+ * context by a few lookups and intersection of bit sets.
+ * <p>
+ * For every property a set of matched candidates is computed once per a group of equivalent context values:
+ * <ul>
+ * <li>If the property values are single comparable values, e.g. dates, then the sorted distinct values split the
+ * domain into points and intervals between them. The matching constraints (LE, GE, EQ) give the same result for all
+ * context values inside the point or the interval.</li>
+ * <li>Otherwise, e.g. for arrays of enums or strings, the context value itself is a key.</li>
+ * </ul>
+ * The resulting candidates are memoized per combination of such keys. The context values come from the clients, so
+ * the number of memoized entries is bounded.
+ */
+final class DimensionPropertiesIndex {
+
+    private static final int MAX_CACHED_SELECTIONS = 10_000;
+
+    private final List<IOpenMethod> source;
+    private final List<IOpenMethod> candidates;
+    private final IPropertiesContextMatcher matcher;
+    private final Map<String, PropertyIndex> properties = new ConcurrentHashMap<>();
+    private final Map<SelectionKey, Set<IOpenMethod>> selections = new ConcurrentHashMap<>();
+
+    DimensionPropertiesIndex(List<IOpenMethod> candidates, IPropertiesContextMatcher matcher) {
+        this.source = candidates;
+        this.candidates = new ArrayList<>(candidates);
+        this.matcher = matcher;
+    }
+
+    /**
+     * Checks that the index is built for the given list of candidates and the list has not been changed.
+     */
+    boolean isBuiltFor(List<IOpenMethod> candidates) {
+        return source == candidates && this.candidates.size() == candidates.size();
+    }
+
+    /**
+     * Selects the candidates matched to the context.
+     *
+     * @param propertyNames names of the properties which have not null values in the context
+     * @param context runtime context
+     * @param prioritizer removes less prioritized candidates from the matched ones
+     * @return unmodifiable set of the selected candidates
+     */
+    Set<IOpenMethod> select(List<String> propertyNames,
+            IRulesRuntimeContext context,
+            Consumer<Set<IOpenMethod>> prioritizer) {
+        PropertyIndex[] indexes = new PropertyIndex[propertyNames.size()];
+        Object[] keys = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = properties.computeIfAbsent(propertyNames.get(i), this::buildPropertyIndex);
+            keys[i] = indexes[i].key(context);
+        }
+        SelectionKey selectionKey = new SelectionKey(propertyNames, keys);
+        Set<IOpenMethod> selected = selections.get(selectionKey);
+        if (selected == null) {
+            BitSet matched = new BitSet(candidates.size());
+            matched.set(0, candidates.size());
+            for (int i = 0; i < indexes.length && !matched.isEmpty(); i++) {
+                matched.and(indexes[i].matched(keys[i], context));
+            }
+            Set<IOpenMethod> methods = new HashSet<>();
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                methods.add(candidates.get(i));
+            }
+            prioritizer.accept(methods);
+            selected = Collections.unmodifiableSet(methods);
+            if (selections.size() < MAX_CACHED_SELECTIONS) {
+                selections.put(selectionKey, selected);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * @return number of the memoized entries
+     */
+    int getCacheSize() {
+        return selections.size() + properties.values().stream().mapToInt(p -> p.matches.size()).sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PropertyIndex buildPropertyIndex(String propertyName) {
+        MatchingConstraint<Object, Object> constraint = (MatchingConstraint<Object, Object>) matcher
+                .getConstraint(propertyName);
+        if (constraint == null) {
+            throw new IllegalStateException("Unexpectedly could not find a constraint for the property: " + propertyName);
+        }
+        Object[] values = new Object[candidates.size()];
+        for (int i = 0; i < values.length; i++) {
+            ITableProperties tableProperties = PropertiesHelper.getTableProperties(candidates.get(i));
+            values[i] = constraint.getPropertyValue(tableProperties);
+        }
+        return new PropertyIndex(constraint, values, getBounds(values));
+    }
+
+    /**
+     * Returns sorted distinct values if all of them are comparable values of the same type, otherwise - null.
+     */
+    private static Object[] getBounds(Object[] values) {
+        Class<?> type = null;
+        Set<Object> bounds = new TreeSet<>();
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (!(value instanceof Comparable) || type != null && type != value.getClass()) {
+                return null;
+            }
+            type = value.getClass();
+            bounds.add(value);
+        }
+        return type == null ? new Object[0] : bounds.toArray((Object[]) Array.newInstance(type, bounds.size()));
+    }
+
+    private static final class PropertyIndex {
+        private final MatchingConstraint<Object, Object> constraint;
+        private final Object[] values;
+        private final Object[] bounds;
+        private final Map<Object, BitSet> matches = new ConcurrentHashMap<>();
+
+        PropertyIndex(MatchingConstraint<Object, Object> constraint, Object[] values, Object[] bounds) {
+            this.constraint = constraint;
+            this.values = values;
+            this.bounds = bounds;
+        }
+
+        Object key(IRulesRuntimeContext context) {
+            Object contextValue = constraint.getContextValue(context);
+            if (bounds == null) {
+                return contextValue;
+            } else if (!bounds.getClass().getComponentType().isInstance(contextValue)) {
+                // Not comparable with the bounds. Wraps the value to avoid a clash with the interval numbers.
+                return Collections.singletonList(contextValue);
+            }
+            // Even numbers are intervals between the bounds, odd ones are the bounds itself.
+            int i = Arrays.binarySearch(bounds, contextValue);
+            return i >= 0 ? 2 * i + 1 : -2 * (i + 1);
+        }
+
+        BitSet matched(Object key, IRulesRuntimeContext context) {
+            BitSet matched = matches.get(key);
+            if (matched == null) {
+                Object contextValue = constraint.getContextValue(context);
+                matched = new BitSet(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    if (!MatchingResult.NO_MATCH.equals(constraint.matchValues(values[i], contextValue))) {
+                        matched.set(i);
+                    }
+                }
+                if (matches.size() < MAX_CACHED_SELECTIONS) {
+                    matches.put(key, matched);
+                }
+            }
+            return matched;
+        }
+    }
+
+    private static final class SelectionKey {
+        private final List<String> propertyNames;
+        private final Object[] keys;
+        private final int hashCode;
+
+        SelectionKey(List<String> propertyNames, Object[] keys) {
+            this.propertyNames = propertyNames;
+            this.keys = keys;
+            this.hashCode = 31 * propertyNames.hashCode() + Arrays.hashCode(keys);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            return hashCode == that.hashCode && Objects.equals(propertyNames, that.propertyNames) && Arrays
+                    .equals(keys, that.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -25,4 +25,12 @@ public interface IPropertiesContextMatcher {
      */
     void addConstraint(String propertyName, MatchingConstraint<?, ?> ctr);
 
+    /**
+     * Gets a constraint for the property
+     *
+     * @param propertyName
+     * @return the constraint or null if the property is not matched
+     */
+    MatchingConstraint<?, ?> getConstraint(String propertyName);
+
 }
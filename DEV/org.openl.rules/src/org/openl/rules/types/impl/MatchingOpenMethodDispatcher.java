@@ -3,7 +3,6 @@ package org.openl.rules.types.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -37,6 +36,8 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     private List<IOpenMethod> candidatesSorted;
 
+    private volatile DimensionPropertiesIndex dimensionPropertiesIndex;
+
     private IOpenMethod decisionTableOpenMethod;
 
     public IOpenMethod getDecisionTableOpenMethod() {
@@ -58,14 +59,15 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     public void addMethod(IOpenMethod candidate) {
         super.addMethod(candidate);
         candidatesSorted = null;
+        dimensionPropertiesIndex = null;
     }
 
     @Override
     protected IOpenMethod findMatchingMethod(List<IOpenMethod> candidates, IRuntimeContext context) {
-        Set<IOpenMethod> selected = new HashSet<>(candidates);
-
-        selectCandidates(selected, (IRulesRuntimeContext) context);
-        maxMinSelectCandidates(selected, (IRulesRuntimeContext) context);
+        IRulesRuntimeContext rulesContext = (IRulesRuntimeContext) context;
+        Set<IOpenMethod> selected = getDimensionPropertiesIndex(candidates).select(getNotNullPropertyNames(rulesContext),
+                rulesContext,
+                methods -> maxMinSelectCandidates(methods, rulesContext));
 
         switch (selected.size()) {
             case 0:
@@ -88,6 +90,15 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     }
 
+    private DimensionPropertiesIndex getDimensionPropertiesIndex(List<IOpenMethod> candidates) {
+        DimensionPropertiesIndex index = dimensionPropertiesIndex;
+        if (index == null || !index.isBuiltFor(candidates)) {
+            index = new DimensionPropertiesIndex(candidates, matcher);
+            dimensionPropertiesIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public TableSyntaxNode getDispatcherTable() {
         if (decisionTableOpenMethod == null) {
@@ -226,27 +237,6 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         return 0;
     }
 
-    private void selectCandidates(Set<IOpenMethod> selected, IRulesRuntimeContext context) {
-        List<IOpenMethod> nomatched = new ArrayList<>();
-
-        List<String> notNullPropertyNames = getNotNullPropertyNames(context);
-
-        for (IOpenMethod method : selected) {
-            ITableProperties props = PropertiesHelper.getTableProperties(method);
-
-            for (String propName : notNullPropertyNames) {
-                MatchingResult res = matcher.match(propName, props, context);
-
-                if (MatchingResult.NO_MATCH.equals(res)) {
-                    nomatched.add(method);
-                    break;
-                }
-            }
-        }
-
-        nomatched.forEach(selected::remove);
-    }
-
     private String toString(Collection<IOpenMethod> methods) {
 
         StringBuilder builder = new StringBuilder();
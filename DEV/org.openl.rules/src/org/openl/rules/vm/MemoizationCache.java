@@ -0,0 +1,108 @@
+package org.openl.rules.vm;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openl.rules.context.DefaultRulesRuntimeContext;
+import org.openl.rules.context.IRulesRuntimeContext;
+
+/**
+ * Results of the rules marked as {@code cacheable} calculated during one request. The rules are considered as pure
+ * functions of their arguments and the runtime context, so the same result is returned for equal arguments and equal
+ * context values. Arguments are neither cloned nor copied, they must not be modified until the end of the request.
+ * <p>
+ * The cache is thread-safe and is shared between the runtime environments of the tasks forked during the request.
+ */
+public final class MemoizationCache {
+
+    private static final Object NULL = new Object();
+
+    private final Map<InvocationKey, Object> results = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the cached result of the member for the given context and arguments or calculates and caches it.
+     *
+     * @param context the current runtime context, the rules dispatched by the context can return different results
+     *            for the same arguments after {@code modifyContext} or {@code setContext}
+     */
+    public Object invoke(Object member, Object context, Object[] params, Supplier<Object> invocation) {
+        Object[] contextValues = getContextValues(context);
+        Object result = results.get(new InvocationKey(member, contextValues, params));
+        if (result != null) {
+            hits.increment();
+            return result == NULL ? null : result;
+        }
+        misses.increment();
+        // The calculation is not performed under the map lock, because it can call other cached rules
+        result = invocation.get();
+        results.putIfAbsent(new InvocationKey(member, contextValues, params == null ? null : params.clone()),
+                result == null ? NULL : result);
+        return result;
+    }
+
+    /**
+     * Takes a snapshot of the context values, because a context can be changed after the result is cached.
+     */
+    private static Object[] getContextValues(Object context) {
+        if (!(context instanceof IRulesRuntimeContext)) {
+            return new Object[] { context };
+        }
+        IRulesRuntimeContext rulesRuntimeContext = (IRulesRuntimeContext) context;
+        Object[] values = new Object[DefaultRulesRuntimeContext.CONTEXT_PROPERTIES.size()];
+        int i = 0;
+        for (String name : DefaultRulesRuntimeContext.CONTEXT_PROPERTIES.keySet()) {
+            values[i++] = rulesRuntimeContext.getValue(name);
+        }
+        return values;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    private static final class InvocationKey {
+        private final Object member;
+        private final Object[] contextValues;
+        private final Object[] params;
+        private final int hashCode;
+
+        private InvocationKey(Object member, Object[] contextValues, Object[] params) {
+            this.member = member;
+            this.contextValues = contextValues;
+            this.params = params;
+            int hash = 31 * System.identityHashCode(member) + Arrays.deepHashCode(contextValues);
+            this.hashCode = 31 * hash + Arrays.deepHashCode(params);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InvocationKey)) {
+                return false;
+            }
+            InvocationKey that = (InvocationKey) o;
+            return hashCode == that.hashCode && member == that.member && Arrays.deepEquals(contextValues,
+                    that.contextValues) && Arrays.deepEquals(params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.openl.rules.vm;
 import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.RecursiveAction;
 
 import org.openl.rules.context.RulesRuntimeContextFactory;
@@ -18,6 +19,8 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
     private volatile boolean ignoreRecalculate = true;
     private volatile boolean originalCalculation = true;
     private ArgumentCachingStorage argumentCachingStorage;
+    private volatile MemoizationCache memoizationCache;
+    private volatile Set<String> resultFields;
     private IRulesMethodWrapper methodWrapper;
 
     public SimpleRulesRuntimeEnv() {
@@ -27,6 +30,7 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
     private SimpleRulesRuntimeEnv(SimpleRulesRuntimeEnv env) {
         super(env);
         this.argumentCachingStorage = env.getArgumentCachingStorage();
+        this.memoizationCache = env.memoizationCache;
         this.methodArgumentsCacheEnable = env.methodArgumentsCacheEnable;
         this.cacheMode = env.cacheMode;
         this.ignoreRecalculate = env.ignoreRecalculate;
@@ -86,6 +90,32 @@ public class SimpleRulesRuntimeEnv extends SimpleRuntimeEnv {
         return argumentCachingStorage;
     }
 
+    /**
+     * @return the cache of the current request or null if results of the cacheable rules are not memoized
+     */
+    public MemoizationCache getMemoizationCache() {
+        return memoizationCache;
+    }
+
+    public void setMemoizationCache(MemoizationCache memoizationCache) {
+        this.memoizationCache = memoizationCache;
+    }
+
+    /**
+     * @return fields of the spreadsheet result requested by the client or null if all fields are required
+     */
+    public Set<String> getResultFields() {
+        return resultFields;
+    }
+
+    /**
+     * Restricts the result of the next called spreadsheet that returns {@code SpreadsheetResult} to the given fields.
+     * The fields are applied to that call only, nested calls calculate their results completely.
+     */
+    public void setResultFields(Set<String> resultFields) {
+        this.resultFields = resultFields;
+    }
+
     public IRulesMethodWrapper getMethodWrapper() {
         return methodWrapper;
     }
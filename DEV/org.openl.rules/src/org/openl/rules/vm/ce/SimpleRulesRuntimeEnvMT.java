@@ -15,6 +15,7 @@ public class SimpleRulesRuntimeEnvMT extends SimpleRulesRuntimeEnv {
         this.contextStack = delegate.cloneContextStack();
         pushContext(delegate.getContext());
         pushLocalFrame(delegate.getLocalFrame());
+        setMemoizationCache(delegate.getMemoizationCache());
     }
 
     @Override
@@ -0,0 +1,59 @@
+package org.openl.excel.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.excel.parser.MergedCell;
+
+public class CompactCellsTest {
+    @Test
+    public void getCells() {
+        Object[][] values = { { "a", 1, 2.5, null },
+                { null },
+                { new String("a"), MergedCell.MERGE_WITH_LEFT, true, 3.0 } };
+        CompactCells cells = CompactCells.of(values);
+
+        assertEquals(3, cells.getRowCount());
+        assertEquals(4, cells.getRowLength(0));
+        assertEquals(1, cells.getRowLength(1));
+        assertEquals(4, cells.getRowLength(2));
+
+        assertEquals("a", cells.get(0, 0));
+        assertEquals(1, cells.get(0, 1));
+        assertEquals(2.5, cells.get(0, 2));
+        assertNull(cells.get(0, 3));
+        assertNull(cells.get(1, 0));
+        assertSame(cells.get(0, 0), cells.get(2, 0));
+        assertSame(MergedCell.MERGE_WITH_LEFT, cells.get(2, 1));
+        assertEquals(Boolean.TRUE, cells.get(2, 2));
+        assertEquals(3.0, cells.get(2, 3));
+
+        assertTrue(cells.contains(2, 3));
+        assertFalse(cells.contains(1, 1));
+        assertFalse(cells.contains(3, 0));
+        assertFalse(cells.contains(-1, 0));
+        assertNull(cells.get(1, 1));
+        assertNull(cells.get(5, 5));
+    }
+
+    @Test
+    public void forEachObject() {
+        CompactCells cells = CompactCells.of(new Object[][] { { 1, "x" }, { MergedCell.MERGE_WITH_UP, 2.0 } });
+        List<String> visited = new ArrayList<>();
+        cells.forEachObject((row, col, value) -> visited.add(row + ":" + col + "=" + value));
+        assertEquals(List.of("0:1=x", "1:0=" + MergedCell.MERGE_WITH_UP), visited);
+
+        CompactCells numbers = CompactCells.of(new Object[][] { { 1, 2 } });
+        numbers.forEachObject((row, col, value) -> visited.add("unexpected"));
+        assertEquals(2, visited.size());
+        assertNull(CompactCells.of(new Object[0][]).get(0, 0));
+    }
+}
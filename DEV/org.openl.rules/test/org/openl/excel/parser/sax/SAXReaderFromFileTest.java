@@ -1,15 +1,22 @@
 package org.openl.excel.parser.sax;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
 import org.openl.excel.parser.BaseReaderTest;
 import org.openl.excel.parser.ExcelReader;
 import org.openl.excel.parser.FolderUtils;
+import org.openl.excel.parser.SheetDescriptor;
 
 public class SAXReaderFromFileTest extends BaseReaderTest {
     @Override
@@ -29,4 +36,29 @@ public class SAXReaderFromFileTest extends BaseReaderTest {
         assertNotNull(sheets.get(2).getRelationId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getCellsConcurrently() throws Exception {
+        assertTrue(reader.isConcurrentReadingSupported());
+        List<? extends SheetDescriptor> sheets = reader.getSheets();
+        List<Object[][]> expected = new ArrayList<>();
+        try (ExcelReader sequentialReader = createReader()) {
+            for (SheetDescriptor sheet : sequentialReader.getSheets()) {
+                expected.add(sequentialReader.getCells(sheet));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sheets.size());
+        try {
+            List<Future<Object[][]>> actual = new ArrayList<>();
+            for (SheetDescriptor sheet : sheets) {
+                actual.add(executor.submit(() -> reader.getCells(sheet)));
+            }
+            for (int i = 0; i < sheets.size(); i++) {
+                assertArrayEquals(expected.get(i), actual.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
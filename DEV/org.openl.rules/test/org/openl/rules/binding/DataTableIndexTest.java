@@ -0,0 +1,47 @@
+package org.openl.rules.binding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.TestUtils;
+
+public class DataTableIndexTest {
+
+    private static Object instance;
+    private static Object[] items;
+
+    @BeforeAll
+    public static void init() {
+        instance = TestUtils.create("test/rules/binding/DataTableIndexTest.xlsx");
+        items = TestUtils.invoke(instance, "getItems");
+    }
+
+    @Test
+    public void testSelectFirst() {
+        for (int i = 0; i < 2; i++) {
+            assertSame(items[0], TestUtils.invoke(instance, "findFirst", "A"));
+            assertSame(items[3], TestUtils.invoke(instance, "findFirst", "C"));
+            assertNull(TestUtils.invoke(instance, "findFirst", "D"));
+            assertNull(TestUtils.invoke(instance, "findFirst", new Class<?>[]{String.class}, new Object[]{null}));
+            assertSame(items[1], TestUtils.invoke(instance, "findFirstImplicit", "B"));
+        }
+    }
+
+    @Test
+    public void testSelectAll() {
+        assertArrayEquals(new Object[]{items[0], items[4]}, findAll("A", 1));
+        assertArrayEquals(new Object[]{items[2]}, findAll("A", 2));
+        assertArrayEquals(new Object[0], findAll("B", 2));
+        assertArrayEquals(new Object[]{items[0], items[4]}, TestUtils.invoke(instance, "findAllActive", "A"));
+        assertArrayEquals(new Object[]{items[0], items[2], items[4]},
+                TestUtils.invoke(instance, "findAllByLocal", "A"));
+    }
+
+    private static Object[] findAll(String key, int group) {
+        return TestUtils.invoke(instance, "findAll", new Class<?>[]{String.class, int.class}, new Object[]{key, group});
+    }
+}
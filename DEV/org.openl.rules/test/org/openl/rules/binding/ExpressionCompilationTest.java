@@ -0,0 +1,129 @@
+package org.openl.rules.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.openl.binding.impl.compiler.BoundNodeCompiler;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.runtime.RulesEngineFactory;
+
+/**
+ * Compares the rules compiled by {@link BoundNodeCompiler} with the interpreted ones.
+ */
+public class ExpressionCompilationTest {
+
+    private static final String SRC = "test/rules/ExpressionCompilationTest.xlsx";
+
+    private static final String GENERATED_CLASS = "org.openl.generated.expressions.";
+
+    private static Service interpreted;
+    private static Service compiled;
+
+    public interface Service {
+        int Calc(int a, int b);
+
+        int Nested(int a);
+
+        Double Total(Double[] values, double k);
+
+        String Text(String s);
+    }
+
+    public static int twice(int a) {
+        return a * 2;
+    }
+
+    public static int check(int a) {
+        if (a < 0) {
+            throw new IllegalArgumentException("Negative value");
+        }
+        return a;
+    }
+
+    @BeforeAll
+    public static void init() {
+        interpreted = new RulesEngineFactory<>(SRC, Service.class).newEngineInstance();
+        compiled = new RulesEngineFactory<>(SRC, Service.class).newEngineInstance();
+    }
+
+    /**
+     * Invokes the rules of the {@link #compiled} instance. The method bodies are compiled on the first invocation.
+     */
+    private static <T> T compiled(Supplier<T> invocation) {
+        String property = System.getProperty(BoundNodeCompiler.EXPRESSION_COMPILATION_PROPERTY);
+        System.setProperty(BoundNodeCompiler.EXPRESSION_COMPILATION_PROPERTY, "true");
+        try {
+            return invocation.get();
+        } finally {
+            if (property == null) {
+                System.clearProperty(BoundNodeCompiler.EXPRESSION_COMPILATION_PROPERTY);
+            } else {
+                System.setProperty(BoundNodeCompiler.EXPRESSION_COMPILATION_PROPERTY, property);
+            }
+        }
+    }
+
+    @Test
+    public void testSameResults() {
+        for (int a = -3; a <= 3; a++) {
+            for (int b = -3; b <= 5; b++) {
+                int x = a;
+                int y = b;
+                assertEquals(interpreted.Calc(x, y), (int) compiled(() -> compiled.Calc(x, y)));
+            }
+        }
+        assertEquals(44, (int) compiled(() -> compiled.Calc(2, 5)));
+        assertEquals(interpreted.Nested(5), (int) compiled(() -> compiled.Nested(5)));
+        assertEquals(11, (int) compiled(() -> compiled.Nested(5)));
+
+        Double[] values = { 1.25, null, 2.5 };
+        assertEquals(interpreted.Total(values, 1.5), compiled(() -> compiled.Total(values, 1.5)));
+        assertEquals(interpreted.Total(null, 1.5), compiled(() -> compiled.Total(null, 1.5)));
+        assertEquals(interpreted.Text(" abc "), compiled(() -> compiled.Text(" abc ")));
+        assertEquals(interpreted.Text(null), compiled(() -> compiled.Text(null)));
+    }
+
+    @Test
+    public void testSameErrors() {
+        OpenLRuntimeException expected = assertThrows(OpenLRuntimeException.class, () -> interpreted.Nested(-1));
+        OpenLRuntimeException actual = assertThrows(OpenLRuntimeException.class,
+                () -> compiled(() -> compiled.Nested(-1)));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertTrue(actual.getCause() instanceof IllegalArgumentException);
+        // The failed method is called from the generated code
+        String expectedTrace = printStackTrace(expected);
+        String actualTrace = printStackTrace(actual);
+        assertFalse(expectedTrace.contains(GENERATED_CLASS));
+        assertTrue(actualTrace.contains(GENERATED_CLASS));
+        // Both calls of the expression are in the OpenL call stack as in the interpreter
+        assertEquals(2, sourceLocations(actualTrace));
+        assertEquals(withoutJavaFrames(expectedTrace), withoutJavaFrames(actualTrace));
+    }
+
+    private static String printStackTrace(Throwable t) {
+        StringWriter writer = new StringWriter();
+        t.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private static String withoutJavaFrames(String trace) {
+        return trace.lines()
+                .filter(line -> !line.startsWith("\tat ") && !line.startsWith("\t..."))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static long sourceLocations(String trace) {
+        return trace.lines().filter(line -> line.trim().startsWith("at file:")).count();
+    }
+}
@@ -0,0 +1,149 @@
+package org.openl.rules.calc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.lang.xls.binding.wrapper.WrapperLogic;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+
+public class ParallelSpreadsheetTest {
+
+    private static final String SRC = "test/rules/ParallelSpreadsheetTest.xlsx";
+
+    private static final Map<Integer, Thread> WORKERS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> FAILURES = new ConcurrentHashMap<>();
+
+    public interface Service {
+        SpreadsheetResult Parallel(Integer a);
+
+        Integer Sequential(Integer a);
+
+        Integer Failure(Integer a);
+
+        SpreadsheetResult NotParallel(Integer a);
+
+        Boolean Mutating(Integer a);
+
+        String Pure(Integer a);
+
+        SpreadsheetResult Inherited(Integer a);
+
+        SpreadsheetResult MethodsParallel(Integer a);
+    }
+
+    public static Integer work(Integer a) {
+        WORKERS.put(a, Thread.currentThread());
+        return a * 10;
+    }
+
+    public static Integer fail(String cell) {
+        FAILURES.merge(cell, 1, Integer::sum);
+        throw new IllegalStateException(cell);
+    }
+
+    private RulesEngineFactory<Service> factory;
+    private Service instance;
+
+    @BeforeEach
+    public void init() {
+        WORKERS.clear();
+        FAILURES.clear();
+        factory = new RulesEngineFactory<>(SRC, Service.class);
+        instance = factory.newEngineInstance();
+    }
+
+    @Test
+    public void testIndependentCellsAreCalculatedInParallel() {
+        SpreadsheetResult result = instance.Parallel(1);
+        assertEquals(10, result.getFieldValue("$Value$A"));
+        assertEquals(20, result.getFieldValue("$Other$A"));
+        assertEquals(30, result.getFieldValue("$Value$B"));
+        assertEquals(30, result.getFieldValue("$Other$B"));
+        assertEquals(40, result.getFieldValue("$Value$C"));
+        assertEquals(31, result.getFieldValue("$Other$C"));
+        for (int a = 1; a <= 3; a++) {
+            assertNotSame(Thread.currentThread(), WORKERS.get(a));
+        }
+
+        SpreadsheetDependencyGraph graph = getSpreadsheet("Parallel").getDependencyGraph();
+        assertNotNull(graph);
+        assertEquals(3, graph.getLevels().length);
+        assertArrayEquals(new int[] { 0, 1, 2 }, graph.getLevels()[0]);
+        assertArrayEquals(new int[] { 3, 4 }, graph.getLevels()[1]);
+        assertArrayEquals(new int[] { 5 }, graph.getLevels()[2]);
+    }
+
+    @Test
+    public void testCellsWithSideEffectsAreCalculatedSequentially() {
+        assertEquals(20, instance.Sequential(1));
+        assertSame(Thread.currentThread(), WORKERS.get(1));
+        assertNull(getSpreadsheet("Sequential").getDependencyGraph());
+
+        instance.NotParallel(1);
+        assertSame(Thread.currentThread(), WORKERS.get(1));
+        assertNull(getSpreadsheet("NotParallel").getDependencyGraph());
+
+        assertTrue(instance.Mutating(1));
+        assertSame(Thread.currentThread(), WORKERS.get(1));
+        assertNull(getSpreadsheet("Mutating").getDependencyGraph());
+    }
+
+    @Test
+    public void testMethodsWithoutSideEffectsAreCalculatedInParallel() {
+        assertEquals("2 false", instance.Pure(1));
+        assertNotSame(Thread.currentThread(), WORKERS.get(1));
+        assertNotSame(Thread.currentThread(), WORKERS.get(2));
+        assertNotNull(getSpreadsheet("Pure").getDependencyGraph());
+    }
+
+    @Test
+    public void testParallelMethodsPropertyDoesNotEnableParallelCells() {
+        for (String name : new String[] { "MethodsParallel", "Inherited" }) {
+            Spreadsheet spreadsheet = getSpreadsheet(name);
+            assertTrue(spreadsheet.getMethodProperties().getParallel());
+            assertFalse(spreadsheet.getMethodProperties().getParallelCells());
+            assertNull(spreadsheet.getDependencyGraph());
+        }
+
+        instance.MethodsParallel(1);
+        assertSame(Thread.currentThread(), WORKERS.get(1));
+        instance.Inherited(3);
+        assertSame(Thread.currentThread(), WORKERS.get(3));
+    }
+
+    @Test
+    public void testErrorsAreThrownInCalculationOrder() {
+        assertNotNull(getSpreadsheet("Failure").getDependencyGraph());
+        Exception e = assertThrows(Exception.class, () -> instance.Failure(1));
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        assertTrue(cause instanceof IllegalStateException);
+        assertEquals("B", cause.getMessage());
+        // The failed cells are not calculated again
+        assertEquals(Map.of("B", 1, "C", 1), FAILURES);
+        assertFalse(WORKERS.isEmpty());
+    }
+
+    private Spreadsheet getSpreadsheet(String name) {
+        IOpenClass openClass = factory.getCompiledOpenClass().getOpenClass();
+        return (Spreadsheet) WrapperLogic.unwrapOpenMethod(
+                openClass.getMethod(name, new IOpenClass[] { JavaOpenClass.getOpenClass(Integer.class) }));
+    }
+}
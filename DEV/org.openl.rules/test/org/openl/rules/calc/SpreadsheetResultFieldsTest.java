@@ -0,0 +1,71 @@
+package org.openl.rules.calc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
+import org.openl.runtime.IEngineWrapper;
+
+public class SpreadsheetResultFieldsTest {
+
+    private static final String SRC = "test/rules/SpreadsheetResultFieldsTest.xlsx";
+
+    private static final Set<Integer> CALLS = new TreeSet<>();
+
+    public interface Service {
+        SpreadsheetResult Quote(Integer a);
+
+        SpreadsheetResult Outer(Integer a);
+    }
+
+    public static Integer work(Integer a) {
+        CALLS.add(a);
+        return a * 10;
+    }
+
+    private Service instance;
+
+    @BeforeEach
+    public void init() {
+        CALLS.clear();
+        instance = new RulesEngineFactory<>(SRC, Service.class).newEngineInstance();
+    }
+
+    @Test
+    public void testOnlyRequestedCellsAreCalculated() {
+        getEnv().setResultFields(Set.of("$Value$C", "Value_D"));
+        SpreadsheetResult result = instance.Quote(1);
+        assertNull(getEnv().getResultFields());
+        assertNull(result.getFieldValue("$Value$A"));
+        assertNull(result.getFieldValue("$Value$B"));
+        assertEquals(11, result.getFieldValue("$Value$C"));
+        assertEquals(40, result.getFieldValue("$Value$D"));
+        assertEquals(Set.of(1, 4), CALLS);
+
+        CALLS.clear();
+        result = instance.Quote(1);
+        assertEquals(10, result.getFieldValue("$Value$A"));
+        assertEquals(Set.of(1, 2, 4), CALLS);
+    }
+
+    @Test
+    public void testNestedSpreadsheetsAreCalculatedCompletely() {
+        getEnv().setResultFields(Set.of("$Q"));
+        SpreadsheetResult result = instance.Outer(1);
+        assertNull(result.getFieldValue("$Value$E"));
+        SpreadsheetResult quote = (SpreadsheetResult) result.getFieldValue("$Value$Q");
+        assertEquals(20, quote.getFieldValue("$Value$B"));
+        assertEquals(Set.of(1, 2, 4), CALLS);
+    }
+
+    private SimpleRulesRuntimeEnv getEnv() {
+        return (SimpleRulesRuntimeEnv) ((IEngineWrapper) instance).getRuntimeEnv();
+    }
+}
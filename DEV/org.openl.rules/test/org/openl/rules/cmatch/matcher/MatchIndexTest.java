@@ -0,0 +1,85 @@
+package org.openl.rules.cmatch.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.cmatch.test.TestEnum;
+import org.openl.rules.helpers.IntRange;
+import org.openl.types.java.JavaOpenClass;
+
+public class MatchIndexTest {
+
+    @Test
+    public void testNumberMatch() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MATCH, JavaOpenClass.INT);
+        Object[] checkValues = {5, new IntRange(1, 10), null, 3, 5, new IntRange(5, 6)};
+        assertIndex(matcher, checkValues, 0, 1, 3, 5, 6, 10, 11, null);
+    }
+
+    @Test
+    public void testNumberMatchWithoutRanges() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MATCH, JavaOpenClass.getOpenClass(Long.class));
+        Object[] checkValues = {5L, null, 3L, 5L};
+        assertIndex(matcher, checkValues, 0L, 3L, 5L, null);
+    }
+
+    @Test
+    public void testClassMatch() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MATCH, JavaOpenClass.STRING);
+        Object[] checkValues = {"a", "b", null, "a", ""};
+        assertIndex(matcher, checkValues, "a", "b", "c", "", null);
+    }
+
+    @Test
+    public void testEnumMatch() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MATCH,
+                JavaOpenClass.getOpenClass(TestEnum.class));
+        Object[] checkValues = {TestEnum.ONE, TestEnum.TWO, null, TestEnum.ONE};
+        assertIndex(matcher, checkValues, TestEnum.ONE, TestEnum.TWO, TestEnum.FIVE, null);
+    }
+
+    @Test
+    public void testBooleanMatch() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MATCH, JavaOpenClass.BOOLEAN);
+        Object[] checkValues = {true, null, false, true};
+        assertIndex(matcher, checkValues, true, false);
+    }
+
+    @Test
+    public void testMin() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MIN,
+                JavaOpenClass.getOpenClass(Integer.class));
+        Object[] checkValues = {10, 5, null, 5, 20, -1};
+        assertIndex(matcher, checkValues, -2, -1, 0, 5, 7, 10, 20, 21, null);
+    }
+
+    @Test
+    public void testMax() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MAX,
+                JavaOpenClass.getOpenClass(Integer.class));
+        Object[] checkValues = {10, 5, null, 5, 20, -1};
+        assertIndex(matcher, checkValues, -2, -1, 0, 5, 7, 10, 20, 21, null);
+    }
+
+    @Test
+    public void testEmpty() {
+        IMatcher matcher = MatcherFactory.getMatcher(IMatcherBuilder.OP_MAX, JavaOpenClass.STRING);
+        assertIndex(matcher, new Object[0], "a", null);
+    }
+
+    private static void assertIndex(IMatcher matcher, Object[] checkValues, Object... vars) {
+        IMatchIndex index = matcher.buildIndex(checkValues);
+        for (Object var : vars) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < checkValues.length; i++) {
+                if (matcher.match(var, checkValues[i])) {
+                    expected.set(i);
+                }
+            }
+            assertEquals(expected, index.find(var), "Value: " + var);
+        }
+    }
+}
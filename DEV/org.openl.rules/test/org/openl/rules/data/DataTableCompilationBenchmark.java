@@ -0,0 +1,95 @@
+package org.openl.rules.data;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openl.rules.runtime.RulesEngineFactory;
+
+/**
+ * Measures compilation of a module with a big multi-row Data table, where every element occupies two rows and its
+ * single value cells are merged.
+ * <p>
+ * Install JMH plugin for running this benchmark.
+ * Define {@code  -prof gc } argument to collect memory stats.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DataTableCompilationBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int elements;
+
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("DataTableCompilationBenchmark", ".xlsx").toFile();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try (OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Rules");
+            int r = 0;
+            r = row(sheet, r, "Datatype Policy");
+            r = row(sheet, r, "String", "name");
+            r = row(sheet, r, "String[]", "drivers");
+            r = row(sheet, r, "Integer", "amount");
+            r++;
+            r = row(sheet, r, "Data Policy policies");
+            r = row(sheet, r, "name", "drivers", "amount");
+            r = row(sheet, r, "Name", "Drivers", "Amount");
+            for (int i = 0; i < elements; i++) {
+                sheet.addMergedRegionUnsafe(new CellRangeAddress(r, r + 1, 0, 0));
+                sheet.addMergedRegionUnsafe(new CellRangeAddress(r, r + 1, 2, 2));
+                r = row(sheet, r, "P" + i, "D" + i + "a", String.valueOf(i));
+                r = row(sheet, r, null, "D" + i + "b", null);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public Object compile() {
+        return new RulesEngineFactory<>(file.getPath()).newEngineInstance();
+    }
+
+    private static int row(Sheet sheet, int r, String... values) {
+        Row row = sheet.createRow(r);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+        return r + 1;
+    }
+}
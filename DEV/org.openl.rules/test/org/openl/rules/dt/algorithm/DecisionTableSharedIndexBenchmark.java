@@ -0,0 +1,97 @@
+package org.openl.rules.dt.algorithm;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openl.domain.IIntIterator;
+import org.openl.rules.dt.DecisionTable;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesVM;
+import org.openl.types.IOpenClass;
+import org.openl.vm.IRuntimeEnv;
+
+/**
+ * Compares building of the decision table index and the rules lookup when the nodes with the same rules share their
+ * sub-indexes and when every node gets its own one.
+ * <p>
+ * Install JMH plugin for running this benchmark.
+ * Define {@code  -prof gc } argument to collect memory stats.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DecisionTableSharedIndexBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rules;
+
+    @Param({"true", "false"})
+    private boolean shareIndexes;
+
+    private DecisionTable table;
+    private DecisionTableOptimizedAlgorithm algorithm;
+    private Object target;
+    private IRuntimeEnv env;
+    private Object[][] params;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        File file = Files.createTempFile("DecisionTableSharedIndexBenchmark", ".xlsx").toFile();
+        try {
+            DecisionTableSharedIndexTest.writeRules(file, rules, new Random(42));
+            RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(file.getPath());
+            engineFactory.setExecutionMode(false);
+            IOpenClass openClass = engineFactory.getCompiledOpenClass().getOpenClass();
+            env = new SimpleRulesVM().getRuntimeEnv();
+            target = openClass.newInstance(env);
+            table = DecisionTableSharedIndexTest.getTable(openClass);
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+        algorithm = DecisionTableSharedIndexTest.newAlgorithm(table, shareIndexes);
+        Random random = new Random(7);
+        params = new Object[1024][];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = new Object[] { "A" + random.nextInt(DecisionTableSharedIndexTest.GROUPS * 2),
+                    "B" + random.nextInt(DecisionTableSharedIndexTest.B_VALUES),
+                    "C" + random.nextInt(DecisionTableSharedIndexTest.C_VALUES) };
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        table = null;
+        algorithm = null;
+    }
+
+    @Benchmark
+    public Object buildIndex() {
+        return DecisionTableSharedIndexTest.newAlgorithm(table, shareIndexes);
+    }
+
+    @Benchmark
+    public int lookup() {
+        IIntIterator rules = algorithm.checkedRules(target, params[next++ & (params.length - 1)], env);
+        return rules.hasNext() ? rules.nextInt() : -1;
+    }
+}
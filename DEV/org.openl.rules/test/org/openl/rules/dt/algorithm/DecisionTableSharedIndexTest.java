@@ -0,0 +1,188 @@
+package org.openl.rules.dt.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.CompiledOpenClass;
+import org.openl.domain.IIntIterator;
+import org.openl.rules.dt.DecisionTable;
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.algorithm.evaluator.IConditionEvaluator;
+import org.openl.rules.dt.element.Condition;
+import org.openl.rules.dt.index.IRuleIndex;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesVM;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.vm.IRuntimeEnv;
+
+public class DecisionTableSharedIndexTest {
+
+    static final int GROUPS = 5;
+    static final int B_VALUES = 5;
+    static final int C_VALUES = 4;
+
+    private File file;
+    private String[][] rules;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempFile("DecisionTableSharedIndexTest", ".xlsx").toFile();
+        rules = writeRules(file, 200, new Random(42));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void testSharedIndexesReturnTheSameRules() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(file.getPath());
+        engineFactory.setExecutionMode(false);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        assertFalse(compiledOpenClass.hasErrors(), "There are compilation errors in test");
+
+        IOpenClass openClass = compiledOpenClass.getOpenClass();
+        IRuntimeEnv env = new SimpleRulesVM().getRuntimeEnv();
+        Object target = openClass.newInstance(env);
+        DecisionTable table = getTable(openClass);
+        DecisionTableOptimizedAlgorithm shared = newAlgorithm(table, true);
+        DecisionTableOptimizedAlgorithm unshared = newAlgorithm(table, false);
+
+        assertTrue(countIndexes(shared.getIndexRoot()) < countIndexes(unshared.getIndexRoot()),
+                "The nodes with the same rules must share indexes");
+
+        for (String a : values("A", GROUPS * 2)) {
+            for (String b : values("B", B_VALUES)) {
+                for (String c : values("C", C_VALUES)) {
+                    Object[] params = { a, b, c };
+                    List<Integer> expected = linearScan(rules, a, b, c);
+                    String message = a + ", " + b + ", " + c;
+                    assertEquals(expected, toList(shared.checkedRules(target, params, env)), message);
+                    assertEquals(expected, toList(unshared.checkedRules(target, params, env)), message);
+                }
+            }
+        }
+    }
+
+    static DecisionTable getTable(IOpenClass openClass) {
+        IOpenClass[] params = { JavaOpenClass.STRING, JavaOpenClass.STRING, JavaOpenClass.STRING };
+        return (DecisionTable) openClass.getMethod("Rate", params);
+    }
+
+    static DecisionTableOptimizedAlgorithm newAlgorithm(DecisionTable table, boolean shareIndexes) {
+        IConditionEvaluator[] evaluators = new IConditionEvaluator[table.getNumberOfConditions()];
+        for (int i = 0; i < evaluators.length; i++) {
+            evaluators[i] = ((Condition) table.getCondition(i)).getConditionEvaluator();
+        }
+        return new DecisionTableOptimizedAlgorithm(evaluators, table, new IndexInfo().withTable(table), shareIndexes);
+    }
+
+    /**
+     * Writes a decision table {@code Rate(a, b, c)}. The values of the first condition are listed by pairs, so both
+     * values of a pair select the same rules, and the other conditions have empty cells matching any value.
+     *
+     * @return the values of the conditions of every rule, {@code null} for an empty cell
+     */
+    static String[][] writeRules(File file, int count, Random random) throws IOException {
+        String[][] rules = new String[count][];
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try (OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Rules");
+            int r = 0;
+            r = row(sheet, r, "Rules String Rate(String a, String b, String c)");
+            r = row(sheet, r, "C1", "C2", "C3", "RET1");
+            r = row(sheet, r, "a", "b", "c", "result");
+            r = row(sheet, r, "String[] p1", "String p2", "String p3", "String result");
+            r = row(sheet, r, "A", "B", "C", "Result");
+            for (int i = 0; i < count; i++) {
+                int group = random.nextInt(GROUPS);
+                String b = random.nextInt(10) > 0 ? "B" + random.nextInt(B_VALUES) : null;
+                String c = random.nextInt(10) > 0 ? "C" + random.nextInt(C_VALUES) : null;
+                rules[i] = new String[] { "A" + group * 2, "A" + (group * 2 + 1), b, c };
+                r = row(sheet, r, rules[i][0] + "," + rules[i][1], b, c, "R" + i);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+        }
+        return rules;
+    }
+
+    private static int row(Sheet sheet, int r, String... values) {
+        Row row = sheet.createRow(r);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+        return r + 1;
+    }
+
+    private static List<String> values(String prefix, int count) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(prefix + i);
+        }
+        // a value which is absent in the table
+        values.add(prefix + "X");
+        return values;
+    }
+
+    private static List<Integer> linearScan(String[][] rules, String a, String b, String c) {
+        List<Integer> result = new ArrayList<>();
+        for (int ruleN = 0; ruleN < rules.length; ruleN++) {
+            String[] rule = rules[ruleN];
+            boolean matchesA = rule[0].equals(a) || rule[1].equals(a);
+            if (matchesA && (rule[2] == null || rule[2].equals(b)) && (rule[3] == null || rule[3].equals(c))) {
+                result.add(ruleN);
+            }
+        }
+        return result;
+    }
+
+    private static List<Integer> toList(IIntIterator iterator) {
+        List<Integer> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.nextInt());
+        }
+        return result;
+    }
+
+    private static int countIndexes(IRuleIndex root) {
+        Set<IRuleIndex> indexes = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectIndexes(root, indexes);
+        return indexes.size();
+    }
+
+    private static void collectIndexes(IRuleIndex index, Set<IRuleIndex> indexes) {
+        if (index == null || !indexes.add(index)) {
+            return;
+        }
+        for (DecisionTableRuleNode node : index.nodes()) {
+            collectIndexes(node.getNextIndex(), indexes);
+        }
+        collectIndexes(index.getEmptyOrFormulaNodes().getNextIndex(), indexes);
+    }
+}
@@ -0,0 +1,85 @@
+package org.openl.rules.dt.algorithm.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.index.IntervalRangeIndex;
+import org.openl.rules.dt.index.RangeAscIndex;
+import org.openl.rules.dt.index.RangeDescIndex;
+import org.openl.rules.helpers.DoubleRange;
+
+public class IntervalRangeIndexTest {
+
+    @Test
+    public void testOpenAndClosedBounds() {
+        DoubleRange[] ranges = { new DoubleRange("[1; 5]"),
+                new DoubleRange("(1; 5)"),
+                new DoubleRange("[1; 5)"),
+                new DoubleRange("(1; 5]"),
+                new DoubleRange("[5; 10]"),
+                new DoubleRange("(5; 10)"),
+                new DoubleRange("[3; 3]"),
+                null,
+                new DoubleRange(">= 7"),
+                new DoubleRange("< 2") };
+        assertTheSameRulesAsLinearScan(ranges, new double[] { 0, 1, 2, 3, 5, 7, 10, 11 });
+    }
+
+    @Test
+    public void testOverlappingRanges() {
+        Random random = new Random(42);
+        DoubleRange[] ranges = new DoubleRange[200];
+        String[] left = { "[", "(" };
+        String[] right = { "]", ")" };
+        for (int i = 0; i < ranges.length; i++) {
+            if (random.nextInt(10) > 0) {
+                int from = random.nextInt(100);
+                int to = from + 1 + random.nextInt(30);
+                ranges[i] = new DoubleRange(
+                        left[random.nextInt(2)] + from + "; " + to + right[random.nextInt(2)]);
+            }
+        }
+        assertTheSameRulesAsLinearScan(ranges, new double[] { -1, 0, 50, 100, 131 });
+    }
+
+    private static void assertTheSameRulesAsLinearScan(DoubleRange[] ranges, double[] additionalValues) {
+        RangeAscIndex minIndex = RangeIndexTest.minIndex(ranges);
+        RangeDescIndex maxIndex = RangeIndexTest.maxIndex(ranges);
+        assertTrue(IntervalRangeIndex.isSuitable(minIndex, maxIndex));
+        IntervalRangeIndex index = new IntervalRangeIndex(minIndex, maxIndex, RangeIndexTest.nextNode(ranges), null);
+        DecisionTableRuleNode prevResult = RangeIndexTest.prevResult(ranges.length);
+
+        // the bounds, the values next to them and the values between them
+        TreeSet<Double> values = new TreeSet<>();
+        for (DoubleRange range : ranges) {
+            if (range != null) {
+                for (double bound : new double[] { range.getLowerBound(), range.getUpperBound() }) {
+                    if (Double.isFinite(bound)) {
+                        values.add(bound);
+                        values.add(Math.nextDown(bound));
+                        values.add(Math.nextUp(bound));
+                        values.add(bound + 0.5);
+                    }
+                }
+            }
+        }
+        for (double value : additionalValues) {
+            values.add(value);
+        }
+        for (Double value : values) {
+            assertArrayEquals(RangeIndexTest.linearScan(ranges, value, 1),
+                    index.findNode(value, null).getRules(),
+                    "value " + value);
+            assertArrayEquals(RangeIndexTest.linearScan(ranges, value, 3),
+                    index.findNode(value, prevResult).getRules(),
+                    "value " + value);
+        }
+        assertArrayEquals(RangeIndexTest.linearScan(ranges, null, 1), index.findNode(null, null).getRules());
+    }
+}
@@ -0,0 +1,136 @@
+package org.openl.rules.dt.algorithm.evaluator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.RangeIndexDecisionTableRuleNode;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.IndexNode;
+import org.openl.rules.dt.algorithm.evaluator.ARangeIndexEvaluator.RangeIndexNodeAdaptor;
+import org.openl.rules.dt.index.CombinedRangeIndex;
+import org.openl.rules.dt.index.IRuleIndex;
+import org.openl.rules.dt.index.RangeAscIndex;
+import org.openl.rules.dt.index.RangeDescIndex;
+import org.openl.rules.dt.type.DoubleRangeAdaptor;
+import org.openl.rules.dt.type.IRangeAdaptor;
+import org.openl.rules.helpers.DoubleRange;
+
+public class RangeIndexTest {
+
+    @Test
+    public void testTheSameRulesAsLinearScan() {
+        Random random = new Random(42);
+        // more bounds than the distance between the checkpoints of the indexes
+        DoubleRange[] ranges = new DoubleRange[400];
+        for (int i = 0; i < ranges.length; i++) {
+            if (random.nextInt(10) > 0) {
+                int from = random.nextInt(300);
+                ranges[i] = new DoubleRange(from, from + random.nextInt(50));
+            }
+        }
+        IRuleIndex index = new CombinedRangeIndex(minIndex(ranges), maxIndex(ranges), nextNode(ranges), null);
+        DecisionTableRuleNode prevResult = prevResult(ranges.length);
+
+        for (int value = -1; value <= 351; value++) {
+            assertArrayEquals(linearScan(ranges, (double) value, 1), index.findNode((double) value, null).getRules());
+            assertArrayEquals(linearScan(ranges, (double) value, 3),
+                    index.findNode((double) value, prevResult).getRules());
+        }
+        assertArrayEquals(linearScan(ranges, null, 1), index.findNode(null, null).getRules());
+        assertArrayEquals(linearScan(ranges, null, 3), index.findNode(null, prevResult).getRules());
+    }
+
+    /**
+     * Creates the previous result with every third rule.
+     */
+    static DecisionTableRuleNode prevResult(int rules) {
+        DecisionTableRuleNodeBuilder builder = new DecisionTableRuleNodeBuilder();
+        for (int ruleN = 0; ruleN < rules; ruleN += 3) {
+            builder.addRule(ruleN);
+        }
+        return new RangeIndexDecisionTableRuleNode(builder.makeRuleSet(), null);
+    }
+
+    /**
+     * @param step only every step rule is a candidate, like the rules of the previous result
+     */
+    static int[] linearScan(DoubleRange[] ranges, Double value, int step) {
+        List<Integer> result = new ArrayList<>();
+        for (int ruleN = 0; ruleN < ranges.length; ruleN += step) {
+            if (ranges[ruleN] == null || value != null && ranges[ruleN].contains(value)) {
+                result.add(ruleN);
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static DecisionTableRuleNode nextNode(DoubleRange[] ranges) {
+        DecisionTableRuleNodeBuilder builder = new DecisionTableRuleNodeBuilder();
+        for (int ruleN = 0; ruleN < ranges.length; ruleN++) {
+            builder.addRule(ruleN);
+        }
+        return builder.makeNode();
+    }
+
+    /**
+     * Builds the index of the lower bounds the same way as {@link CombinedRangeIndexEvaluator} does.
+     */
+    static RangeAscIndex minIndex(DoubleRange[] ranges) {
+        return new RangeAscIndex(nextNode(ranges),
+                indexNodes(ranges, DoubleRangeAdaptor.getInstance()::getMin),
+                adaptor(),
+                emptyRules(ranges));
+    }
+
+    /**
+     * Builds the index of the upper bounds the same way as {@link CombinedRangeIndexEvaluator} does.
+     */
+    static RangeDescIndex maxIndex(DoubleRange[] ranges) {
+        return new RangeDescIndex(nextNode(ranges),
+                indexNodes(ranges, DoubleRangeAdaptor.getInstance()::getMax),
+                adaptor(),
+                emptyRules(ranges));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RangeIndexNodeAdaptor adaptor() {
+        IRangeAdaptor<?, ?> rangeAdaptor = DoubleRangeAdaptor.getInstance();
+        return new RangeIndexNodeAdaptor((IRangeAdaptor<Object, ? extends Comparable<Object>>) rangeAdaptor);
+    }
+
+    private static int[] emptyRules(DoubleRange[] ranges) {
+        DecisionTableRuleNodeBuilder builder = new DecisionTableRuleNodeBuilder();
+        for (int ruleN = 0; ruleN < ranges.length; ruleN++) {
+            if (ranges[ruleN] == null) {
+                builder.addRule(ruleN);
+            }
+        }
+        return builder.makeRulesAry();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<IndexNode> indexNodes(DoubleRange[] ranges, Function<DoubleRange, Double> bound) {
+        Map<Double, DecisionTableRuleNodeBuilder> rulesByBound = new TreeMap<>();
+        for (int ruleN = 0; ruleN < ranges.length; ruleN++) {
+            if (ranges[ruleN] != null) {
+                rulesByBound.computeIfAbsent(bound.apply(ranges[ruleN]), e -> new DecisionTableRuleNodeBuilder())
+                        .addRule(ruleN);
+            }
+        }
+        List<IndexNode> result = new ArrayList<>();
+        for (Map.Entry<Double, DecisionTableRuleNodeBuilder> e : rulesByBound.entrySet()) {
+            Comparable<?> value = e.getKey();
+            result.add(new IndexNode((Comparable<Object>) value, e.getValue().makeRulesAry()));
+        }
+        return result;
+    }
+}
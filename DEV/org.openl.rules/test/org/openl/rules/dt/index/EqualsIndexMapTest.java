@@ -0,0 +1,80 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.dt.algorithm.evaluator.FloatTypeComparator;
+
+public class EqualsIndexMapTest {
+
+    @Test
+    public void testIntegralKeys() {
+        Map<Object, BitSet> map = new HashMap<>();
+        for (int i = -50; i < 50; i++) {
+            map.put(i * 7, rules(i + 50));
+        }
+        EqualsIndexMap index = EqualsIndexMap.of(map);
+
+        for (int i = -50; i < 50; i++) {
+            assertSame(map.get(i * 7), index.get(i * 7));
+        }
+        assertNull(index.get(1));
+        assertNull(index.get(7L));
+        assertNull(index.get(null));
+    }
+
+    @Test
+    public void testEnumKeys() {
+        Map<Object, BitSet> map = new HashMap<>();
+        map.put(TimeUnit.SECONDS, rules(1));
+        map.put(TimeUnit.DAYS, rules(2));
+        EqualsIndexMap index = EqualsIndexMap.of(map);
+
+        assertSame(map.get(TimeUnit.SECONDS), index.get(TimeUnit.SECONDS));
+        assertSame(map.get(TimeUnit.DAYS), index.get(TimeUnit.DAYS));
+        assertNull(index.get(TimeUnit.HOURS));
+        assertNull(index.get("DAYS"));
+    }
+
+    @Test
+    public void testFloatKeys() {
+        Map<Object, BitSet> map = new TreeMap<>(FloatTypeComparator.getInstance());
+        map.put(0.1, rules(1));
+        map.put(-2.5, rules(2));
+        map.put(1e10, rules(3));
+        EqualsIndexMap index = EqualsIndexMap.of(map);
+
+        assertSame(map.get(0.1), index.get(0.1));
+        assertSame(map.get(0.1), index.get(0.1f));
+        assertSame(map.get(-2.5), index.get(-2.5));
+        assertSame(map.get(1e10), index.get(10_000_000_000L));
+        assertNull(index.get(0.2));
+        assertNull(index.get("0.1"));
+    }
+
+    @Test
+    public void testObjectKeys() {
+        Map<Object, BitSet> map = new HashMap<>();
+        map.put("a", rules(1));
+        map.put(1, rules(2));
+        EqualsIndexMap index = EqualsIndexMap.of(map);
+
+        assertSame(map.get("a"), index.get("a"));
+        assertSame(map.get(1), index.get(1));
+        assertNull(index.get("b"));
+    }
+
+    private static BitSet rules(int ruleN) {
+        BitSet rules = new BitSet();
+        rules.set(ruleN);
+        return rules;
+    }
+}
@@ -0,0 +1,64 @@
+package org.openl.rules.dt.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.dt.DecisionTableRuleNode;
+import org.openl.rules.dt.DecisionTableRuleNodeBuilder;
+import org.openl.rules.dt.RangeIndexDecisionTableRuleNode;
+import org.openl.rules.dt.element.ConditionHelper;
+
+public class EqualsIndexV2Test {
+
+    private static final int RULES = 300;
+
+    @Test
+    public void testTheSameRulesAsLinearScan() {
+        Random random = new Random(42);
+        // null means the rule has no value and matches any value
+        Integer[] values = new Integer[RULES];
+        EqualsIndexV2.Builder builder = new EqualsIndexV2.Builder();
+        builder.setConditionCasts(ConditionHelper.getConditionCastsWithNoCasts());
+        for (int ruleN = 0; ruleN < RULES; ruleN++) {
+            builder.addRule(ruleN);
+            if (random.nextInt(10) == 0) {
+                builder.putEmptyRule(ruleN);
+            } else {
+                values[ruleN] = random.nextInt(20);
+                builder.putValueToRule(values[ruleN], ruleN);
+            }
+        }
+        EqualsIndexV2 index = builder.build();
+
+        DecisionTableRuleNodeBuilder prevBuilder = new DecisionTableRuleNodeBuilder();
+        for (int ruleN = 0; ruleN < RULES; ruleN += 3) {
+            prevBuilder.addRule(ruleN);
+        }
+        DecisionTableRuleNode prevResult = new RangeIndexDecisionTableRuleNode(prevBuilder.makeRuleSet(), null);
+
+        for (int value = -1; value <= 21; value++) {
+            assertArrayEquals(linearScan(values, value, 1), index.findNode(value, null).getRules());
+            assertArrayEquals(linearScan(values, value, 3), index.findNode(value, prevResult).getRules());
+        }
+        assertArrayEquals(linearScan(values, null, 1), index.findNode(null, null).getRules());
+        assertArrayEquals(linearScan(values, null, 3), index.findNode(null, prevResult).getRules());
+    }
+
+    /**
+     * @param step only every step rule is a candidate, like the rules of the previous result
+     */
+    private static int[] linearScan(Integer[] values, Integer value, int step) {
+        List<Integer> result = new ArrayList<>();
+        for (int ruleN = 0; ruleN < values.length; ruleN += step) {
+            if (values[ruleN] == null || value != null && values[ruleN].equals(value)) {
+                result.add(ruleN);
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -1,5 +1,7 @@
 package org.openl.rules.tbasic.runtime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -7,6 +9,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.openl.rules.tbasic.runtime.operations.GotoOperation;
 import org.openl.rules.tbasic.runtime.operations.NopOperation;
 import org.openl.rules.tbasic.runtime.operations.RuntimeOperation;
 import org.openl.types.impl.DelegatedDynamicObject;
@@ -38,4 +41,36 @@ public class TestTBasicVM {
 
         tvm.run(environment);
     }
+
+    @Test
+    public void testGoto() {
+        List<RuntimeOperation> operations = new ArrayList<>();
+        Map<String, RuntimeOperation> labels = new HashMap<>();
+
+        operations.add(new GotoOperation("end"));
+        operations.add(new ReturnValueOperation("skipped"));
+        operations.add(new ReturnValueOperation("done"));
+        labels.put("end", operations.get(2));
+
+        TBasicVM tvm = new TBasicVM(JavaOpenClass.STRING, new TBasicVMDataContext(operations, labels, true));
+
+        IRuntimeEnv simpleOpenLEnvironment = new SimpleVM().getRuntimeEnv();
+        TBasicContextHolderEnv environment = new TBasicContextHolderEnv(simpleOpenLEnvironment, null, new Object[0], tvm);
+
+        assertEquals("done", tvm.run(environment));
+        assertEquals("done", tvm.run(environment));
+    }
+
+    private static class ReturnValueOperation extends RuntimeOperation {
+        private final Object value;
+
+        ReturnValueOperation(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Result execute(TBasicContextHolderEnv environment, Object param) {
+            return new Result(ReturnType.RETURN, value);
+        }
+    }
 }
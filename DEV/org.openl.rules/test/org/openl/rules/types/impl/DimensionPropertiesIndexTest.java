@@ -0,0 +1,126 @@
+package org.openl.rules.types.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.method.ITablePropertiesMethod;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.TableProperties;
+import org.openl.types.IOpenMethod;
+import org.openl.types.impl.AMethod;
+import org.openl.vm.IRuntimeEnv;
+
+public class DimensionPropertiesIndexTest {
+
+    private static final List<String> PROPERTIES = List.of("effectiveDate", "expirationDate", "lob");
+
+    private final IPropertiesContextMatcher matcher = new DefaultPropertiesContextMatcher();
+
+    @Test
+    public void testSelectTheSameAsLinearScan() {
+        List<IOpenMethod> candidates = List.of(candidate(date(10), date(20), "A"),
+                candidate(date(15), date(30), "A", "B"),
+                candidate(date(20), null, "B"),
+                candidate(null, date(15), null),
+                candidate(date(10), date(30), "C"));
+        DimensionPropertiesIndex index = new DimensionPropertiesIndex(candidates, matcher);
+        for (int day = 5; day <= 35; day++) {
+            for (String lob : new String[] { "A", "B", "C", "D" }) {
+                IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+                context.setCurrentDate(date(day));
+                context.setLob(lob);
+                // the second select is served from the memoized entries
+                for (int i = 0; i < 2; i++) {
+                    assertEquals(linearScan(candidates, context),
+                            index.select(PROPERTIES, context, methods -> {
+                            }),
+                            "day " + day + ", lob " + lob);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        List<IOpenMethod> candidates = List.of(candidate(null, null, "A"), candidate(null, null, "B"));
+        DimensionPropertiesIndex index = new DimensionPropertiesIndex(candidates, matcher);
+        List<String> properties = List.of("lob");
+        for (int i = 0; i < 25_000; i++) {
+            IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+            context.setLob(i % 2 == 0 ? "A" : "X" + i);
+            assertEquals(linearScan(candidates, context), index.select(properties, context, methods -> {
+            }));
+        }
+        assertTrue(index.getCacheSize() <= 20_000, "Cache size " + index.getCacheSize());
+    }
+
+    private Set<IOpenMethod> linearScan(List<IOpenMethod> candidates, IRulesRuntimeContext context) {
+        Set<IOpenMethod> selected = new HashSet<>();
+        for (IOpenMethod candidate : candidates) {
+            ITableProperties properties = ((ITablePropertiesMethod) candidate).getMethodProperties();
+            boolean matched = true;
+            for (String property : PROPERTIES) {
+                if (MatchingResult.NO_MATCH.equals(matcher.match(property, properties, context))) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    private static Date date(int day) {
+        return new Date(day * 24L * 60 * 60 * 1000);
+    }
+
+    private static IOpenMethod candidate(Date effectiveDate, Date expirationDate, String... lob) {
+        TableProperties properties = new TableProperties();
+        properties.setEffectiveDate(effectiveDate);
+        properties.setExpirationDate(expirationDate);
+        properties.setLob(lob);
+        return new Candidate(properties);
+    }
+
+    private static final class Candidate extends AMethod implements ITablePropertiesMethod {
+        private final ITableProperties properties;
+
+        Candidate(ITableProperties properties) {
+            super(null);
+            this.properties = properties;
+        }
+
+        @Override
+        public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
+            return null;
+        }
+
+        @Override
+        public boolean isConstructor() {
+            return false;
+        }
+
+        @Override
+        public Map<String, Object> getProperties() {
+            return properties.getAllProperties();
+        }
+
+        @Override
+        public ITableProperties getMethodProperties() {
+            return properties;
+        }
+    }
+}
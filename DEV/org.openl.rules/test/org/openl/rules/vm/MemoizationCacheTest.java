@@ -0,0 +1,110 @@
+package org.openl.rules.vm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.IRulesRuntimeContextProvider;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.ce.SimpleRulesRuntimeEnvMT;
+import org.openl.runtime.IEngineWrapper;
+
+public class MemoizationCacheTest {
+
+    private static final String SRC = "test/rules/MemoizationTest.xlsx";
+
+    public interface Service extends IRulesRuntimeContextProvider {
+        String Random(Integer a);
+
+        String[] Calls(Integer a);
+
+        String[] ContextCalls(Integer a);
+    }
+
+    private Service instance;
+
+    @BeforeEach
+    public void init() {
+        instance = new RulesEngineFactory<>(SRC, Service.class).newEngineInstance();
+    }
+
+    @Test
+    public void testResultsAreSharedWithinRequest() {
+        String[] values = instance.Calls(1);
+        assertEquals(values[0], values[1]);
+        assertNotEquals(values[0], values[2]);
+        assertNotEquals(values[3], values[4]);
+
+        String[] values2 = instance.Calls(1);
+        assertNotEquals(values[0], values2[0]);
+        assertNotEquals(instance.Random(1), instance.Random(1));
+        assertNull(getEnv().getMemoizationCache());
+    }
+
+    @Test
+    public void testContextIsPartOfKey() {
+        instance.getRuntimeContext().setLob("A");
+        assertArrayEquals(new String[] { "1 A", "1 B", "1 A" }, instance.ContextCalls(1));
+
+        MemoizationCache cache = new MemoizationCache();
+        Object member = new Object();
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        context.setLob("A");
+        assertEquals("a", cache.invoke(member, context, new Object[] { 1 }, () -> "a"));
+        context.setLob("B");
+        assertEquals("b", cache.invoke(member, context, new Object[] { 1 }, () -> "b"));
+        context.setLob("A");
+        assertEquals("a", cache.invoke(member, context, new Object[] { 1 }, () -> "c"));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        MemoizationCache cache = new MemoizationCache();
+        getEnv().setMemoizationCache(cache);
+        try {
+            String[] values = instance.Calls(1);
+            assertEquals(values[0], instance.Random(1));
+            assertEquals(values[2], instance.Random(2));
+        } finally {
+            getEnv().setMemoizationCache(null);
+        }
+        // Calls(1), Random(1) and Random(2)
+        assertEquals(3, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testCacheIsSharedWithForkedTasks() {
+        SimpleRulesRuntimeEnv env = new SimpleRulesRuntimeEnv();
+        MemoizationCache cache = new MemoizationCache();
+        env.setMemoizationCache(cache);
+        SimpleRulesRuntimeEnvMT forked = new SimpleRulesRuntimeEnvMT(env);
+        assertSame(cache, forked.getMemoizationCache());
+        assertSame(cache, ((SimpleRulesRuntimeEnv) forked.clone()).getMemoizationCache());
+        assertSame(cache, ((SimpleRulesRuntimeEnv) env.clone()).getMemoizationCache());
+    }
+
+    @Test
+    public void testNullResult() {
+        MemoizationCache cache = new MemoizationCache();
+        Object member = new Object();
+        assertNull(cache.invoke(member, null, new Object[] { "a" }, () -> null));
+        assertNull(cache.invoke(member, null, new Object[] { "a" }, () -> "b"));
+        assertEquals("c", cache.invoke(new Object(), null, new Object[] { "a" }, () -> "c"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    private SimpleRulesRuntimeEnv getEnv() {
+        return (SimpleRulesRuntimeEnv) ((IEngineWrapper) instance).getRuntimeEnv();
+    }
+}
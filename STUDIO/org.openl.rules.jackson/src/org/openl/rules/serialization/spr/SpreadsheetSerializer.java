@@ -1,22 +1,35 @@
 package org.openl.rules.serialization.spr;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
 import org.openl.rules.calc.SpreadsheetResult;
 import org.openl.rules.calc.SpreadsheetResultBeanPropertyNamingStrategy;
 
 /**
  * Default SpreadsheetResult serializer.
+ * <p/>
+ * Field names of the spreadsheet results are encoded once per {@link CustomSpreadsheetResultOpenClass} and are
+ * reused with the resolved value serializers of the cells for the next results of the same spreadsheet.
  *
  * @author Yury Molchan
  */
 public class SpreadsheetSerializer extends StdSerializer<SpreadsheetResult> {
 
-    private SpreadsheetResultBeanPropertyNamingStrategy namingStrategy;
+    private final SpreadsheetResultBeanPropertyNamingStrategy namingStrategy;
+
+    private final WeakHashMap<CustomSpreadsheetResultOpenClass, Layout> layouts = new WeakHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
     public SpreadsheetSerializer(SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
         super(SpreadsheetResult.class);
@@ -28,33 +41,128 @@ public class SpreadsheetSerializer extends StdSerializer<SpreadsheetResult> {
         if (spr == null || spr.getColumnNames() == null || spr.getRowNames() == null) {
             return;
         }
+        Layout layout = getLayout(spr);
+        int height = layout.rowNames.length;
+        int width = layout.columnNames.length;
         jgen.writeStartObject();
-        if (spr.getWidth() == 1) {
-            for (int r = 0; r < spr.getHeight(); r++) {
-                String rowName = spr.getRowName(r);
-                writeNonNull(jgen, provider, namingStrategy.transform(rowName), spr.getValue(r, 0));
+        for (int c = 0; c < width; c++) {
+            for (int r = 0; r < height; r++) {
+                Object value = spr.getValue(r, c);
+                if (value != null) {
+                    int i = c * height + r;
+                    jgen.writeFieldName(layout.names[i]);
+                    layout.getSerializer(i, value.getClass(), provider).serialize(value, jgen, provider);
+                }
+            }
+        }
+        jgen.writeEndObject();
+    }
+
+    private Layout getLayout(SpreadsheetResult spr) {
+        CustomSpreadsheetResultOpenClass type = spr.getCustomSpreadsheetResultOpenClass();
+        if (type == null) {
+            return new Layout(spr, namingStrategy);
+        }
+        ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
+        try {
+            readLock.lock();
+            Layout layout = layouts.get(type);
+            if (layout != null && layout.matches(spr)) {
+                return layout;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        // The same type can be shared by spreadsheets with different structure, the last one is cached then
+        Layout layout = new Layout(spr, namingStrategy);
+        ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+        try {
+            writeLock.lock();
+            layouts.put(type, layout);
+        } finally {
+            writeLock.unlock();
+        }
+        return layout;
+    }
+
+    /**
+     * Field names of the cells in the order of serialization: column by column. Must not refer to the spreadsheet
+     * type to be collected by the garbage collector together with it.
+     */
+    private static final class Layout {
+        private final String[] rowNames;
+        private final String[] columnNames;
+        private final SerializedString[] names;
+        private final CellSerializer[] serializers;
+
+        private Layout(SpreadsheetResult spr, SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+            rowNames = spr.getRowNames();
+            columnNames = spr.getColumnNames();
+            int height = rowNames.length;
+            int width = columnNames.length;
+            names = new SerializedString[width * height];
+            serializers = new CellSerializer[names.length];
+            for (int c = 0; c < width; c++) {
+                for (int r = 0; r < height; r++) {
+                    String name;
+                    if (width == 1) {
+                        name = namingStrategy.transform(rowNames[r]);
+                    } else if (height == 1) {
+                        name = namingStrategy.transform(columnNames[c]);
+                    } else {
+                        name = namingStrategy.transform(columnNames[c], rowNames[r]);
+                    }
+                    names[c * height + r] = new SerializedString(name);
+                }
+            }
+        }
+
+        private boolean matches(SpreadsheetResult spr) {
+            if (spr.getHeight() != rowNames.length || spr.getWidth() != columnNames.length) {
+                return false;
             }
-        } else if (spr.getHeight() == 1) {
-            for (int c = 0; c < spr.getWidth(); c++) {
-                String columnName = spr.getColumnName(c);
-                writeNonNull(jgen, provider, namingStrategy.transform(columnName), spr.getValue(0, c));
+            for (int r = 0; r < rowNames.length; r++) {
+                if (!Objects.equals(rowNames[r], spr.getRowName(r))) {
+                    return false;
+                }
             }
-        } else {
-            for (int c = 0; c < spr.getWidth(); c++) {
-                for (int r = 0; r < spr.getHeight(); r++) {
-                    String columnName = spr.getColumnName(c);
-                    String rowName = spr.getRowName(r);
-                    Object value = spr.getValue(r, c);
-                    writeNonNull(jgen, provider, namingStrategy.transform(columnName, rowName), value);
+            for (int c = 0; c < columnNames.length; c++) {
+                if (!Objects.equals(columnNames[c], spr.getColumnName(c))) {
+                    return false;
                 }
             }
+            return true;
+        }
+
+        /**
+         * The same as {@link SerializerProvider#defaultSerializeField(String, Object, JsonGenerator)} does, but the
+         * found serializer is kept for the next values of the same type in the cell.
+         */
+        private JsonSerializer<Object> getSerializer(int cell,
+                Class<?> type,
+                SerializerProvider provider) throws IOException {
+            CellSerializer serializer = serializers[cell];
+            SerializationConfig config = provider.getConfig();
+            if (serializer == null || serializer.type != type || serializer.config != config) {
+                serializer = new CellSerializer(config, type, provider.findTypedValueSerializer(type, true, null));
+                serializers[cell] = serializer;
+            }
+            return serializer.serializer;
         }
-        jgen.writeEndObject();
     }
 
-    private static void writeNonNull(JsonGenerator jgen, SerializerProvider provider, String fieldName, Object value) throws IOException {
-        if (value != null) {
-            provider.defaultSerializeField(fieldName, value, jgen);
+    /**
+     * Resolved serializer is valid only for the same configuration of the object mapper.
+     */
+    private static final class CellSerializer {
+        private final SerializationConfig config;
+        private final Class<?> type;
+        private final JsonSerializer<Object> serializer;
+
+        private CellSerializer(SerializationConfig config, Class<?> type, JsonSerializer<Object> serializer) {
+            this.config = config;
+            this.type = type;
+            this.serializer = serializer;
         }
     }
 }
@@ -0,0 +1,122 @@
+package org.openl.rules.serialization.spr;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.calc.SpreadsheetResultBeanPropertyNamingStrategy;
+
+/**
+ * Compares {@link SpreadsheetSerializer} with the serializer which builds the field names of every cell on every
+ * call.
+ * <p>
+ * Install JMH plugin for running this benchmark.
+ * Define {@code  -prof gc } argument to collect memory stats.
+ */
+@Fork(value = 1, warmups = 1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SpreadsheetSerializerBenchmark {
+
+    @Param({"10", "50"})
+    private int size;
+
+    private SpreadsheetResult spr;
+    private ObjectMapper cached;
+    private ObjectMapper transforming;
+
+    @Setup
+    public void setup() {
+        String[] rowNames = new String[size];
+        String[] columnNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            rowNames[i] = "Row" + i;
+            columnNames[i] = "Column" + i;
+        }
+        CustomSpreadsheetResultOpenClass type = new CustomSpreadsheetResultOpenClass("Benchmark",
+                rowNames,
+                columnNames,
+                rowNames,
+                columnNames,
+                null,
+                false,
+                false,
+                true);
+        Object[][] results = new Object[size][size];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                results[r][c] = (r + c) % 3 == 0 ? "Value" + r : (double) r * c;
+            }
+        }
+        spr = new SpreadsheetResult(results, rowNames, columnNames);
+        spr.setCustomSpreadsheetResultOpenClass(type);
+        cached = mapper(new SpreadsheetSerializer(new LowerCamelCaseStrategy()));
+        transforming = mapper(new TransformingSerializer(new LowerCamelCaseStrategy()));
+    }
+
+    private static ObjectMapper mapper(StdSerializer<SpreadsheetResult> serializer) {
+        return new ObjectMapper().registerModule(new SimpleModule().addSerializer(serializer));
+    }
+
+    @Benchmark
+    public void cached() throws IOException {
+        cached.writeValue(OutputStream.nullOutputStream(), spr);
+    }
+
+    @Benchmark
+    public void transforming() throws IOException {
+        transforming.writeValue(OutputStream.nullOutputStream(), spr);
+    }
+
+    /**
+     * The previous implementation of {@link SpreadsheetSerializer}.
+     */
+    private static class TransformingSerializer extends StdSerializer<SpreadsheetResult> {
+
+        private final SpreadsheetResultBeanPropertyNamingStrategy namingStrategy;
+
+        TransformingSerializer(SpreadsheetResultBeanPropertyNamingStrategy namingStrategy) {
+            super(SpreadsheetResult.class);
+            this.namingStrategy = namingStrategy;
+        }
+
+        @Override
+        public void serialize(SpreadsheetResult spr,
+                JsonGenerator jgen,
+                SerializerProvider provider) throws IOException {
+            jgen.writeStartObject();
+            for (int c = 0; c < spr.getWidth(); c++) {
+                for (int r = 0; r < spr.getHeight(); r++) {
+                    Object value = spr.getValue(r, c);
+                    if (value != null) {
+                        String name = namingStrategy.transform(spr.getColumnName(c), spr.getRowName(r));
+                        provider.defaultSerializeField(name, value, jgen);
+                    }
+                }
+            }
+            jgen.writeEndObject();
+        }
+    }
+}
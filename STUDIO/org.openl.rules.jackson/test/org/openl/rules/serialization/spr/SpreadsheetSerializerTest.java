@@ -0,0 +1,68 @@
+package org.openl.rules.serialization.spr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.calc.SpreadsheetResult;
+
+public class SpreadsheetSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new SpreadsheetSerializer(new LowerCamelCaseStrategy())));
+
+    @Test
+    public void testFieldNames() throws Exception {
+        assertEquals("{\"a\":1,\"b\":\"x\"}",
+                mapper.writeValueAsString(spr(new String[] { "A", "B" }, new String[] { "Value" }, 1, "x")));
+        assertEquals("{\"a\":1,\"b\":2}",
+                mapper.writeValueAsString(spr(new String[] { "Value" }, new String[] { "A", "B" }, 1, 2)));
+        assertEquals("{\"aX\":1,\"bY\":true}",
+                mapper.writeValueAsString(
+                        spr(new String[] { "X", "Y" }, new String[] { "A", "B" }, 1, null, null, true)));
+    }
+
+    @Test
+    public void testLayoutIsReused() throws Exception {
+        CustomSpreadsheetResultOpenClass type = type(new String[] { "X", "Y" }, new String[] { "A", "B" });
+        SpreadsheetResult spr = spr(new String[] { "X", "Y" }, new String[] { "A", "B" }, 1, null, 2.5, "y");
+        spr.setCustomSpreadsheetResultOpenClass(type);
+        assertEquals("{\"aX\":1,\"aY\":2.5,\"bY\":\"y\"}", mapper.writeValueAsString(spr));
+
+        // Other values types in the same cells
+        spr = spr(new String[] { "X", "Y" }, new String[] { "A", "B" }, "1", 2, null, false);
+        spr.setCustomSpreadsheetResultOpenClass(type);
+        assertEquals("{\"aX\":\"1\",\"bX\":2,\"bY\":false}", mapper.writeValueAsString(spr));
+
+        // Other structure of the same type
+        spr = spr(new String[] { "Z" }, new String[] { "A", "C" }, 1, 2);
+        spr.setCustomSpreadsheetResultOpenClass(type);
+        assertEquals("{\"a\":1,\"c\":2}", mapper.writeValueAsString(spr));
+    }
+
+    /**
+     * @param values values by rows
+     */
+    private static SpreadsheetResult spr(String[] rowNames, String[] columnNames, Object... values) {
+        Object[][] results = new Object[rowNames.length][columnNames.length];
+        for (int i = 0; i < values.length; i++) {
+            results[i / columnNames.length][i % columnNames.length] = values[i];
+        }
+        return new SpreadsheetResult(results, rowNames, columnNames);
+    }
+
+    private static CustomSpreadsheetResultOpenClass type(String[] rowNames, String[] columnNames) {
+        return new CustomSpreadsheetResultOpenClass("Test",
+                rowNames,
+                columnNames,
+                rowNames,
+                columnNames,
+                null,
+                false,
+                false,
+                true);
+    }
+}
@@ -8,7 +8,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,7 +46,7 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
 
     private volatile CopyOnWriteArraySet<IDependencyLoader> dependencyLoaders;
     private final Object dependencyLoadersFlag = new Object();
-    private final LinkedHashSet<DependencyRelation> dependencyRelations = new LinkedHashSet<>();
+    private final Set<DependencyRelation> dependencyRelations = new CopyOnWriteArraySet<>();
     private final ThreadLocal<Deque<IDependencyLoader>> compilationStackThreadLocal = ThreadLocal
             .withInitial(ArrayDeque::new);
     private final Map<ProjectDescriptor, ClassLoader> externalJarsClassloaders = new HashMap<>();
@@ -171,11 +170,27 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
         return compilationStackThreadLocal.get();
     }
 
+    /**
+     * Returns the monitor which guards the compilation of the dependency. By default, all dependencies share the
+     * monitor of this manager, so they are compiled one by one. A dependency can be guarded by its own monitor only if
+     * the dependencies it depends on are never guarded by the monitor of this manager, otherwise two threads can wait
+     * for each other.
+     */
+    protected Object getCompilationMonitor(IDependencyLoader dependencyLoader) {
+        return this;
+    }
+
     // Disable cache. if cache required it should be used in loaders.
     @Override
-    public synchronized CompiledDependency loadDependency(
-            ResolvedDependency dependency) throws OpenLCompilationException {
+    public CompiledDependency loadDependency(ResolvedDependency dependency) throws OpenLCompilationException {
         final IDependencyLoader dependencyLoader = findDependencyLoaderByDependency(dependency);
+        synchronized (getCompilationMonitor(dependencyLoader)) {
+            return loadDependency(dependency, dependencyLoader);
+        }
+    }
+
+    private CompiledDependency loadDependency(ResolvedDependency dependency,
+                                              IDependencyLoader dependencyLoader) throws OpenLCompilationException {
         Deque<IDependencyLoader> compilationStack = getCompilationStack();
         try {
             if (log.isDebugEnabled()) {
@@ -387,41 +402,46 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
                 node.getModule());
     }
 
-    public synchronized ClassLoader getExternalJarsClassLoader(ProjectDescriptor project) {
+    public ClassLoader getExternalJarsClassLoader(ProjectDescriptor project) {
         Set<ProjectDescriptor> breadcrumbs = new HashSet<>();
         breadcrumbs.add(project);
         return getExternalJarsClassLoaderRec(project, breadcrumbs);
     }
 
-    public synchronized ClassLoader getExternalJarsClassLoaderRec(ProjectDescriptor project,
-                                                                  Set<ProjectDescriptor> breadcrumbs) {
+    public ClassLoader getExternalJarsClassLoaderRec(ProjectDescriptor project, Set<ProjectDescriptor> breadcrumbs) {
         getDependencyLoaders(); // Init dependency loaders
-        if (externalJarsClassloaders.get(project) != null) {
-            return externalJarsClassloaders.get(project);
-        }
-        ClassLoader parentClassLoader = rootClassLoader == null ? this.getClass().getClassLoader() : rootClassLoader;
-        OpenLClassLoader externalJarsClassloader = new OpenLClassLoader(project.getClassPathUrls(), parentClassLoader);
-        // To load classes from dependency jars first
-        if (project.getDependencies() != null) {
-            Collection<IDependencyLoader> projectDependencyLoaders = getDependencyLoaders().stream()
-                    .filter(IDependencyLoader::isProjectLoader)
-                    .collect(Collectors.toCollection(ArrayList::new));
-            for (ProjectDependencyDescriptor projectDependencyDescriptor : project.getDependencies()) {
-                for (IDependencyLoader dl : projectDependencyLoaders) {
-                    if (Objects.equals(projectDependencyDescriptor.getName(), dl.getProject().getName())) {
-                        if (!breadcrumbs.contains(dl.getProject())) {
-                            breadcrumbs.add(dl.getProject());
-                            externalJarsClassloader
-                                    .addClassLoader(getExternalJarsClassLoaderRec(dl.getProject(), breadcrumbs));
-                            breadcrumbs.remove(dl.getProject());
+        // Not guarded by the monitor of this manager, because it is used by the compilation of the dependencies which
+        // are guarded by their own monitors
+        synchronized (externalJarsClassloaders) {
+            if (externalJarsClassloaders.get(project) != null) {
+                return externalJarsClassloaders.get(project);
+            }
+            ClassLoader parentClassLoader = rootClassLoader == null ? this.getClass().getClassLoader()
+                                                                    : rootClassLoader;
+            OpenLClassLoader externalJarsClassloader = new OpenLClassLoader(project.getClassPathUrls(),
+                    parentClassLoader);
+            // To load classes from dependency jars first
+            if (project.getDependencies() != null) {
+                Collection<IDependencyLoader> projectDependencyLoaders = getDependencyLoaders().stream()
+                        .filter(IDependencyLoader::isProjectLoader)
+                        .collect(Collectors.toCollection(ArrayList::new));
+                for (ProjectDependencyDescriptor projectDependencyDescriptor : project.getDependencies()) {
+                    for (IDependencyLoader dl : projectDependencyLoaders) {
+                        if (Objects.equals(projectDependencyDescriptor.getName(), dl.getProject().getName())) {
+                            if (!breadcrumbs.contains(dl.getProject())) {
+                                breadcrumbs.add(dl.getProject());
+                                externalJarsClassloader
+                                        .addClassLoader(getExternalJarsClassLoaderRec(dl.getProject(), breadcrumbs));
+                                breadcrumbs.remove(dl.getProject());
+                            }
+                            break;
                         }
-                        break;
                     }
                 }
             }
+            externalJarsClassloaders.put(project, externalJarsClassloader);
+            return externalJarsClassloader;
         }
-        externalJarsClassloaders.put(project, externalJarsClassloader);
-        return externalJarsClassloader;
     }
 
     @Override
@@ -457,6 +477,18 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
 
     @Override
     public synchronized void reset(ResolvedDependency dependency) {
+        reset(dependency, true);
+    }
+
+    /**
+     * Remove given dependency and the dependencies that depend on it from cache.
+     *
+     * @param dependency to be cleaned from cache
+     * @param datatypesChanged if {@code false} then the classloader of the project with the classes of the datatypes
+     *            is kept, so only the given dependency and its dependants are recompiled instead of the whole project.
+     *            The classes of the unchanged datatypes are validated and reused by the next compilation.
+     */
+    public synchronized void reset(ResolvedDependency dependency, boolean datatypesChanged) {
         if (dependency == null) {
             return;
         }
@@ -482,7 +514,7 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
             if (depLoader.getRefToCompiledDependency() != null) {
                 CompiledDependency compiledDependency = depLoader.getRefToCompiledDependency();
                 IOpenClass openClass = compiledDependency.getCompiledOpenClass().getOpenClassWithErrors();
-                if (openClass instanceof XlsModuleOpenClass && ((XlsModuleOpenClass) openClass)
+                if (datatypesChanged && openClass instanceof XlsModuleOpenClass && ((XlsModuleOpenClass) openClass)
                         .isAppliedChangesToClasspath()) {
                     // Datatypes are generated into the project classloader. If module contains datatype then
                     // whole project needs to be recompiled.
@@ -519,26 +551,30 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
         for (DependencyRelation dependencyReference : dependenciesReferencesToRemove) {
             dependencyRelations.remove(dependencyReference);
         }
-        for (ProjectDescriptor projectDescriptor : projectClassloaderToReset) {
-            ClassLoader cl = externalJarsClassloaders.get(projectDescriptor);
-            if (cl != null) {
-                OpenClassUtil.releaseClassLoader(cl);
+        synchronized (externalJarsClassloaders) {
+            for (ProjectDescriptor projectDescriptor : projectClassloaderToReset) {
+                ClassLoader cl = externalJarsClassloaders.get(projectDescriptor);
+                if (cl != null) {
+                    OpenClassUtil.releaseClassLoader(cl);
+                }
+                externalJarsClassloaders.remove(projectDescriptor);
             }
-            externalJarsClassloaders.remove(projectDescriptor);
         }
     }
 
     @Override
     public synchronized void resetAll() {
-        for (ClassLoader classLoader : externalJarsClassloaders.values()) {
-            OpenClassUtil.releaseClassLoader(classLoader);
+        synchronized (externalJarsClassloaders) {
+            for (ClassLoader classLoader : externalJarsClassloaders.values()) {
+                OpenClassUtil.releaseClassLoader(classLoader);
+            }
+            externalJarsClassloaders.clear();
         }
-        externalJarsClassloaders.clear();
         getDependencyLoaders().forEach(IDependencyLoader::reset);
         dependencyRelations.clear();
     }
 
-    protected synchronized void addDependencyRelation(DependencyRelation dependencyRelation) {
+    protected void addDependencyRelation(DependencyRelation dependencyRelation) {
         dependencyRelations.add(dependencyRelation);
     }
 
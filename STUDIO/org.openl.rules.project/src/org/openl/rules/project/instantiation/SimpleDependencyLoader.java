@@ -89,7 +89,7 @@ public class SimpleDependencyLoader implements IDependencyLoader {
             return cachedDependency;
         }
         log.debug("Dependency '{}' is not found in cache.", dependency);
-        synchronized (dependencyManager) {
+        synchronized (dependencyManager.getCompilationMonitor(this)) {
             cachedDependency = compiledDependency;
             if (cachedDependency != null) {
                 log.debug("Compiled dependency '{}' is used from cache.", dependency);
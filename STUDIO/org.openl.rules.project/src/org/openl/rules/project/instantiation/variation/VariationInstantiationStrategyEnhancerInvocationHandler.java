@@ -37,6 +37,14 @@ import org.openl.vm.IRuntimeEnv;
 @Deprecated
 class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOpenLMethodHandler<Method, Method> {
 
+    /**
+     * If true then variations share the arguments they do not modify, see {@link Variation#copyArguments}. Variations
+     * of a pack are calculated concurrently, so it can be enabled only if rules do not mutate their arguments.
+     * Otherwise, all arguments are deeply cloned for every variation.
+     */
+    private static final boolean SHARE_ARGUMENTS = Boolean
+            .parseBoolean(System.getProperty("org.openl.variations.shareArguments", "false"));
+
     private final SafeCloner cloner = new SafeCloner();
 
     private final Logger log = LoggerFactory.getLogger(VariationInstantiationStrategyEnhancerInvocationHandler.class);
@@ -173,8 +181,14 @@ class VariationInstantiationStrategyEnhancerInvocationHandler extends AbstractOp
             log.warn("Variation features are not supported for Wrapper classes. This functionality is deprecated.");
         }
         for (Variation variation : variationsPack.getVariations()) {
+            Object[] variationArguments;
+            if (SHARE_ARGUMENTS) {
+                variationArguments = variation.copyArguments(arguments, cloner);
+            } else {
+                variationArguments = cloner.deepClone(arguments);
+            }
             final VariationCalculationTask item = new VariationCalculationTask(member,
-                    cloner.deepClone(arguments),
+                    variationArguments,
                     variation,
                     parentRuntimeEnv.clone());
             tasks.add(item);
@@ -0,0 +1,79 @@
+package org.openl.rules.project.instantiation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.openl.dependency.ResolvedDependency;
+import org.openl.rules.lang.xls.types.DatatypeOpenClass;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.types.IOpenClass;
+
+public class DependencyManagerResetTest {
+
+    private static final String SRC = "test-resources/dependencies/testImports/project2";
+    private static final String SRC_WORKSPACE = "test-resources/dependencies/testImports";
+
+    private AbstractDependencyManager dependencyManager;
+    private ProjectDescriptor project;
+    private ResolvedDependency datatypesModule;
+    private ResolvedDependency projectDependency;
+
+    @BeforeEach
+    public void init() throws Exception {
+        SimpleProjectEngineFactory<Object> factory = new SimpleProjectEngineFactory.SimpleProjectEngineFactoryBuilder<>()
+                .setProject(SRC)
+                .setExecutionMode(false)
+                .setWorkspace(SRC_WORKSPACE)
+                .build();
+        dependencyManager = (AbstractDependencyManager) factory.getDependencyManager();
+        project = factory.getProjectDescriptor();
+        datatypesModule = AbstractDependencyManager.buildResolvedDependency(project.getName(), "home-test-datatypes");
+        projectDependency = AbstractDependencyManager.buildResolvedDependency(project);
+        assertFalse(dependencyManager.loadDependency(projectDependency).getCompiledOpenClass().hasErrors());
+    }
+
+    @Test
+    public void testResetWithoutDatatypeChanges() throws Exception {
+        ClassLoader classLoader = dependencyManager.getExternalJarsClassLoader(project);
+        Class<?> datatype = getDatatypeClass();
+
+        dependencyManager.reset(datatypesModule, false);
+
+        assertNull(dependencyManager.findDependencyLoader(datatypesModule).getRefToCompiledDependency());
+        assertNull(dependencyManager.findDependencyLoader(projectDependency).getRefToCompiledDependency());
+        assertSame(classLoader, dependencyManager.getExternalJarsClassLoader(project));
+        assertFalse(dependencyManager.loadDependency(projectDependency).getCompiledOpenClass().hasErrors());
+        assertSame(datatype, getDatatypeClass());
+    }
+
+    @Test
+    public void testResetWithDatatypeChanges() throws Exception {
+        ClassLoader classLoader = dependencyManager.getExternalJarsClassLoader(project);
+        Class<?> datatype = getDatatypeClass();
+
+        dependencyManager.reset(datatypesModule);
+
+        assertNull(dependencyManager.findDependencyLoader(datatypesModule).getRefToCompiledDependency());
+        assertNull(dependencyManager.findDependencyLoader(projectDependency).getRefToCompiledDependency());
+        assertNotSame(classLoader, dependencyManager.getExternalJarsClassLoader(project));
+        assertFalse(dependencyManager.loadDependency(projectDependency).getCompiledOpenClass().hasErrors());
+        assertNotSame(datatype, getDatatypeClass());
+    }
+
+    private Class<?> getDatatypeClass() throws Exception {
+        IOpenClass openClass = dependencyManager.loadDependency(datatypesModule)
+                .getCompiledOpenClass()
+                .getOpenClassWithErrors();
+        return openClass.getTypes()
+                .stream()
+                .filter(DatatypeOpenClass.class::isInstance)
+                .findFirst()
+                .map(IOpenClass::getInstanceClass)
+                .orElseThrow();
+    }
+}
@@ -2,6 +2,9 @@ package org.openl.rules.project.instantiation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -15,6 +18,7 @@ import org.openl.dependency.IDependencyManager;
 import org.openl.generated.test.beans.Driver;
 import org.openl.generated.test.beans.Policy;
 import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.project.SafeCloner;
 import org.openl.rules.project.instantiation.variation.VariationInstantiationStrategyEnhancer;
 import org.openl.rules.project.instantiation.variation.VariationInstantiationStrategyEnhancerHelper;
 import org.openl.rules.project.model.ProjectDescriptor;
@@ -129,6 +133,37 @@ public class VariationsTest {
                 1090.0);
     }
 
+    @Test
+    public void testJXPathVariationCopiesModifiedObjectsOnly() throws Exception {
+        VariationInstantiationStrategyEnhancer variationsEnhancer = new VariationInstantiationStrategyEnhancer(
+                instantiationStrategy);
+        variationsEnhancer.setServiceClass(EnhancedInterface.class);
+        EnhancedInterface instance = (EnhancedInterface) variationsEnhancer.instantiate();
+        Policy policy = instance.getPolicyProfile1()[0];
+        Driver[] drivers = policy.getDrivers().clone();
+
+        Object[] arguments = {policy, drivers};
+        JXPathVariation variation = new JXPathVariation("young", 0, "drivers[name = 'Sara']/age", 17);
+        Object[] modifiedArguments = variation.applyModification(variation.copyArguments(arguments, new SafeCloner()));
+
+        Policy modifiedPolicy = (Policy) modifiedArguments[0];
+        assertNotSame(policy, modifiedPolicy);
+        assertNotSame(policy.getDrivers(), modifiedPolicy.getDrivers());
+        assertSame(policy.getVehicles(), modifiedPolicy.getVehicles());
+        for (int i = 0; i < drivers.length; i++) {
+            Driver modifiedDriver = modifiedPolicy.getDrivers()[i];
+            if ("Sara".equals(drivers[i].getName())) {
+                assertNotSame(drivers[i], modifiedDriver);
+                assertEquals(17, modifiedDriver.getAge());
+                assertNotEquals(17, drivers[i].getAge());
+            } else {
+                assertSame(drivers[i], modifiedDriver);
+            }
+        }
+        assertSame(drivers, modifiedArguments[1]);
+        assertSame(policy, arguments[0]);
+    }
+
     @Test
     public void testArgumentReplacementVariation() throws Exception {
         VariationInstantiationStrategyEnhancer variationsEnhancer = new VariationInstantiationStrategyEnhancer(
@@ -67,7 +67,8 @@ public interface Repository extends AutoCloseable {
     FileData check(String name) throws IOException;
 
     /**
-     * Read a file by the given path name.
+     * Read a file by the given path name. The stream of the returned file must be closed by the caller, because it can
+     * hold resources of the repository, for example, a database connection.
      *
      * @param name the path name of the file to read.
      * @return the file descriptor or null if the file is absent.
@@ -143,7 +144,7 @@ public interface Repository extends AutoCloseable {
 
     /**
      * Read a file by the given path name of the given version. If the version is null, then it will work like
-     * {@link #read(String)} method.
+     * {@link #read(String)} method. The stream of the returned file must be closed by the caller.
      *
      * @param name    the path name of the file to read.
      * @param version the version of the file to read, can be null.
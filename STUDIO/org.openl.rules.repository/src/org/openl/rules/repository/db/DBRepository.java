@@ -1,10 +1,14 @@
 package org.openl.rules.repository.db;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -32,6 +36,11 @@ import org.openl.util.StringUtils;
 import org.openl.util.db.JDBCDriverRegister;
 import org.openl.util.db.SqlDBUtils;
 
+/**
+ * Repository which stores files in a database. The content of a file is streamed from the database, so the stream of a
+ * read file holds a connection from the pool until it is closed. Callers must close the streams of the read files,
+ * otherwise the pool is exhausted.
+ */
 abstract class DBRepository implements Repository, Closeable {
     private static final Logger LOG = LoggerFactory.getLogger(DBRepository.class);
 
@@ -40,6 +49,7 @@ abstract class DBRepository implements Repository, Closeable {
     private volatile Settings settings;
     private ChangesMonitor monitor;
     private int listenerTimerPeriod = 10;
+    private Path cachePath;
 
     private volatile boolean initialized = false;
 
@@ -65,6 +75,14 @@ abstract class DBRepository implements Repository, Closeable {
         this.listenerTimerPeriod = listenerTimerPeriod;
     }
 
+    /**
+     * Sets the folder where the read files are stored by their versions. The files are read from the database only
+     * if their versions have not been cached yet, for example, after restart of the application.
+     */
+    public void setCachePath(String cachePath) {
+        this.cachePath = Paths.get(cachePath).toAbsolutePath().normalize();
+    }
+
     @Override
     public List<FileData> list(String path) throws IOException {
         Connection connection = null;
@@ -102,31 +120,24 @@ abstract class DBRepository implements Repository, Closeable {
 
     @Override
     public FileItem read(String name) throws IOException {
+        if (cachePath != null) {
+            FileItem cached = readFromCache(check(name));
+            if (cached != null) {
+                return cached;
+            }
+        }
         Connection connection = null;
         PreparedStatement statement = null;
-        ResultSet rs = null;
         try {
             connection = getConnection();
             statement = connection.prepareStatement(settings.readActualFile);
             statement.setString(1, name);
-            rs = statement.executeQuery();
-
-            FileItem fileItem = null;
-            if (rs.next()) {
-                fileItem = createFileItem(rs);
-            }
-
-            rs.close();
-            statement.close();
-
-            return fileItem;
         } catch (SQLException e) {
-            throw new IOException(e);
-        } finally {
-            SqlDBUtils.safeClose(rs);
             SqlDBUtils.safeClose(statement);
             SqlDBUtils.safeClose(connection);
+            throw new IOException(e);
         }
+        return readFileItem(connection, statement);
     }
 
     @Override
@@ -272,32 +283,25 @@ abstract class DBRepository implements Repository, Closeable {
 
     @Override
     public FileItem readHistory(String name, String version) throws IOException {
+        if (cachePath != null) {
+            FileItem cached = readFromCache(getHistoryVersionFileData(name, version));
+            if (cached != null) {
+                return cached;
+            }
+        }
         Connection connection = null;
         PreparedStatement statement = null;
-        ResultSet rs = null;
         try {
             connection = getConnection();
             statement = connection.prepareStatement(settings.readHistoricFile);
             statement.setLong(1, Long.parseLong(version));
             statement.setString(2, name);
-            rs = statement.executeQuery();
-
-            FileItem fileItem = null;
-            if (rs.next()) {
-                fileItem = createFileItem(rs);
-            }
-
-            rs.close();
-            statement.close();
-
-            return fileItem;
         } catch (SQLException e) {
-            throw new IOException(e);
-        } finally {
-            SqlDBUtils.safeClose(rs);
             SqlDBUtils.safeClose(statement);
             SqlDBUtils.safeClose(connection);
+            throw new IOException(e);
         }
+        return readFileItem(connection, statement);
     }
 
     @Override
@@ -477,22 +481,119 @@ abstract class DBRepository implements Repository, Closeable {
         }
     }
 
-    private FileItem createFileItem(ResultSet rs) throws SQLException {
-        FileData fileData = createFileData(rs);
-        InputStream data = rs.getBinaryStream("file_data");
-        if (data == null) {
+    /**
+     * Executes the query of the file. The file content is not loaded into memory: the connection stays open until the
+     * stream of the returned file is closed, or the content is copied to the cache if it is enabled. If the content
+     * cannot be cached, the query is executed again and the content is streamed.
+     */
+    private FileItem readFileItem(Connection connection, PreparedStatement statement) throws IOException {
+        ResultSet rs = null;
+        boolean streaming = false;
+        try {
+            rs = statement.executeQuery();
+            if (!rs.next()) {
+                return null;
+            }
+            FileData fileData = createFileData(rs);
+            InputStream data = rs.getBinaryStream("file_data");
+            if (data == null) {
+                return null;
+            }
+            if (cachePath != null) {
+                try {
+                    FileItem cached = writeToCache(fileData, data);
+                    if (cached != null) {
+                        return cached;
+                    }
+                } catch (IOException e) {
+                    LOG.warn("Cannot cache file '{}'. The file is read from the database.", fileData.getName(), e);
+                    // The stream has been consumed partially, so the row is queried again
+                    SqlDBUtils.safeClose(rs);
+                    rs = statement.executeQuery();
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    data = rs.getBinaryStream("file_data");
+                    if (data == null) {
+                        return null;
+                    }
+                }
+            }
+            streaming = true;
+            return new FileItem(fileData, new ResultSetInputStream(data, rs, statement, connection));
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            if (!streaming) {
+                SqlDBUtils.safeClose(rs);
+                SqlDBUtils.safeClose(statement);
+                SqlDBUtils.safeClose(connection);
+            }
+        }
+    }
+
+    /**
+     * @return the cached file or null if the file is absent in the repository or its version is not cached
+     */
+    private FileItem readFromCache(FileData fileData) throws IOException {
+        if (fileData == null || fileData.isDeleted()) {
             return null;
         }
+        Path file = getCachedFile(fileData);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return new FileItem(fileData, Files.newInputStream(file));
+        } catch (IOException e) {
+            // The file has been removed after the check, for example, by another version
+            LOG.debug("Cannot read cached file '{}'.", file, e);
+            return null;
+        }
+    }
 
-        // ResultSet will be closed, so InputStream can be closed too, that's
-        // why copy it to byte array before.
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+    /**
+     * Copies the content to the cache and removes cached files of the other versions.
+     *
+     * @return the cached file or null if the file cannot be cached
+     */
+    private FileItem writeToCache(FileData fileData, InputStream data) throws IOException {
+        Path file = getCachedFile(fileData);
+        if (file == null) {
+            return null;
+        }
+        Path folder = file.getParent();
+        Files.createDirectories(folder);
+        Path temp = Files.createTempFile(folder, null, ".tmp");
         try {
-            data.transferTo(out);
+            Files.copy(data, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(folder, p -> !p.equals(file) && !p
+                .getFileName()
+                .toString()
+                .endsWith(".tmp"))) {
+            for (Path version : versions) {
+                Files.deleteIfExists(version);
+            }
         } catch (IOException e) {
-            throw new SQLException(e);
+            LOG.debug("Cannot remove outdated versions of cached file '{}'.", fileData.getName(), e);
+        }
+        return new FileItem(fileData, Files.newInputStream(file));
+    }
+
+    /**
+     * @return the path of the cached version of the file, or null if the name cannot be used as a path in the cache
+     */
+    private Path getCachedFile(FileData fileData) {
+        Path folder = cachePath.resolve(fileData.getName()).normalize();
+        if (!folder.startsWith(cachePath) || folder.equals(cachePath)) {
+            return null;
         }
-        return new FileItem(fileData, new ByteArrayInputStream(out.toByteArray()));
+        return folder.resolve(fileData.getVersion());
     }
 
     private FileData createFileData(ResultSet rs) throws SQLException {
@@ -507,6 +608,38 @@ abstract class DBRepository implements Repository, Closeable {
         return fileData;
     }
 
+    /**
+     * Closes the result set, the statement and the connection of the file when the stream of the file is closed.
+     */
+    private static final class ResultSetInputStream extends FilterInputStream {
+        private final ResultSet rs;
+        private final Statement statement;
+        private final Connection connection;
+        private boolean closed;
+
+        private ResultSetInputStream(InputStream in, ResultSet rs, Statement statement, Connection connection) {
+            super(in);
+            this.rs = rs;
+            this.statement = statement;
+            this.connection = connection;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                SqlDBUtils.safeClose(rs);
+                SqlDBUtils.safeClose(statement);
+                SqlDBUtils.safeClose(connection);
+            }
+        }
+    }
+
     private String makePathPattern(String path) {
         return path.replace("$", "$$").replace("%", "$%") + "%";
     }
@@ -0,0 +1,104 @@
+package org.openl.rules.repository.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.openl.rules.repository.api.FileData;
+import org.openl.rules.repository.api.FileItem;
+
+public class JdbcDBRepositoryTest {
+
+    @TempDir
+    Path cache;
+
+    private JdbcDBRepository repo;
+
+    @BeforeEach
+    public void setUp() {
+        repo = new JdbcDBRepository();
+        repo.setUri("jdbc:h2:mem:JdbcDBRepositoryTest;DB_CLOSE_DELAY=-1");
+        repo.initialize();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        for (FileData file : repo.list("")) {
+            file.setVersion(null);
+            repo.deleteHistory(file);
+        }
+        repo.close();
+    }
+
+    @Test
+    public void testStreamingRead() throws IOException {
+        String version1 = save("deploy/project.zip", "first");
+        save("deploy/project.zip", "second");
+
+        assertEquals("second", read(repo.read("deploy/project.zip")));
+        assertEquals("first", read(repo.readHistory("deploy/project.zip", version1)));
+        assertNull(repo.read("deploy/absent.zip"));
+
+        // Unclosed streams do not prevent other queries
+        FileItem unread = repo.read("deploy/project.zip");
+        assertEquals(2, repo.listHistory("deploy/project.zip").size());
+        unread.close();
+    }
+
+    @Test
+    public void testCache() throws IOException {
+        repo.setCachePath(cache.toString());
+        String version1 = save("deploy/project.zip", "first");
+
+        assertEquals("first", read(repo.read("deploy/project.zip")));
+        Path cached1 = cache.resolve("deploy/project.zip").resolve(version1);
+        assertTrue(Files.isRegularFile(cached1));
+
+        // Read the cached version without the database
+        Files.writeString(cached1, "cached");
+        assertEquals("cached", read(repo.read("deploy/project.zip")));
+
+        String version2 = save("deploy/project.zip", "second");
+        assertEquals("second", read(repo.read("deploy/project.zip")));
+        assertTrue(Files.isRegularFile(cache.resolve("deploy/project.zip").resolve(version2)));
+        assertFalse(Files.exists(cached1));
+
+        assertEquals("first", read(repo.readHistory("deploy/project.zip", version1)));
+    }
+
+    @Test
+    public void testReadIfCannotCache() throws IOException {
+        repo.setCachePath(cache.toString());
+        save("deploy/project.zip", "first");
+        // The folder of the cached versions cannot be created
+        Files.writeString(cache.resolve("deploy"), "file");
+
+        assertEquals("first", read(repo.read("deploy/project.zip")));
+        assertEquals("first", read(repo.read("deploy/project.zip")));
+    }
+
+    private String save(String name, String content) throws IOException {
+        FileData data = new FileData();
+        data.setName(name);
+        repo.save(data, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return repo.check(name).getVersion();
+    }
+
+    private static String read(FileItem item) throws IOException {
+        try (item) {
+            return new String(item.getStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Variation for replacement of value of some argument.
  * <p>
@@ -61,6 +63,14 @@ public class ArgumentReplacementVariation extends Variation {
         modifiedArguments[updatedArgumentIndex] = previousValue;
     }
 
+    /**
+     * The argument is replaced in the arguments array only, so arguments themselves are shared.
+     */
+    @Override
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        return originalArguments.clone();
+    }
+
     /**
      * @return Index of arguments to be modified.
      */
@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Complex variation combines multiple variations that all will be applied to arguments sequentially.
  *
@@ -86,6 +88,15 @@ public class ComplexVariation extends Variation {
         }
     }
 
+    @Override
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        Object[] arguments = originalArguments;
+        for (Variation variation : variations) {
+            arguments = variation.copyArguments(arguments, cloner);
+        }
+        return arguments;
+    }
+
     public Variation[] getVariations() {
         return variations;
     }
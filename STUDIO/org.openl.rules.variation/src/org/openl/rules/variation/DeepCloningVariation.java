@@ -77,6 +77,14 @@ public class DeepCloningVariation extends Variation {
     public void revertModifications(Object[] modifiedArguments, Object previousValue) {
     }
 
+    /**
+     * Arguments are cloned by this variation itself before the modification.
+     */
+    @Override
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        return originalArguments.clone();
+    }
+
     /**
      * @return Wrapped variation.
      */
@@ -1,7 +1,12 @@
 package org.openl.rules.variation;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
 import org.apache.commons.jxpath.CompiledExpression;
 import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.jxpath.Pointer;
@@ -17,6 +22,11 @@ import org.apache.commons.jxpath.Pointer;
 @XmlRootElement
 @Deprecated
 public class JXPathVariation extends Variation {
+    /**
+     * A step of the path which can be copied on write: a property with an optional predicate.
+     */
+    private static final Pattern STEP = Pattern.compile("([A-Za-z_$][\\w$]*)(\\[[^\\[\\]/]*])?");
+
     private int updatedArgumentIndex;
     private String path;
     private Object valueToSet;
@@ -90,6 +100,88 @@ public class JXPathVariation extends Variation {
         compiledExpression.setValue(context, previousValue);
     }
 
+    /**
+     * Copies only the modified argument and only objects on the path to the modified field. Other objects are shared
+     * with the original arguments. If the path cannot be followed, the modified argument is deeply cloned.
+     */
+    @Override
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        Object[] arguments = originalArguments.clone();
+        if (updatedArgumentIndex < arguments.length) {
+            arguments[updatedArgumentIndex] = copyPath(arguments[updatedArgumentIndex], cloner);
+        }
+        return arguments;
+    }
+
+    private Object copyPath(Object argument, Cloner cloner) {
+        String[] steps = path.split("/");
+        for (String step : steps) {
+            if (!STEP.matcher(step).matches()) {
+                return cloner.deepClone(argument);
+            }
+        }
+        if (argument == null || isContainer(argument)) {
+            return cloner.deepClone(argument);
+        }
+        Object copy = cloner.shallowClone(argument);
+        try {
+            JXPathContext context = JXPathContext.newContext(copy);
+            StringBuilder prefix = new StringBuilder();
+            for (int i = 0; i < steps.length; i++) {
+                Matcher step = STEP.matcher(steps[i]);
+                step.matches();
+                if (prefix.length() > 0) {
+                    prefix.append('/');
+                }
+                int prefixLength = prefix.length();
+                if (step.group(2) != null) {
+                    // copy the array to replace the selected element
+                    prefix.append(step.group(1));
+                    if (!copyValue(context, prefix.toString(), cloner, true)) {
+                        break;
+                    }
+                    prefix.setLength(prefixLength);
+                }
+                prefix.append(steps[i]);
+                if (i == steps.length - 1 || !copyValue(context, prefix.toString(), cloner, false)) {
+                    // the last object is set by the variation itself
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            return cloner.deepClone(argument);
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces the value of the path with its copy.
+     *
+     * @return true if the path can be followed further in the copy
+     */
+    private static boolean copyValue(JXPathContext context, String path, Cloner cloner, boolean shallowArray) {
+        Pointer pointer = context.getPointer(path);
+        Object value = pointer.getValue();
+        if (value == null) {
+            return false;
+        }
+        if (shallowArray && value.getClass().isArray()) {
+            pointer.setValue(cloner.shallowClone(value));
+            return true;
+        }
+        if (isContainer(value)) {
+            // elements of collections cannot be replaced separately
+            pointer.setValue(cloner.deepClone(value));
+            return false;
+        }
+        pointer.setValue(cloner.shallowClone(value));
+        return true;
+    }
+
+    private static boolean isContainer(Object value) {
+        return value.getClass().isArray() || value instanceof Collection || value instanceof Map;
+    }
+
     /**
      * @return Index of arguments to be modified.
      */
@@ -2,6 +2,8 @@ package org.openl.rules.variation;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Empty variation that represents original calculation without any changes of arguments.
  *
@@ -33,4 +35,9 @@ public class NoVariation extends Variation {
     public Object currentValue(Object[] originalArguments) {
         return null;
     }
+
+    @Override
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        return originalArguments.clone();
+    }
 }
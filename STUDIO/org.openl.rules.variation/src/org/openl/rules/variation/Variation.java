@@ -4,6 +4,8 @@ import java.util.UUID;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlSeeAlso;
 
+import com.rits.cloning.Cloner;
+
 /**
  * Common variations class. It should have unique ID and handle two phases: modifying arguments before the calculations
  * and rolling back changes after execution.
@@ -75,4 +77,23 @@ public abstract class Variation {
      */
     public abstract void revertModifications(Object[] modifiedArguments, Object previousValue);
 
+    /**
+     * Copies arguments before the calculation of this variation, so the modification does not affect the original
+     * arguments and other variations. Objects which are not modified by the variation can be shared with the original
+     * arguments.
+     * <p>
+     * It is used only if the {@code org.openl.variations.shareArguments} system property is {@code true}, otherwise all
+     * arguments are deeply cloned. Variations are calculated concurrently, so rules must not mutate arguments when the
+     * sharing is enabled.
+     * <p>
+     * By default all arguments are deeply cloned.
+     *
+     * @param originalArguments Original arguments for calculation.
+     * @param cloner            The cloner to copy objects.
+     * @return Arguments to be modified by this variation.
+     */
+    public Object[] copyArguments(Object[] originalArguments, Cloner cloner) {
+        return cloner.deepClone(originalArguments);
+    }
+
 }
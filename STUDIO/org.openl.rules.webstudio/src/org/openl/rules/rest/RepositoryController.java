@@ -209,6 +209,8 @@ public class RepositoryController {
                 }
                 if (!designRepositoryAclService
                         .isGranted(repository.getId(), fileItem.getData().getName(), List.of(AclPermission.VIEW))) {
+                    // The stream can hold a connection to the repository
+                    IOUtils.closeQuietly(fileItem);
                     throw new SecurityException();
                 }
                 entity = fileItem.getStream();
@@ -1095,6 +1095,16 @@ public class ProjectModel {
     }
 
     public synchronized void reset(ReloadType reloadType, Module moduleToOpen) throws Exception {
+        reset(reloadType, moduleToOpen, true);
+    }
+
+    /**
+     * @param datatypesChanged is used for {@link ReloadType#SINGLE} only. If {@code false} then only the module and
+     *            the modules that depend on it are recompiled, other modules of the project are kept compiled.
+     */
+    public synchronized void reset(ReloadType reloadType,
+                                   Module moduleToOpen,
+                                   boolean datatypesChanged) throws Exception {
         switch (reloadType) {
             case FORCED:
                 moduleToOpen = studio.getCurrentModule();
@@ -1111,7 +1121,7 @@ public class ProjectModel {
                 break;
             case SINGLE:
                 webStudioWorkspaceDependencyManager
-                        .reset(AbstractDependencyManager.buildResolvedDependency(moduleToOpen));
+                        .reset(AbstractDependencyManager.buildResolvedDependency(moduleToOpen), datatypesChanged);
                 break;
         }
         setModuleInfo(moduleToOpen, reloadType);
@@ -37,6 +37,7 @@ import org.openl.rules.common.CommonUser;
 import org.openl.rules.common.ProjectException;
 import org.openl.rules.common.ProjectVersion;
 import org.openl.rules.lang.xls.IXlsTableNames;
+import org.openl.rules.lang.xls.XlsNodeTypes;
 import org.openl.rules.project.abstraction.AProject;
 import org.openl.rules.project.abstraction.AProjectArtefact;
 import org.openl.rules.project.abstraction.AProjectResource;
@@ -58,6 +59,7 @@ import org.openl.rules.repository.api.Repository;
 import org.openl.rules.repository.git.MergeConflictException;
 import org.openl.rules.rest.ProjectHistoryService;
 import org.openl.rules.rest.exception.NotFoundException;
+import org.openl.rules.table.IOpenLTable;
 import org.openl.rules.testmethod.TestSuiteExecutor;
 import org.openl.rules.ui.tree.view.Profile;
 import org.openl.rules.ui.tree.view.RulesTreeView;
@@ -150,6 +152,7 @@ public class WebStudio implements DesignTimeRepositoryListener {
     private boolean forcedCompile = true;
     private boolean needCompile = true;
     private boolean manualCompile = false;
+    private boolean datatypesChanged = true;
     private final Map<String, Object> externalProperties;
 
     private final List<ProjectFile> uploadedFiles = new ArrayList<>();
@@ -473,7 +476,23 @@ public class WebStudio implements DesignTimeRepositoryListener {
     }
 
     public void compile() {
+        compile(null);
+    }
+
+    /**
+     * Marks the current module to be recompiled. If only the tables that do not define datatypes or environment are
+     * modified, then the generated classes of the datatypes are kept, and only the current module and the modules
+     * that depend on it are recompiled. The current module itself is always compiled as a whole, so the edits of a
+     * project with a single module cost as much as before.
+     *
+     * @param table modified table or {@code null} if the modification is unknown
+     */
+    public void compile(IOpenLTable table) {
         needCompile = true;
+        if (table == null || XlsNodeTypes.XLS_DATATYPE.toString().equals(table.getType())
+                || XlsNodeTypes.XLS_ENVIRONMENT.toString().equals(table.getType())) {
+            datatypesChanged = true;
+        }
     }
 
     public synchronized void resetProjects() {
@@ -496,7 +515,7 @@ public class WebStudio implements DesignTimeRepositoryListener {
 
     private void reset(ReloadType reloadType) {
         try {
-            model.reset(reloadType, currentModule);
+            model.reset(reloadType, currentModule, datatypesChanged);
         } catch (Exception e) {
             log.error("Error when trying to reset studio model", e);
         }
@@ -602,6 +621,7 @@ public class WebStudio implements DesignTimeRepositoryListener {
                 needCompile = false;
                 forcedCompile = false;
                 manualCompile = false;
+                datatypesChanged = false;
             }
         } catch (Exception e) {
             log.error("Failed initialization. Project='{}'  Module='{}'", projectName, moduleName, e);
@@ -230,9 +230,9 @@ public class WebStudioWorkspaceRelatedDependencyManager extends AbstractDependen
     }
 
     @Override
-    public void reset(ResolvedDependency dependency) {
+    public void reset(ResolvedDependency dependency, boolean datatypesChanged) {
         version.incrementAndGet();
-        super.reset(dependency);
+        super.reset(dependency, datatypesChanged);
     }
 
     @Override
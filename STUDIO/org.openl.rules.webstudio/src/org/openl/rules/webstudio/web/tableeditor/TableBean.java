@@ -267,7 +267,7 @@ public class TableBean {
                     .getSessionMap()
                     .remove(org.openl.rules.tableeditor.util.Constants.TABLE_EDITOR_MODEL_NAME);
 
-            studio.compile();
+            studio.compile(table);
             RecentlyVisitedTables visitedTables = studio.getModel().getRecentlyVisitedTables();
             visitedTables.remove(table);
         } catch (Exception e) {
@@ -317,7 +317,7 @@ public class TableBean {
     public void afterSaveAction(String newId) {
         final WebStudio studio = WebStudioUtils.getWebStudio();
         studio.releaseProject(studio.getCurrentProject().getName());
-        studio.compile();
+        studio.compile(table);
     }
 
     public String getRequestId() {
@@ -300,7 +300,7 @@ public class TableDetailsBean {
                 EditHelper.updateSystemProperties(table, tableEditorModel, propertyResolver.getProperty("user.mode"));
             }
             this.id = tableEditorModel.save();
-            studio.compile();
+            studio.compile(table);
         }
 
         table.getGridTable().stopEditing();
@@ -72,12 +72,19 @@ class ZipFolderRepository implements Repository {
         String artefactName = name.substring(zipPath.length() + 1);
 
         ZipInputStream zipInputStream = getZipInputStream();
-        ZipEntry entry;
-        while ((entry = zipInputStream.getNextEntry()) != null) {
-            if (entry.getName().equals(artefactName)) {
-                return new FileItem(createFileData(entry), zipInputStream);
+        try {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (entry.getName().equals(artefactName)) {
+                    return new FileItem(createFileData(entry), zipInputStream);
+                }
             }
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(zipInputStream);
+            throw e;
         }
+        // The stream of the archive can hold a connection to the repository
+        IOUtils.closeQuietly(zipInputStream);
         return null;
     }
 
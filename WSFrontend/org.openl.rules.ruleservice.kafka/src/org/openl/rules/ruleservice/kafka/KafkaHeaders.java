@@ -5,6 +5,7 @@ public interface KafkaHeaders {
 
     String METHOD_NAME = "methodName";
     String METHOD_PARAMETERS = "methodParameters";
+    String RESULT_FIELDS = "resultFields";
     String CORRELATION_ID = PREFIX + "correlationId";
     String REPLY_PARTITION = PREFIX + "replyPartition";
     String REPLY_TOPIC = PREFIX + "replyTopic";
@@ -114,6 +114,7 @@ public class JAXRSOpenLServiceEnhancerHelper {
         private final Set<String> nicknames = new HashSet<>();
         private final boolean provideRuntimeContext;
         private final boolean provideVariations;
+        private final String[] mediaTypes;
         private Set<String> usedOpenApiComponentNamesWithRequestParameterSuffix = null;
         private final Object targetService;
 
@@ -124,12 +125,14 @@ public class JAXRSOpenLServiceEnhancerHelper {
                                                      Object targetService,
                                                      ClassLoader classLoader,
                                                      boolean provideRuntimeContext,
-                                                     boolean provideVariations) {
+                                                     boolean provideVariations,
+                                                     String[] mediaTypes) {
             super(Opcodes.ASM5, arg0);
             this.originalClass = Objects.requireNonNull(originalClass, "originalClass cannot be null");
             this.classLoader = classLoader;
             this.provideRuntimeContext = provideRuntimeContext;
             this.provideVariations = provideVariations;
+            this.mediaTypes = mediaTypes;
             this.targetService = targetService;
 
             this.originalClassMethodsByName = ASMUtils.buildMap(originalClass);
@@ -697,18 +700,24 @@ public class JAXRSOpenLServiceEnhancerHelper {
 
         private void addProducesAnnotation(ClassVisitor cv) {
             AnnotationVisitor av = cv.visitAnnotation(Type.getDescriptor(Produces.class), true);
-            AnnotationVisitor av1 = av.visitArray("value");
-            av1.visit(null, MediaType.APPLICATION_JSON);
-            av1.visitEnd();
+            addMediaTypes(av);
             av.visitEnd();
         }
 
         private void addConsumesAnnotation(ClassVisitor cv) {
             AnnotationVisitor av = cv.visitAnnotation(Type.getDescriptor(Consumes.class), true);
+            addMediaTypes(av);
+            av.visitEnd();
+        }
+
+        private void addMediaTypes(AnnotationVisitor av) {
             AnnotationVisitor av1 = av.visitArray("value");
+            // JSON is the first to be used when the client accepts any media type
             av1.visit(null, MediaType.APPLICATION_JSON);
+            for (String mediaType : mediaTypes) {
+                av1.visit(null, mediaType);
+            }
             av1.visitEnd();
-            av.visitEnd();
         }
 
         private void addOpenApiResponsesAnnotation(ClassVisitor cv) {
@@ -829,6 +838,19 @@ public class JAXRSOpenLServiceEnhancerHelper {
                                             ClassLoader classLoader,
                                             boolean provideRuntimeContext,
                                             boolean provideVariations) throws Exception {
+        return enhanceInterface(originalClass, targetService, classLoader, provideRuntimeContext, provideVariations,
+                new String[0]);
+    }
+
+    /**
+     * @param mediaTypes media types supported in addition to JSON by the service methods
+     */
+    public static Class<?> enhanceInterface(Class<?> originalClass,
+                                            Object targetService,
+                                            ClassLoader classLoader,
+                                            boolean provideRuntimeContext,
+                                            boolean provideVariations,
+                                            String[] mediaTypes) throws Exception {
         if (!originalClass.isInterface()) {
             throw new IllegalArgumentException("Only interfaces are supported");
         }
@@ -844,7 +866,8 @@ public class JAXRSOpenLServiceEnhancerHelper {
                     targetService,
                     classLoader,
                     provideRuntimeContext,
-                    provideVariations
+                    provideVariations,
+                    mediaTypes
             );
             InterfaceTransformer transformer = new InterfaceTransformer(originalClass,
                     enhancedClassName,
@@ -3,9 +3,19 @@ package org.openl.rules.ruleservice.storelogdata.cassandra.annotation;
 import java.util.concurrent.CompletionStage;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 
 public interface EntityOperations<T, E> {
     T buildDao(CqlSession session) throws DaoCreationException;
 
     CompletionStage<Void> insert(T dao, E entity);
+
+    /**
+     * Creates an insert statement for the entity to execute it in a batch with other statements.
+     *
+     * @return the statement or null if the entity can be inserted with {@link #insert(Object, Object)} only
+     */
+    default BoundStatement bindInsert(T dao, E entity) {
+        return null;
+    }
 }
@@ -3,6 +3,7 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,4 +27,8 @@ public class CassandraEntitySaver {
             return null;
         });
     }
+
+    public BoundStatement bindInsert(Object entity) {
+        return entityOperations.bindInsert(dao, entity);
+    }
 }
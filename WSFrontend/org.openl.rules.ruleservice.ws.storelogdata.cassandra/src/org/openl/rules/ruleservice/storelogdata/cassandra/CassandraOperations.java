@@ -2,17 +2,29 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.mapper.annotations.Entity;
 import org.slf4j.Logger;
@@ -34,6 +46,12 @@ import org.openl.spring.config.ConditionalOnEnable;
 public class CassandraOperations implements InitializingBean, DisposableBean, RuleServicePublisherListener {
     private static final Logger LOG = LoggerFactory.getLogger(CassandraOperations.class);
 
+    /**
+     * Max size of a batch, the default value of {@code batch_size_warn_threshold} of Cassandra. The server logs a
+     * warning for bigger batches and rejects batches above {@code batch_size_fail_threshold}.
+     */
+    private static final int MAX_BATCH_SIZE_IN_BYTES = 5 * 1024;
+
     private CqlSession session;
 
     @Value("${ruleservice.store.logs.cassandra.schema.create}")
@@ -132,6 +150,97 @@ public class CassandraOperations implements InitializingBean, DisposableBean, Ru
         }
     }
 
+    /**
+     * Saves the entities and waits for the completion. The statements of the same partition are sent in unlogged
+     * batches limited by size, other statements are executed concurrently. If a batch fails, its statements are
+     * executed one by one to not lose the whole batch because of a single entity. Entities which operations do not
+     * support statement binding are inserted one by one.
+     */
+    public void saveAll(List<Object> entities) {
+        Map<List<Object>, List<BoundStatement>> statementsByPartition = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            try {
+                createSchemaIfMissed(entity.getClass());
+                CassandraEntitySaver entitySaver = getEntitySaver(entity.getClass());
+                BoundStatement statement = entitySaver.bindInsert(entity);
+                if (statement != null) {
+                    ByteBuffer routingKey = statement.getRoutingKey();
+                    List<Object> partition;
+                    if (routingKey != null) {
+                        partition = List.of(statement.getPreparedStatement().getQuery(), routingKey);
+                    } else {
+                        partition = List.of(statement);
+                    }
+                    statementsByPartition.computeIfAbsent(partition, e -> new ArrayList<>()).add(statement);
+                } else {
+                    entitySaver.insert(entity);
+                }
+            } catch (Exception e) {
+                LOG.error("Failed to save cassandra entity.", e);
+            }
+        }
+        List<List<BoundStatement>> batches = new ArrayList<>();
+        for (List<BoundStatement> statements : statementsByPartition.values()) {
+            splitBySize(statements, batches);
+        }
+        List<CompletionStage<AsyncResultSet>> executions = new ArrayList<>(batches.size());
+        for (List<BoundStatement> batch : batches) {
+            Statement<?> statement;
+            if (batch.size() == 1) {
+                statement = batch.get(0);
+            } else {
+                statement = BatchStatement.newInstance(DefaultBatchType.UNLOGGED, batch.toArray(new BoundStatement[0]));
+            }
+            try {
+                executions.add(session.executeAsync(statement));
+            } catch (DriverException e) {
+                executions.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        for (int i = 0; i < batches.size(); i++) {
+            try {
+                executions.get(i).toCompletableFuture().join();
+            } catch (CompletionException e) {
+                List<BoundStatement> batch = batches.get(i);
+                if (batch.size() == 1) {
+                    LOG.error("Failed to save cassandra entity.", e.getCause());
+                } else {
+                    LOG.warn("Failed to save cassandra entities in a batch. Entities are saved one by one.",
+                            e.getCause());
+                    for (BoundStatement statement : batch) {
+                        try {
+                            session.execute(statement);
+                        } catch (DriverException e1) {
+                            LOG.error("Failed to save cassandra entity.", e1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void splitBySize(List<BoundStatement> statements, List<List<BoundStatement>> batches) {
+        DriverContext context = session.getContext();
+        List<BoundStatement> batch = new ArrayList<>();
+        int batchSize = 0;
+        for (BoundStatement statement : statements) {
+            int size = statement.computeSizeInBytes(context);
+            if (!batch.isEmpty() && batchSize + size > MAX_BATCH_SIZE_IN_BYTES) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchSize = 0;
+            }
+            batch.add(statement);
+            batchSize += size;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+    }
+
     @Override
     public void onDeploy(OpenLService service) {
         // Only onUndeploy is used for clear used classes to prevent memory leak.
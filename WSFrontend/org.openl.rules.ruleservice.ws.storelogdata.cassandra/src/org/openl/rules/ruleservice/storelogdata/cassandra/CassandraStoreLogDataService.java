@@ -8,6 +8,8 @@ import java.util.List;
 import javax.annotation.PostConstruct;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +27,7 @@ import org.openl.spring.config.ConditionalOnEnable;
 @Component
 @ConditionalOnEnable("ruleservice.store.logs.cassandra.enabled")
 public class CassandraStoreLogDataService extends AbstractStoreLogDataService {
+    private final Logger log = LoggerFactory.getLogger(CassandraStoreLogDataService.class);
 
     @Autowired
     private CassandraOperations cassandraOperations;
@@ -56,6 +59,30 @@ public class CassandraStoreLogDataService extends AbstractStoreLogDataService {
 
     @Override
     protected void save(StoreLogData storeLogData, boolean sync) throws StoreLogDataException {
+        for (Object entity : createEntities(storeLogData)) {
+            try {
+                cassandraOperations.save(entity, sync);
+            } catch (Exception e) {
+                // Continue the loop if exception occurs
+                throw new StoreLogDataException("Failed on cassandra entity save operation.", e);
+            }
+        }
+    }
+
+    @Override
+    protected void save(List<StoreLogData> batch) {
+        List<Object> entities = new ArrayList<>();
+        for (StoreLogData storeLogData : batch) {
+            try {
+                entities.addAll(createEntities(storeLogData));
+            } catch (StoreLogDataException e) {
+                log.error("Failed on data store operation.", e);
+            }
+        }
+        cassandraOperations.saveAll(entities);
+    }
+
+    private List<Object> createEntities(StoreLogData storeLogData) throws StoreLogDataException {
         StoreLogDataToCassandra storeLogDataToCassandraAnnotation = storeLogData.getServiceClass()
                 .getAnnotation(StoreLogDataToCassandra.class);
 
@@ -65,7 +92,7 @@ public class CassandraStoreLogDataService extends AbstractStoreLogDataService {
         }
 
         if (storeLogDataToCassandraAnnotation == null) {
-            return;
+            return Collections.emptyList();
         }
         List<Object> entities = new ArrayList<>();
         if (storeLogDataToCassandraAnnotation.value().length == 0) {
@@ -108,15 +135,6 @@ public class CassandraStoreLogDataService extends AbstractStoreLogDataService {
                 }
             }
         }
-        for (Object entity : entities) {
-            if (entity != null) {
-                try {
-                    cassandraOperations.save(entity, sync);
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    throw new StoreLogDataException("Failed on cassandra entity save operation.", e);
-                }
-            }
-        }
+        return entities;
     }
 }
@@ -2,6 +2,7 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.util.concurrent.CompletionStage;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.Insert;
 
@@ -9,4 +10,7 @@ import com.datastax.oss.driver.api.mapper.annotations.Insert;
 public interface DefaultCassandraEntityDao {
     @Insert
     CompletionStage<Void> insert(DefaultCassandraEntity entity);
+
+    @Insert
+    BoundStatement bindInsert(DefaultCassandraEntity entity);
 }
@@ -2,6 +2,8 @@ package org.openl.rules.ruleservice.storelogdata.cassandra;
 
 import java.util.concurrent.CompletionStage;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+
 import org.openl.rules.ruleservice.storelogdata.cassandra.annotation.AbstractReflectiveEntityOperations;
 
 public class DefaultCassandraEntityOperations extends AbstractReflectiveEntityOperations<DefaultCassandraEntityMapper, DefaultCassandraEntityDao, DefaultCassandraEntity> {
@@ -20,4 +22,9 @@ public class DefaultCassandraEntityOperations extends AbstractReflectiveEntityOp
     public CompletionStage<Void> insert(DefaultCassandraEntityDao dao, DefaultCassandraEntity entity) {
         return dao.insert(entity);
     }
+
+    @Override
+    public BoundStatement bindInsert(DefaultCassandraEntityDao dao, DefaultCassandraEntity entity) {
+        return dao.bindInsert(entity);
+    }
 }
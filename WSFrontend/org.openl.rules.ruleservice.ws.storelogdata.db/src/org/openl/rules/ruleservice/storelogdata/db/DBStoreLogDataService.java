@@ -5,14 +5,17 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -30,6 +33,7 @@ import org.openl.spring.config.ConditionalOnEnable;
 @Component
 @ConditionalOnEnable("ruleservice.store.logs.db.enabled")
 public class DBStoreLogDataService extends AbstractStoreLogDataService {
+    private final Logger log = LoggerFactory.getLogger(DBStoreLogDataService.class);
 
     @Autowired
     private EntityManagerOperations hibernateSessionOperations;
@@ -78,6 +82,56 @@ public class DBStoreLogDataService extends AbstractStoreLogDataService {
 
     @Override
     protected void save(StoreLogData storeLogData, boolean sync) throws StoreLogDataException {
+        List<Object> entities = createEntities(storeLogData);
+        if (!entities.isEmpty()) {
+            try {
+                hibernateSessionOperations.saveAll(getEntityClasses(entities), entities);
+            } catch (Exception e) {
+                throw new StoreLogDataException("Failed on database save operation.", e);
+            }
+        }
+    }
+
+    /**
+     * Saves the entities of the batch which are mapped to the same set of entity classes in a single transaction. If
+     * the transaction fails, the entities are saved one by one to not lose the whole batch because of a single entity.
+     */
+    @Override
+    protected void save(List<StoreLogData> batch) {
+        Map<Set<Class<?>>, List<Object>> entitiesByClasses = new LinkedHashMap<>();
+        for (StoreLogData storeLogData : batch) {
+            try {
+                List<Object> entities = createEntities(storeLogData);
+                if (!entities.isEmpty()) {
+                    entitiesByClasses.computeIfAbsent(Set.of(getEntityClasses(entities)), e -> new ArrayList<>())
+                            .addAll(entities);
+                }
+            } catch (StoreLogDataException e) {
+                log.error("Failed on data store operation.", e);
+            }
+        }
+        for (Map.Entry<Set<Class<?>>, List<Object>> entry : entitiesByClasses.entrySet()) {
+            Class<?>[] entityClasses = entry.getKey().toArray(new Class<?>[0]);
+            try {
+                hibernateSessionOperations.saveAll(entityClasses, entry.getValue());
+            } catch (Exception e) {
+                log.warn("Failed on database batch save operation. Entities are saved one by one.", e);
+                for (Object entity : entry.getValue()) {
+                    try {
+                        hibernateSessionOperations.save(entityClasses, entity);
+                    } catch (Exception e1) {
+                        log.error("Failed on database save operation.", e1);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Class<?>[] getEntityClasses(List<Object> entities) {
+        return entities.stream().map(Object::getClass).distinct().toArray(Class<?>[]::new);
+    }
+
+    private List<Object> createEntities(StoreLogData storeLogData) throws StoreLogDataException {
         StoreLogDataToDB storeLogDataToDBAnnotation = storeLogData.getServiceClass()
                 .getAnnotation(StoreLogDataToDB.class);
         Method serviceMethod = storeLogData.getServiceMethod();
@@ -85,7 +139,7 @@ public class DBStoreLogDataService extends AbstractStoreLogDataService {
             storeLogDataToDBAnnotation = serviceMethod.getAnnotation(StoreLogDataToDB.class);
         }
         if (storeLogDataToDBAnnotation == null) {
-            return;
+            return Collections.emptyList();
         }
         List<Object> entities = new ArrayList<>();
         if (storeLogDataToDBAnnotation.value().length == 0) {
@@ -113,11 +167,9 @@ public class DBStoreLogDataService extends AbstractStoreLogDataService {
                 }
             }
         }
-        Set<Class<?>> entityClasses = new HashSet<>();
         for (Object entity : entities) {
             try {
                 storeLogDataMapper.map(storeLogData, entity);
-                entityClasses.add(entity.getClass());
             } catch (Exception e) {
                 if (serviceMethod != null) {
                     throw new StoreLogDataException(String.format("Failed to populate entity '%s' for method '%s'.",
@@ -130,15 +182,6 @@ public class DBStoreLogDataService extends AbstractStoreLogDataService {
                 }
             }
         }
-        for (Object entity : entities) {
-            if (entity != null) {
-                try {
-                    hibernateSessionOperations.save(entityClasses.toArray(new Class<?>[0]), entity);
-                } catch (Exception e) {
-                    // Continue the loop if exception occurs
-                    throw new StoreLogDataException("Failed on database save operation.", e);
-                }
-            }
-        }
+        return entities;
     }
 }
@@ -1,5 +1,6 @@
 package org.openl.rules.ruleservice.storelogdata.db;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,11 +61,26 @@ public class EntityManagerOperations implements RuleServicePublisherListener {
         if (entity == null) {
             return;
         }
+        saveAll(entityClasses, Collections.singletonList(entity));
+    }
+
+    /**
+     * Saves the entities in a single transaction. Inserts are sent to the database in JDBC batches if
+     * {@code hibernate.jdbc.batch_size} is set.
+     */
+    public void saveAll(Class<?>[] entityClasses, Collection<?> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
         try (var session = getSessionFactory(entityClasses).openSession()) {
             Transaction tx = null;
             try {
                 tx = session.beginTransaction();
-                session.merge(entity);
+                for (Object entity : entities) {
+                    if (entity != null) {
+                        session.merge(entity);
+                    }
+                }
                 tx.commit();
             } catch (RuntimeException e) {
                 if (tx != null && tx.isActive()) {
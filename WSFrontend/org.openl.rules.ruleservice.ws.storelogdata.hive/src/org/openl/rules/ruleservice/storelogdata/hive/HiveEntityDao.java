@@ -14,13 +14,16 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.openl.rules.ruleservice.storelogdata.hive.annotation.Partition;
 
 public class HiveEntityDao {
+    private final HiveStatementBuilder statementBuilder;
     private final String sqlQuery;
     private final List<Field> sortedPartitionedFields;
     private final List<Field> sortedFields;
@@ -47,7 +50,8 @@ public class HiveEntityDao {
 
     public HiveEntityDao(Class<?> entityClass) throws UnsupportedFieldTypeException {
         checkTypes(entityClass);
-        sqlQuery = new HiveStatementBuilder(entityClass).buildQuery();
+        statementBuilder = new HiveStatementBuilder(entityClass);
+        sqlQuery = statementBuilder.buildQuery();
         sortedPartitionedFields = Arrays.stream(entityClass.getDeclaredFields())
                 .filter(f -> !f.isSynthetic() && f.isAnnotationPresent(Partition.class))
                 .sorted(Comparator.comparingInt(f -> f.getAnnotation(Partition.class).value()))
@@ -74,12 +78,42 @@ public class HiveEntityDao {
     }
 
     public void insert(Connection connection, Object entity) throws IllegalAccessException, SQLException, UnsupportedFieldTypeException {
-        PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery);
-        int startIndex = 1;
-        setValueForFields(preparedStatement, entity, startIndex, sortedPartitionedFields);
-        startIndex += sortedPartitionedFields.size();
-        setValueForFields(preparedStatement, entity, startIndex, sortedFields);
-        preparedStatement.execute();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery)) {
+            int startIndex = 1;
+            setValueForFields(preparedStatement, entity, startIndex, sortedPartitionedFields);
+            startIndex += sortedPartitionedFields.size();
+            setValueForFields(preparedStatement, entity, startIndex, sortedFields);
+            preparedStatement.execute();
+        }
+    }
+
+    /**
+     * Inserts the entities with a multi-row insert statement per partition. Hive JDBC driver does not support batches
+     * of prepared statements, so a single statement with several rows is used instead.
+     */
+    public void insertAll(Connection connection, List<Object> entities) throws IllegalAccessException, SQLException, UnsupportedFieldTypeException {
+        Map<List<Object>, List<Object>> entitiesByPartition = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            List<Object> partition = new ArrayList<>(sortedPartitionedFields.size());
+            for (Field field : sortedPartitionedFields) {
+                partition.add(field.get(entity));
+            }
+            entitiesByPartition.computeIfAbsent(partition, e -> new ArrayList<>()).add(entity);
+        }
+        for (List<Object> partitionEntities : entitiesByPartition.values()) {
+            int rows = partitionEntities.size();
+            String query = rows == 1 ? sqlQuery : statementBuilder.buildQuery(rows);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                int startIndex = 1;
+                setValueForFields(preparedStatement, partitionEntities.get(0), startIndex, sortedPartitionedFields);
+                startIndex += sortedPartitionedFields.size();
+                for (Object entity : partitionEntities) {
+                    setValueForFields(preparedStatement, entity, startIndex, sortedFields);
+                    startIndex += sortedFields.size();
+                }
+                preparedStatement.execute();
+            }
+        }
     }
 
     private void setValueForFields(PreparedStatement preparedStatement, Object entity, int startIndex, List<Field> fields) throws IllegalAccessException, SQLException, UnsupportedFieldTypeException {
@@ -6,9 +6,12 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -72,6 +75,48 @@ public class HiveOperations implements RuleServicePublisherListener {
         }
     }
 
+    /**
+     * Saves the entities using a single connection and a multi-row insert per entity class and partition. If the insert
+     * fails, the entities of the class are inserted one by one to not lose all of them because of a single entity.
+     */
+    public void saveAll(List<Object> entities) {
+        Map<Class<?>, List<Object>> entitiesByClass = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            if (entity != null) {
+                entitiesByClass.computeIfAbsent(entity.getClass(), e -> new ArrayList<>()).add(entity);
+            }
+        }
+        if (entitiesByClass.isEmpty()) {
+            return;
+        }
+        try (Connection connection = getConnection()) {
+            for (Map.Entry<Class<?>, List<Object>> entry : entitiesByClass.entrySet()) {
+                HiveEntityDao hiveEntityDao;
+                try {
+                    createTableIfNotExists(connection, entry.getKey());
+                    hiveEntityDao = getHiveEntityDao(entry.getKey());
+                } catch (Exception e) {
+                    log.error("Failed to save hive entities.", e);
+                    continue;
+                }
+                try {
+                    hiveEntityDao.insertAll(connection, entry.getValue());
+                } catch (Exception e) {
+                    log.warn("Failed to save hive entities in a batch. Entities are saved one by one.", e);
+                    for (Object entity : entry.getValue()) {
+                        try {
+                            hiveEntityDao.insert(connection, entity);
+                        } catch (Exception e1) {
+                            log.error("Failed to save hive entity.", e1);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to save hive entities.", e);
+        }
+    }
+
     private HiveEntityDao getHiveEntityDao(Class<?> entityClass) throws UnsupportedFieldTypeException {
         HiveEntityDao hiveEntityDao = null;
         Map<Class<?>, HiveEntityDao> current;
@@ -2,6 +2,7 @@ package org.openl.rules.ruleservice.storelogdata.hive;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -13,7 +14,7 @@ import org.openl.util.StringUtils;
 
 public final class HiveStatementBuilder {
 
-    private static final String INSERT_QUERY = "INSERT INTO TABLE %s %s (%s) VALUES (%s)";
+    private static final String INSERT_QUERY = "INSERT INTO TABLE %s %s (%s) VALUES %s";
 
     private final Class<?> entityClass;
 
@@ -26,7 +27,19 @@ public final class HiveStatementBuilder {
     }
 
     String buildQuery() {
-        return String.format(INSERT_QUERY, getTableName(), getPartitions(), getFields(), getParameters());
+        return buildQuery(1);
+    }
+
+    /**
+     * Builds a query inserting the given number of rows into the same partition.
+     */
+    String buildQuery(int rows) {
+        String row = "(" + getParameters() + ")";
+        return String.format(INSERT_QUERY,
+                getTableName(),
+                getPartitions(),
+                getFields(),
+                String.join(",", Collections.nCopies(rows, row)));
     }
 
     private String getTableName() {
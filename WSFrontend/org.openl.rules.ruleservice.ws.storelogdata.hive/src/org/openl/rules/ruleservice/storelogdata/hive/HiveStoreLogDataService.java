@@ -8,6 +8,8 @@ import java.util.List;
 import javax.annotation.PostConstruct;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +28,7 @@ import org.openl.util.IOUtils;
 @Component
 @ConditionalOnEnable("ruleservice.store.logs.hive.enabled")
 public class HiveStoreLogDataService extends AbstractStoreLogDataService {
+    private final Logger log = LoggerFactory.getLogger(HiveStoreLogDataService.class);
 
     private final StoreLogDataMapper storeLogDataMapper = new StoreLogDataMapper();
 
@@ -66,6 +69,24 @@ public class HiveStoreLogDataService extends AbstractStoreLogDataService {
         saveEntities(entities);
     }
 
+    @Override
+    protected void save(List<StoreLogData> batch) {
+        List<Object> entities = new ArrayList<>();
+        for (StoreLogData storeLogData : batch) {
+            StoreLogDataToHive storeLogDataToHive = getAnnotation(storeLogData);
+            if (storeLogDataToHive != null) {
+                try {
+                    List<Object> storeLogDataEntities = getEntities(storeLogData, storeLogDataToHive);
+                    mapEntities(storeLogData, storeLogDataEntities, storeLogData.getServiceMethod());
+                    entities.addAll(storeLogDataEntities);
+                } catch (StoreLogDataException e) {
+                    log.error("Failed on data store operation.", e);
+                }
+            }
+        }
+        hiveOperations.saveAll(entities);
+    }
+
     private void saveEntities(List<Object> entities) throws StoreLogDataException {
         for (Object entity : entities) {
             if (entity != null) {
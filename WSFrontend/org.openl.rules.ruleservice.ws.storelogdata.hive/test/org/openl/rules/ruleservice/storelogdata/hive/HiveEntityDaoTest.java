@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
@@ -13,6 +15,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -69,6 +72,26 @@ public class HiveEntityDaoTest {
         hiveEntityDao.insert(connection, defaultHiveEntity);
     }
 
+    @Test
+    public void insertAllTest_partitionedEntity() throws SQLException, IllegalAccessException, UnsupportedFieldTypeException {
+        HiveEntityDao hiveEntityDao = new HiveEntityDao(PartitionedHiveEntity.class);
+        PartitionedHiveEntity first = getPartitionedEntity();
+        PartitionedHiveEntity second = getPartitionedEntity();
+        second.setIncomingTime(first.getIncomingTime());
+        second.setOutcomingTime(first.getOutcomingTime());
+        PartitionedHiveEntity other = getPartitionedEntity();
+        other.setIncomingTime(first.getIncomingTime().plusDays(1));
+        hiveEntityDao.insertAll(connection, Arrays.asList(first, second, other));
+
+        verify(connection).prepareStatement(
+                "INSERT INTO TABLE partitioned_data PARTITION (incomingtime=?,outcomingtime=?) (id,request) VALUES (?,?),(?,?)");
+        verify(connection).prepareStatement(
+                "INSERT INTO TABLE partitioned_data PARTITION (incomingtime=?,outcomingtime=?) (id,request) VALUES (?,?)");
+        verify(preparedStatement).setString(6, "request");
+        verify(preparedStatement, times(2)).execute();
+        verify(preparedStatement, times(2)).close();
+    }
+
     @Test
     public void insertTest_unsupportedType() throws UnsupportedFieldTypeException {
         assertThrows(UnsupportedFieldTypeException.class, () -> {
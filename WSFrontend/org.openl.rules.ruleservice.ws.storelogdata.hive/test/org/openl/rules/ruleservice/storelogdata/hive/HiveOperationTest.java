@@ -1,7 +1,18 @@
 package org.openl.rules.ruleservice.storelogdata.hive;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
 
 public class HiveOperationTest {
@@ -25,4 +36,26 @@ public class HiveOperationTest {
 
         assertEquals(lines, HiveOperations.removeCommentsInStatement(linesWithComments));
     }
+
+    @Test
+    public void saveAllFallsBackToSingleInsertsTest() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.execute()).thenThrow(new SQLException("Batch failure")).thenReturn(true);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        HiveOperations hiveOperations = new HiveOperations();
+        hiveOperations.setHiveDataSource(dataSource);
+
+        DefaultHiveEntity first = new DefaultHiveEntity();
+        first.setId("1");
+        DefaultHiveEntity second = new DefaultHiveEntity();
+        second.setId("2");
+        hiveOperations.saveAll(List.of(first, second));
+
+        // The failed multi-row insert and an insert per entity
+        verify(preparedStatement, times(3)).execute();
+        verify(connection).close();
+    }
 }
@@ -25,6 +25,14 @@ public class HiveStatementBuilderTest {
         assertEquals(expectedStatement, insertStatement);
     }
 
+    @Test
+    public void testCreateInsertStatement_multipleRows() {
+        HiveStatementBuilder builder = new HiveStatementBuilder(PartitionedHiveEntity.class);
+        String insertStatement = builder.buildQuery(3);
+        String expectedStatement = "INSERT INTO TABLE partitioned_data PARTITION (incomingtime=?,outcomingtime=?) (id,request) VALUES (?,?),(?,?),(?,?)";
+        assertEquals(expectedStatement, insertStatement);
+    }
+
     @Test
     public void testCreateInsertStatement_emptyTableName() {
         HiveStatementBuilder builder = new HiveStatementBuilder(SimpleEntity.class);
@@ -1,30 +1,143 @@
 package org.openl.rules.ruleservice.storelogdata;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 
-public abstract class AbstractStoreLogDataService implements StoreLogDataService {
+/**
+ * Base class for store log data services. Asynchronously stored data is collected in a bounded
+ * {@link WriteBehindQueue} and saved in batches, see {@link #save(List)}. The metrics of the queue are available via
+ * JMX if {@code ruleservice.jmx.enabled} is {@code true}.
+ */
+public abstract class AbstractStoreLogDataService implements StoreLogDataService, DisposableBean {
     private final Logger log = LoggerFactory.getLogger(AbstractStoreLogDataService.class);
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private static final long STOP_TIMEOUT_MILLIS = 30_000;
+
+    private int queueCapacity = 10_000;
+    private int batchSize = 100;
+    private long lingerMillis = 100;
+    private boolean dropWhenFull = false;
+    private boolean jmxEnabled = false;
+
+    private volatile WriteBehindQueue<StoreLogData> writeBehindQueue;
+    private ObjectName objectName;
 
     protected abstract void save(StoreLogData storeLogData, boolean sync) throws StoreLogDataException;
 
+    /**
+     * Saves a batch of asynchronously stored data. The data is saved one by one by default. Implementations can
+     * override this method to use batch operations of the storage.
+     */
+    protected void save(List<StoreLogData> batch) throws StoreLogDataException {
+        for (StoreLogData storeLogData : batch) {
+            try {
+                save(storeLogData, false);
+            } catch (StoreLogDataException | RuntimeException e) {
+                log.error("Failed on data store operation.", e);
+            }
+        }
+    }
+
     @Override
     public final void save(StoreLogData storeLogData) throws StoreLogDataException {
         if (isSync(storeLogData)) {
             save(storeLogData, true);
         } else {
-            executorService.submit(() -> {
+            getWriteBehindQueue().add(storeLogData);
+        }
+    }
+
+    private void flush(List<StoreLogData> batch) {
+        try {
+            save(batch);
+        } catch (StoreLogDataException e) {
+            log.error("Failed on data store operation.", e);
+        }
+    }
+
+    /**
+     * @return the queue of asynchronously stored data, it can be used to monitor the queue depth and flush latency
+     */
+    public WriteBehindQueue<StoreLogData> getWriteBehindQueue() {
+        WriteBehindQueue<StoreLogData> queue = writeBehindQueue;
+        if (queue == null) {
+            synchronized (this) {
+                queue = writeBehindQueue;
+                if (queue == null) {
+                    queue = new WriteBehindQueue<>(getClass().getSimpleName(),
+                            queueCapacity,
+                            batchSize,
+                            lingerMillis,
+                            dropWhenFull,
+                            this::flush);
+                    writeBehindQueue = queue;
+                    if (jmxEnabled) {
+                        registerMBean(queue);
+                    }
+                }
+            }
+        }
+        return queue;
+    }
+
+    private void registerMBean(WriteBehindQueue<StoreLogData> queue) {
+        try {
+            ObjectName name = new ObjectName(
+                    "org.openl.rules.ruleservice:type=WriteBehindQueue,name=" + getClass().getSimpleName());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(queue, name);
+            objectName = name;
+        } catch (JMException e) {
+            log.warn("Failed to register MBean of the write-behind queue.", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        WriteBehindQueue<StoreLogData> queue = writeBehindQueue;
+        if (queue != null) {
+            queue.stop(STOP_TIMEOUT_MILLIS);
+        }
+        synchronized (this) {
+            if (objectName != null) {
                 try {
-                    save(storeLogData, false);
-                } catch (StoreLogDataException e) {
-                    log.error("Failed on data store operation.", e);
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+                } catch (JMException e) {
+                    log.warn("Failed to unregister MBean of the write-behind queue.", e);
                 }
-            });
+                objectName = null;
+            }
         }
     }
+
+    @Value("${ruleservice.store.logs.async.queue.capacity}")
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Value("${ruleservice.store.logs.async.batch.size}")
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Value("${ruleservice.store.logs.async.linger.ms}")
+    public void setLingerMillis(long lingerMillis) {
+        this.lingerMillis = lingerMillis;
+    }
+
+    @Value("${ruleservice.store.logs.async.queue.full.drop}")
+    public void setDropWhenFull(boolean dropWhenFull) {
+        this.dropWhenFull = dropWhenFull;
+    }
+
+    @Value("${ruleservice.jmx.enabled:false}")
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
 }
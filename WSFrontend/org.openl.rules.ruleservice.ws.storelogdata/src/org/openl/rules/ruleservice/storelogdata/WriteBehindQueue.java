@@ -0,0 +1,210 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of elements which are stored asynchronously. A single worker thread takes the elements in batches: a
+ * batch is flushed when it reaches the batch size or when the linger time has passed since the first element of the
+ * batch was taken. When the queue is full, new elements are either dropped or the caller is blocked until there is
+ * free space.
+ *
+ * @param <T> type of elements
+ */
+public final class WriteBehindQueue<T> implements WriteBehindQueueMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindQueue.class);
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long DROP_WARNING_INTERVAL = 1000;
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final boolean dropWhenFull;
+    private final Consumer<List<T>> flusher;
+    private final Thread worker;
+    private volatile boolean stopped;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+
+    /**
+     * @param name name of the queue used for the worker thread and in logs
+     * @param capacity max number of elements waiting for a flush
+     * @param batchSize max number of elements passed to the flusher at once
+     * @param lingerMillis max time to wait for more elements to fill a batch
+     * @param dropWhenFull if true, new elements are dropped when the queue is full, otherwise the caller is blocked
+     * @param flusher stores a batch of elements, must handle its own errors
+     */
+    public WriteBehindQueue(String name,
+                            int capacity,
+                            int batchSize,
+                            long lingerMillis,
+                            boolean dropWhenFull,
+                            Consumer<List<T>> flusher) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Linger time cannot be negative.");
+        }
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.dropWhenFull = dropWhenFull;
+        this.flusher = Objects.requireNonNull(flusher, "flusher cannot be null");
+        this.worker = new Thread(this::run, "write-behind-" + name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Adds the element to the queue.
+     *
+     * @return false if the element was dropped
+     */
+    public boolean add(T element) {
+        if (stopped) {
+            return drop();
+        }
+        if (dropWhenFull) {
+            return queue.offer(element) || drop();
+        }
+        try {
+            queue.put(element);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return drop();
+        }
+    }
+
+    private boolean drop() {
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped % DROP_WARNING_INTERVAL == 1) {
+            LOG.warn("Write-behind queue '{}' is full or stopped. {} element(s) have been dropped so far.",
+                    name,
+                    dropped);
+        }
+        return false;
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || stopped) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // the worker is interrupted by stop() only if the queue has not been flushed in time
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<T> batch) {
+        long start = System.nanoTime();
+        try {
+            flusher.accept(batch);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to flush write-behind queue '{}'.", name, e);
+        }
+        long duration = System.nanoTime() - start;
+        lastFlushNanos = duration;
+        flushNanos.addAndGet(duration);
+        flushedCount.addAndGet(batch.size());
+        flushCount.incrementAndGet();
+        LOG.debug("Write-behind queue '{}' flushed {} element(s) in {} ms.",
+                name,
+                batch.size(),
+                TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+
+    /**
+     * Stops accepting of new elements and waits until the elements in the queue are flushed.
+     */
+    public void stop(long timeoutMillis) throws InterruptedException {
+        stopped = true;
+        worker.join(timeoutMillis);
+        if (worker.isAlive()) {
+            LOG.warn("Write-behind queue '{}' has not been flushed in {} ms. {} element(s) are lost.",
+                    name,
+                    timeoutMillis,
+                    queue.size());
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    @Override
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    @Override
+    public long getLastFlushTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastFlushNanos);
+    }
+
+    @Override
+    public long getTotalFlushTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(flushNanos.get());
+    }
+}
@@ -0,0 +1,28 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+/**
+ * Metrics of a {@link WriteBehindQueue}. The queues of store log data services are registered in the platform MBean
+ * server when {@code ruleservice.jmx.enabled} is {@code true}.
+ */
+public interface WriteBehindQueueMXBean {
+
+    /**
+     * @return the number of elements waiting for a flush
+     */
+    int getQueueSize();
+
+    int getRemainingCapacity();
+
+    long getDroppedCount();
+
+    long getFlushCount();
+
+    /**
+     * @return the number of elements passed to the flusher
+     */
+    long getFlushedCount();
+
+    long getLastFlushTimeMillis();
+
+    long getTotalFlushTimeMillis();
+}
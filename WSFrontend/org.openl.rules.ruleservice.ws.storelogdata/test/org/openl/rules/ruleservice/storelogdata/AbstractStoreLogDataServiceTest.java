@@ -0,0 +1,41 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+public class AbstractStoreLogDataServiceTest {
+
+    @Test
+    public void testQueueMetricsAreRegisteredInJmx() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.openl.rules.ruleservice:type=WriteBehindQueue,name=TestService");
+        TestService service = new TestService();
+        service.setJmxEnabled(true);
+        service.getWriteBehindQueue();
+
+        assertTrue(mBeanServer.isRegistered(name));
+        assertEquals(0, mBeanServer.getAttribute(name, "QueueSize"));
+        assertEquals(0L, mBeanServer.getAttribute(name, "DroppedCount"));
+
+        service.destroy();
+        assertFalse(mBeanServer.isRegistered(name));
+    }
+
+    private static final class TestService extends AbstractStoreLogDataService {
+        @Override
+        protected void save(StoreLogData storeLogData, boolean sync) {
+        }
+
+        @Override
+        public boolean isSync(StoreLogData storeLogData) {
+            return false;
+        }
+    }
+}
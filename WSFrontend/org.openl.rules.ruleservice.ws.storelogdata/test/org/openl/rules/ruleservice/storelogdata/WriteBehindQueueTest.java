@@ -0,0 +1,82 @@
+package org.openl.rules.ruleservice.storelogdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindQueueTest {
+
+    @Test
+    public void testBatchesAreLimitedBySize() throws InterruptedException {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test", 100, 10, 0, false, batch -> {
+            batches.add(new ArrayList<>(batch));
+            started.countDown();
+            await(release);
+        });
+        queue.add(0);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // the worker is busy, so the next elements are collected in the queue
+        for (int i = 1; i <= 25; i++) {
+            assertTrue(queue.add(i));
+        }
+        assertEquals(25, queue.getQueueSize());
+        release.countDown();
+        queue.stop(10_000);
+
+        List<Integer> flushed = new ArrayList<>();
+        for (List<Integer> batch : batches) {
+            assertTrue(batch.size() <= 10);
+            flushed.addAll(batch);
+        }
+        assertEquals(26, flushed.size());
+        for (int i = 0; i < flushed.size(); i++) {
+            assertEquals(i, flushed.get(i));
+        }
+        assertEquals(4, batches.size());
+        assertEquals(4, queue.getFlushCount());
+        assertEquals(26, queue.getFlushedCount());
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void testElementsAreDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test", 2, 10, 0, true, batch -> {
+            started.countDown();
+            await(release);
+        });
+        queue.add(0);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertTrue(queue.add(1));
+        assertTrue(queue.add(2));
+        assertFalse(queue.add(3));
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(0, queue.getRemainingCapacity());
+
+        release.countDown();
+        queue.stop(10_000);
+        assertEquals(3, queue.getFlushedCount());
+        assertFalse(queue.add(4));
+        assertEquals(2, queue.getDroppedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
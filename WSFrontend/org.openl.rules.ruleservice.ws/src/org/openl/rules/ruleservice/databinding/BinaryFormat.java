@@ -0,0 +1,69 @@
+package org.openl.rules.ruleservice.databinding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
+
+/**
+ * Binary data formats supported in addition to JSON. Object mappers of these formats are copies of the JSON object
+ * mapper of the service, so they use the same mixins, typing and other settings.
+ */
+public enum BinaryFormat {
+
+    SMILE(SmileMediaTypes.APPLICATION_JACKSON_SMILE) {
+        @Override
+        JsonFactory createFactory() {
+            return new SmileFactory();
+        }
+    },
+    CBOR(CBORMediaTypes.APPLICATION_JACKSON_CBOR) {
+        @Override
+        JsonFactory createFactory() {
+            return new CBORFactory();
+        }
+    };
+
+    private final String mediaType;
+
+    BinaryFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    abstract JsonFactory createFactory();
+
+    public ObjectMapper copy(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copyWith(createFactory());
+        // Binary formats keep floating point numbers exactly, so the plain notation of the numbers is not required
+        mapper.registerModule(new SimpleModule("BinaryFormatNumbers")
+                .addSerializer(Double.class, new NumberSerializers.DoubleSerializer(Double.class))
+                .addSerializer(Double.TYPE, new NumberSerializers.DoubleSerializer(Double.TYPE))
+                .addSerializer(Float.class, new NumberSerializers.FloatSerializer())
+                .addSerializer(Float.TYPE, new NumberSerializers.FloatSerializer()));
+        return mapper;
+    }
+
+    /**
+     * @param format name of the format, case-insensitive
+     * @return the binary format or {@code null} if the format is not defined or JSON is requested
+     */
+    public static BinaryFormat of(String format) {
+        if (format == null || format.isBlank() || "json".equalsIgnoreCase(format.trim())) {
+            return null;
+        }
+        for (BinaryFormat binaryFormat : values()) {
+            if (binaryFormat.name().equalsIgnoreCase(format.trim())) {
+                return binaryFormat;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unsupported data format '%s'.", format));
+    }
+}
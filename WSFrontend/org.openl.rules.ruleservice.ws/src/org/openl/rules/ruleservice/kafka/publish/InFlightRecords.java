@@ -0,0 +1,156 @@
+package org.openl.rules.ruleservice.kafka.publish;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks records which are being processed by a Kafka service.
+ * <ul>
+ * <li>Records with the same key from the same partition are processed in the order of offsets, other records are
+ * processed in parallel.</li>
+ * <li>An offset of a partition can be committed only up to the first record which is not processed yet.</li>
+ * </ul>
+ * Records are submitted and offsets are collected from the consumer thread only.
+ */
+final class InFlightRecords {
+
+    private final Executor executor;
+    private final AtomicInteger size = new AtomicInteger();
+    private final Map<TopicPartition, PartitionRecords> partitions = new ConcurrentHashMap<>();
+    private final Object monitor = new Object();
+
+    InFlightRecords(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return the number of records which are not processed yet
+     */
+    int size() {
+        return size.get();
+    }
+
+    void submit(ConsumerRecord<String, ?> record, Runnable task) {
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        PartitionRecords partition = partitions.computeIfAbsent(topicPartition, e -> new PartitionRecords());
+        long offset = record.offset();
+        partition.started(offset);
+        size.incrementAndGet();
+        Runnable processing = () -> {
+            try {
+                task.run();
+            } finally {
+                partition.completed(offset);
+                size.decrementAndGet();
+                synchronized (monitor) {
+                    monitor.notifyAll();
+                }
+            }
+        };
+        if (record.key() == null) {
+            executor.execute(processing);
+        } else {
+            partition.executeInOrder(record.key(), processing, executor);
+        }
+    }
+
+    /**
+     * Collects offsets which can be committed and were not collected before.
+     */
+    Map<TopicPartition, OffsetAndMetadata> collectOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (Map.Entry<TopicPartition, PartitionRecords> entry : partitions.entrySet()) {
+            long offset = entry.getValue().nextCommit();
+            if (offset >= 0) {
+                offsets.put(entry.getKey(), new OffsetAndMetadata(offset));
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Waits until all records of the partitions are processed and stops tracking of them.
+     *
+     * @return offsets to commit for the partitions
+     */
+    Map<TopicPartition, OffsetAndMetadata> drain(Collection<TopicPartition> topicPartitions) throws InterruptedException {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition topicPartition : topicPartitions) {
+            PartitionRecords partition = partitions.get(topicPartition);
+            if (partition != null) {
+                synchronized (monitor) {
+                    while (!partition.pending.isEmpty()) {
+                        monitor.wait(100);
+                    }
+                }
+                partitions.remove(topicPartition);
+                offsets.put(topicPartition, new OffsetAndMetadata(partition.nextOffset));
+            }
+        }
+        return offsets;
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> drainAll() throws InterruptedException {
+        return drain(new ArrayList<>(partitions.keySet()));
+    }
+
+    private static final class PartitionRecords {
+        private final NavigableSet<Long> pending = new ConcurrentSkipListSet<>();
+        private final Map<String, CompletableFuture<Void>> lastByKey = new HashMap<>();
+        // accessed from the consumer thread only
+        private long nextOffset = -1;
+        private long collectedOffset = -1;
+
+        void started(long offset) {
+            pending.add(offset);
+            nextOffset = offset + 1;
+        }
+
+        void completed(long offset) {
+            pending.remove(offset);
+        }
+
+        void executeInOrder(String key, Runnable task, Executor executor) {
+            synchronized (lastByKey) {
+                CompletableFuture<Void> previous = lastByKey.get(key);
+                CompletableFuture<Void> next = previous == null ? CompletableFuture.runAsync(task, executor)
+                        : previous.handleAsync((r, e) -> {
+                            task.run();
+                            return null;
+                        }, executor);
+                lastByKey.put(key, next);
+                next.whenComplete((r, e) -> {
+                    synchronized (lastByKey) {
+                        lastByKey.remove(key, next);
+                    }
+                });
+            }
+        }
+
+        /**
+         * @return offset to commit or -1 if there is nothing new to commit
+         */
+        long nextCommit() {
+            Iterator<Long> it = pending.iterator();
+            long offset = it.hasNext() ? it.next() : nextOffset;
+            if (offset > collectedOffset) {
+                collectedOffset = offset;
+                return offset;
+            }
+            return -1;
+        }
+    }
+}
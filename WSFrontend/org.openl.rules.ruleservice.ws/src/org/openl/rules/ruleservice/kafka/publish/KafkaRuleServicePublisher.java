@@ -27,6 +27,7 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectFactory;
@@ -66,10 +67,14 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
     private static final String BOOTSTRAP_SERVERS = "bootstrap.servers";
     private static final String GROUP_ID = "group.id";
     private static final String CLIENT_ID = "client.id";
+    private static final String CONCURRENCY = "concurrency";
+    private static final String MAX_IN_FLIGHT_RECORDS = "max.in.flight.records";
 
     private static final String[] CLEAN_UP_PROPERTIES = {"jackson.defaultTypingMode",
             "rootClassNamesBinding",
-            CLIENT_ID_GENERATOR};
+            CLIENT_ID_GENERATOR,
+            CONCURRENCY,
+            MAX_IN_FLIGHT_RECORDS};
 
     private final Map<OpenLService, Triple<Collection<KafkaService>, Collection<KafkaProducer<?, ?>>, Collection<KafkaConsumer<?, ?>>>> runningServices = new HashMap<>();
 
@@ -317,6 +322,18 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
         return config;
     }
 
+    private static int getIntConfig(Properties configs, String name, int defaultValue) throws KafkaServiceException {
+        String value = configs.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new KafkaServiceException(String.format("Invalid value '%s' for '%s' property.", value, name), e);
+        }
+    }
+
     protected Properties cleanupConfigs(Properties config) {
         Properties props = new Properties();
         props.putAll(config);
@@ -390,6 +407,10 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
             valueSerializer = getConfiguredValueSerializer(service,
                     objectMapper,
                     configs.getProperty("value.serializer"));
+            // Kafka does not configure the given serializers
+            if (valueSerializer != null) {
+                valueSerializer.configure(Utils.propsToMap(configs), false);
+            }
         } catch (Exception e) {
             throw new KafkaServiceConfigurationException("Failed to constuct key/value deserializer for producer.", e);
         }
@@ -413,6 +434,9 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
                     objectMapper,
                     method,
                     configs.getProperty("value.deserializer"));
+            if (valueDeserializer != null) {
+                valueDeserializer.configure(Utils.propsToMap(configs), false);
+            }
         } catch (Exception e) {
             throw new KafkaServiceConfigurationException("Failed to constuct key/value deserializer for consumer.", e);
         }
@@ -469,6 +493,9 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
             kafkaProducers.add(dltProducer);
         }
         var requestIdHeaderKey = org.openl.util.StringUtils.trimToNull(env.getProperty("log.request-id.header"));
+        Properties consumerConfigs = mergedKafkaConfig.getConsumerConfigs();
+        int concurrency = getIntConfig(consumerConfigs, CONCURRENCY, Runtime.getRuntime().availableProcessors());
+        int maxInFlightRecords = getIntConfig(consumerConfigs, MAX_IN_FLIGHT_RECORDS, concurrency * 64);
         final KafkaService kafkaService = KafkaService.createService(service,
                 requestIdHeaderKey,
                 mergedKafkaConfig.getInTopic(),
@@ -480,7 +507,9 @@ public class KafkaRuleServicePublisher implements RuleServicePublisher, Resource
                 objectSerializer,
                 getStoreLogDataManager(),
                 getStoreLogDataManager().isEnabled(),
-                rulesDeploy);
+                rulesDeploy,
+                concurrency,
+                maxInFlightRecords);
         kafkaServices.add(kafkaService);
 
         kafkaService.start();
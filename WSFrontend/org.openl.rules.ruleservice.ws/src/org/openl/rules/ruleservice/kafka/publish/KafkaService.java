@@ -5,15 +5,15 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +38,7 @@ import org.openl.rules.project.model.RulesDeploy;
 import org.openl.rules.project.model.RulesDeploy.PublisherType;
 import org.openl.rules.ruleservice.core.ExceptionDetails;
 import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.ResultFieldsHolder;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
 import org.openl.rules.ruleservice.core.ServiceInvocationAdvice;
 import org.openl.rules.ruleservice.kafka.KafkaHeaders;
@@ -52,13 +53,6 @@ import org.openl.rules.serialization.ProjectJacksonObjectMapperFactoryBean;
 
 public final class KafkaService implements Runnable {
 
-    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
-            Runtime.getRuntime().availableProcessors(),
-            Runtime.getRuntime().availableProcessors() * 2,
-            60L,
-            TimeUnit.SECONDS,
-            new LinkedBlockingQueue<>());
-
     private final Logger log = LoggerFactory.getLogger(KafkaService.class);
 
     private volatile boolean flag = true;
@@ -67,7 +61,11 @@ public final class KafkaService implements Runnable {
     private final String inTopic;
     private final String outTopic;
     private final String dltTopic;
-    private final Map<TopicPartition, OffsetAndMetadata> currentOffsets = new HashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final InFlightRecords inFlightRecords;
+    private final int maxInFlightRecords;
+    // records which are polled but are not submitted yet, accessed from the consumer thread only
+    private final Queue<WaitingRecord> waitingRecords = new ArrayDeque<>();
     private final KafkaProducer<String, Object> producer;
     private final KafkaProducer<String, byte[]> dltProducer;
     private final KafkaConsumer<String, RequestMessage> consumer;
@@ -88,7 +86,9 @@ public final class KafkaService implements Runnable {
                                              ObjectSerializer objectSerializer,
                                              StoreLogDataManager storeLogDataManager,
                                              boolean storeLogDataEnabled,
-                                             RulesDeploy rulesDeploy) throws KafkaServiceException {
+                                             RulesDeploy rulesDeploy,
+                                             int concurrency,
+                                             int maxInFlightRecords) throws KafkaServiceException {
         return new KafkaService(service,
                 requestIdHeaderKey,
                 inTopic,
@@ -100,7 +100,9 @@ public final class KafkaService implements Runnable {
                 objectSerializer,
                 storeLogDataManager,
                 storeLogDataEnabled,
-                rulesDeploy);
+                rulesDeploy,
+                concurrency,
+                maxInFlightRecords);
     }
 
     private KafkaService(OpenLService service,
@@ -114,7 +116,9 @@ public final class KafkaService implements Runnable {
                          ObjectSerializer objectSerializer,
                          StoreLogDataManager storeLogDataManager,
                          boolean storageEnabled,
-                         RulesDeploy rulesDeploy) throws KafkaServiceException {
+                         RulesDeploy rulesDeploy,
+                         int concurrency,
+                         int maxInFlightRecords) throws KafkaServiceException {
         this.service = Objects.requireNonNull(service);
         this.requestIdHeaderKey = requestIdHeaderKey;
         this.inTopic = Objects.requireNonNull(inTopic);
@@ -128,6 +132,21 @@ public final class KafkaService implements Runnable {
         this.outTopic = outTopic;
         this.dltTopic = dltTopic;
         this.storageEnabled = storageEnabled;
+        if (concurrency < 1) {
+            throw new KafkaServiceException("Concurrency must be a positive number.");
+        }
+        if (maxInFlightRecords < 1) {
+            throw new KafkaServiceException("Max in-flight records must be a positive number.");
+        }
+        // every task processes a single in-flight record, so the queue cannot overflow
+        this.executor = new ThreadPoolExecutor(concurrency,
+                concurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxInFlightRecords));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.inFlightRecords = new InFlightRecords(executor);
+        this.maxInFlightRecords = maxInFlightRecords;
         try {
             PropertyNamingStrategy propertyNamingStrategy = ProjectJacksonObjectMapperFactoryBean
                     .extractPropertyNamingStrategy(rulesDeploy, service.getClassLoader());
@@ -181,11 +200,18 @@ public final class KafkaService implements Runnable {
         consumer.subscribe(Collections.singletonList(getInTopic()), new ConsumerRebalanceListener() {
             @Override
             public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                if (log.isInfoEnabled()) {
-                    log.info("Lost partitions in rebalance. Committing current offsets: {}", currentOffsets);
+                try {
+                    // not submitted records are consumed again by the new owner of the partition
+                    waitingRecords.removeIf(e -> partitions
+                            .contains(new TopicPartition(e.record.topic(), e.record.partition())));
+                    Map<TopicPartition, OffsetAndMetadata> offsets = inFlightRecords.drain(partitions);
+                    if (log.isInfoEnabled()) {
+                        log.info("Lost partitions in rebalance. Committing current offsets: {}", offsets);
+                    }
+                    consumer.commitSync(offsets);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
-                consumer.commitSync(currentOffsets);
-                currentOffsets.clear();
             }
 
             @Override
@@ -220,131 +246,174 @@ public final class KafkaService implements Runnable {
     public void run() {
         while (flag) {
             try {
-                ConsumerRecords<String, RequestMessage> records = consumer.poll(Duration.ofMillis(100));
+                ConsumerRecords<String, RequestMessage> records = consumer
+                        .poll(Duration.ofMillis(waitingRecords.isEmpty() ? 100 : 10));
                 if (!records.isEmpty()) {
-                    CountDownLatch countDownLatch = new CountDownLatch(records.count());
                     ZonedDateTime incomingTime = ZonedDateTime.now();
                     for (ConsumerRecord<String, RequestMessage> consumerRecord : records) {
-                        executor.submit(() -> {
-                            StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
-                            String requestIdHeader = null;
-                            try {
-                                if (requestIdHeaderKey != null) {
-                                    var idHeader = consumerRecord.headers().lastHeader(requestIdHeaderKey);
-                                    if (idHeader != null) {
-                                        requestIdHeader = new String(idHeader.value(), StandardCharsets.UTF_8);
-                                    }
-                                    if (StringUtils.isBlank(requestIdHeader)) {
-                                        requestIdHeader = UUID.randomUUID().toString();
-                                    }
-                                    MDC.put(RuleServicesFilter.REQUEST_ID_KEY, requestIdHeader);
-                                }
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceClass(service.getServiceClass());
-                                    storeLogData.setServiceName(service.getName());
-                                    storeLogData.setIncomingMessageTime(incomingTime);
-                                    storeLogData.setPublisherType(PublisherType.KAFKA);
-                                    storeLogData.setObjectSerializer(getObjectSerializer());
-                                    storeLogData.setConsumerRecord(consumerRecord);
-                                }
-                                RequestMessage requestMessage = consumerRecord.value();
-                                if (storeLogData != null) {
-                                    storeLogData.setServiceMethod(requestMessage.getMethod());
-                                    storeLogData.setParameters(requestMessage.getParameters());
-                                }
-                                String outputTopic = getOutTopic(consumerRecord);
-                                if (!StringUtils.isBlank(outputTopic)) {
-                                    Object result = requestMessage.getMethod()
-                                            .invoke(service.getServiceBean(), requestMessage.getParameters());
-                                    Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
-                                    ProducerRecord<String, Object> producerRecord;
-                                    if (header == null) {
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                                consumerRecord.key(),
-                                                result);
-                                    } else {
-                                        Integer partition = Integer
-                                                .parseInt(new String(header.value(), StandardCharsets.UTF_8));
-                                        producerRecord = new ProducerRecord<>(outputTopic,
-                                                partition,
-                                                consumerRecord.key(),
-                                                result);
-                                    }
-                                    if (requestIdHeader != null) {
-                                        producerRecord.headers().add(requestIdHeaderKey, requestIdHeader.getBytes(StandardCharsets.UTF_8));
-                                    }
-                                    forwardHeadersToOutput(consumerRecord, producerRecord);
-
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                    }
-                                    String finalRequestIdHeader = requestIdHeader;
-                                    producer.send(producerRecord, (metadata, exception) -> {
-                                        if (storeLogData != null) {
-                                            storeLogData.setProducerRecord(producerRecord);
-                                        }
-                                        if (exception == null && storeLogData != null) {
-                                            try {
-                                                getStoreLogDataManager().store(storeLogData);
-                                            } catch (StoreLogDataException e) {
-                                                exception = e;
-                                            }
-                                        }
-                                        if (exception != null) {
-                                            try {
-                                                if (log.isErrorEnabled()) {
-                                                    log.error(
-                                                            "Failed to send a result message for method '{}' in service '{}' to output topic '{}'.",
-                                                            requestMessage.getMethod(),
-                                                            getService().getDeployPath(),
-                                                            getOutTopic(consumerRecord), exception);
-                                                }
-                                            } catch (Exception e) {
-                                                log.error("Unexpected error.", e);
-                                            }
-                                            sendErrorToDlt(consumerRecord, exception, storeLogData, finalRequestIdHeader);
-                                        }
-                                    });
-                                } else {
-                                    if (storeLogData != null) {
-                                        storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
-                                        getStoreLogDataManager().store(storeLogData);
-                                    }
-                                }
-                            } catch (InvocationTargetException | UndeclaredThrowableException e) {
-                                Throwable ex = e.getCause();
-                                sendError(consumerRecord, storeLogData, ex instanceof Exception ? (Exception) ex : e, requestIdHeader);
-                            } catch (Exception e) {
-                                sendError(consumerRecord, storeLogData, e, requestIdHeader);
-                            } finally {
-                                countDownLatch.countDown();
-                                if (isStoreLogDataEnabled()) {
-                                    StoreLogDataHolder.remove();
-                                }
-                                if (requestIdHeader != null) {
-                                    MDC.remove(RuleServicesFilter.REQUEST_ID_KEY);
-                                }
-                            }
-                        });
+                        waitingRecords.add(new WaitingRecord(consumerRecord, incomingTime));
                     }
-                    countDownLatch.await();
-                    for (ConsumerRecord<String, RequestMessage> record : records) {
-                        currentOffsets.put(new TopicPartition(record.topic(), record.partition()),
-                                new OffsetAndMetadata(record.offset() + 1));
+                }
+                submitWaitingRecords();
+                applyBackpressure();
+                commitProcessedOffsets();
+            } catch (Exception e) {
+                log.error("Something wrong.", e);
+            }
+        }
+        try {
+            consumer.commitSync(inFlightRecords.drainAll());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to commit offsets on stop.", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Submits polled records in the order of polling while the number of records in progress is below the limit.
+     */
+    private void submitWaitingRecords() {
+        while (!waitingRecords.isEmpty() && inFlightRecords.size() < maxInFlightRecords) {
+            WaitingRecord waitingRecord = waitingRecords.remove();
+            inFlightRecords.submit(waitingRecord.record,
+                    () -> process(waitingRecord.record, waitingRecord.incomingTime));
+        }
+    }
+
+    /**
+     * Pauses fetching of records if too many of them are being processed or wait for processing, and resumes it when
+     * the most of them are processed.
+     */
+    private void applyBackpressure() {
+        int size = inFlightRecords.size();
+        if (size >= maxInFlightRecords || !waitingRecords.isEmpty()) {
+            consumer.pause(consumer.assignment());
+        } else if (size <= maxInFlightRecords / 2 && !consumer.paused().isEmpty()) {
+            consumer.resume(consumer.paused());
+        }
+    }
+
+    private void commitProcessedOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = inFlightRecords.collectOffsets();
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                if (exception != null) {
+                    log.error("Failed to commit current offsets: {}", committedOffsets, exception);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Current offsets have been committed: {}", committedOffsets);
+                }
+            });
+        }
+    }
+
+    private void process(ConsumerRecord<String, RequestMessage> consumerRecord, ZonedDateTime incomingTime) {
+        StoreLogData storeLogData = isStoreLogDataEnabled() ? StoreLogDataHolder.get() : null;
+        String requestIdHeader = null;
+        try {
+            if (requestIdHeaderKey != null) {
+                var idHeader = consumerRecord.headers().lastHeader(requestIdHeaderKey);
+                if (idHeader != null) {
+                    requestIdHeader = new String(idHeader.value(), StandardCharsets.UTF_8);
+                }
+                if (StringUtils.isBlank(requestIdHeader)) {
+                    requestIdHeader = UUID.randomUUID().toString();
+                }
+                MDC.put(RuleServicesFilter.REQUEST_ID_KEY, requestIdHeader);
+            }
+            if (storeLogData != null) {
+                storeLogData.setServiceClass(service.getServiceClass());
+                storeLogData.setServiceName(service.getName());
+                storeLogData.setIncomingMessageTime(incomingTime);
+                storeLogData.setPublisherType(PublisherType.KAFKA);
+                storeLogData.setObjectSerializer(getObjectSerializer());
+                storeLogData.setConsumerRecord(consumerRecord);
+            }
+            RequestMessage requestMessage = consumerRecord.value();
+            if (storeLogData != null) {
+                storeLogData.setServiceMethod(requestMessage.getMethod());
+                storeLogData.setParameters(requestMessage.getParameters());
+            }
+            String outputTopic = getOutTopic(consumerRecord);
+            if (!StringUtils.isBlank(outputTopic)) {
+                Header fieldsHeader = consumerRecord.headers().lastHeader(KafkaHeaders.RESULT_FIELDS);
+                ResultFieldsHolder.set(
+                        fieldsHeader != null ? new String(fieldsHeader.value(), StandardCharsets.UTF_8) : null);
+                Object result;
+                try {
+                    result = requestMessage.getMethod()
+                            .invoke(service.getServiceBean(), requestMessage.getParameters());
+                } finally {
+                    ResultFieldsHolder.remove();
+                }
+                Header header = consumerRecord.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
+                ProducerRecord<String, Object> producerRecord;
+                if (header == null) {
+                    producerRecord = new ProducerRecord<>(outputTopic,
+                            consumerRecord.key(),
+                            result);
+                } else {
+                    Integer partition = Integer
+                            .parseInt(new String(header.value(), StandardCharsets.UTF_8));
+                    producerRecord = new ProducerRecord<>(outputTopic,
+                            partition,
+                            consumerRecord.key(),
+                            result);
+                }
+                if (requestIdHeader != null) {
+                    producerRecord.headers().add(requestIdHeaderKey, requestIdHeader.getBytes(StandardCharsets.UTF_8));
+                }
+                forwardHeadersToOutput(consumerRecord, producerRecord);
+
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                }
+                String finalRequestIdHeader = requestIdHeader;
+                producer.send(producerRecord, (metadata, exception) -> {
+                    if (storeLogData != null) {
+                        storeLogData.setProducerRecord(producerRecord);
                     }
-                    try {
-                        consumer.commitSync(currentOffsets);
-                        if (log.isDebugEnabled()) {
-                            log.debug("Current offsets have been committed: {}", currentOffsets);
+                    if (exception == null && storeLogData != null) {
+                        try {
+                            getStoreLogDataManager().store(storeLogData);
+                        } catch (StoreLogDataException e) {
+                            exception = e;
                         }
-                    } catch (Exception e) {
-                        if (log.isErrorEnabled()) {
-                            log.error("Failed to commit current offsets: {}", currentOffsets);
+                    }
+                    if (exception != null) {
+                        try {
+                            if (log.isErrorEnabled()) {
+                                log.error(
+                                        "Failed to send a result message for method '{}' in service '{}' to output topic '{}'.",
+                                        requestMessage.getMethod(),
+                                        getService().getDeployPath(),
+                                        getOutTopic(consumerRecord), exception);
+                            }
+                        } catch (Exception e) {
+                            log.error("Unexpected error.", e);
                         }
+                        sendErrorToDlt(consumerRecord, exception, storeLogData, finalRequestIdHeader);
                     }
+                });
+            } else {
+                if (storeLogData != null) {
+                    storeLogData.setOutcomingMessageTime(ZonedDateTime.now());
+                    getStoreLogDataManager().store(storeLogData);
                 }
-            } catch (Exception e) {
-                log.error("Something wrong.", e);
+            }
+        } catch (InvocationTargetException | UndeclaredThrowableException e) {
+            Throwable ex = e.getCause();
+            sendError(consumerRecord, storeLogData, ex instanceof Exception ? (Exception) ex : e, requestIdHeader);
+        } catch (Exception e) {
+            sendError(consumerRecord, storeLogData, e, requestIdHeader);
+        } finally {
+            if (isStoreLogDataEnabled()) {
+                StoreLogDataHolder.remove();
+            }
+            if (requestIdHeader != null) {
+                MDC.remove(RuleServicesFilter.REQUEST_ID_KEY);
             }
         }
     }
@@ -463,4 +532,14 @@ public final class KafkaService implements Runnable {
         flag = false;
         loopRunningThread.join();
     }
+
+    private static final class WaitingRecord {
+        private final ConsumerRecord<String, RequestMessage> record;
+        private final ZonedDateTime incomingTime;
+
+        WaitingRecord(ConsumerRecord<String, RequestMessage> record, ZonedDateTime incomingTime) {
+            this.record = record;
+            this.incomingTime = incomingTime;
+        }
+    }
 }
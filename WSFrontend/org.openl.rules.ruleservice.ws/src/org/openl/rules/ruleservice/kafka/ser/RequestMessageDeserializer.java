@@ -21,6 +21,7 @@ import org.apache.kafka.common.serialization.Deserializer;
 import org.openl.rules.datatype.gen.JavaBeanClassBuilder;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceOpenLServiceInstantiationHelper;
+import org.openl.rules.ruleservice.databinding.BinaryFormat;
 import org.openl.rules.ruleservice.kafka.KafkaHeaders;
 import org.openl.rules.ruleservice.kafka.RequestMessage;
 import org.openl.rules.ruleservice.kafka.publish.KafkaHelpers;
@@ -32,6 +33,7 @@ public class RequestMessageDeserializer implements Deserializer<RequestMessage>
 
     private static final String UTF8 = "UTF8";
     private final ObjectMapper objectMapper;
+    private ObjectMapper binaryObjectMapper;
     private final OpenLService service;
     private final Map<String, Map<String, Entry>> methodMap;
     private final Entry methodParametersWrapperClassInfo;
@@ -63,6 +65,14 @@ public class RequestMessageDeserializer implements Deserializer<RequestMessage>
         if (encodingValue instanceof String) {
             encoding = (String) encodingValue;
         }
+        Object formatValue = configs.get("value.deserializer.format");
+        if (formatValue == null) {
+            formatValue = configs.get("deserializer.format");
+        }
+        if (formatValue instanceof String) {
+            BinaryFormat format = BinaryFormat.of((String) formatValue);
+            binaryObjectMapper = format != null ? format.copy(objectMapper) : null;
+        }
     }
 
     private Entry generateWrapperClass(Method m) throws Exception {
@@ -144,10 +154,10 @@ public class RequestMessageDeserializer implements Deserializer<RequestMessage>
         if (numOfParameters == 0) {
             return new RequestMessage(method, new Object[]{}, rawData, encoding);
         } else if (numOfParameters == 1) {
-            Object arg = objectMapper.readValue(new String(rawData, encoding), method.getParameterTypes()[0]);
+            Object arg = readValue(rawData, method.getParameterTypes()[0]);
             return new RequestMessage(method, new Object[]{arg}, rawData, encoding);
         } else {
-            Object wrapperTarget = objectMapper.readValue(new String(rawData, encoding), entry.getWrapperClass());
+            Object wrapperTarget = readValue(rawData, entry.getWrapperClass());
             Object[] parameters = new Object[numOfParameters];
             Field[] wrapperClassFields = entry.getWrapperClassFields();
             for (int i = 0; i < method.getParameterCount(); i++) {
@@ -157,6 +167,13 @@ public class RequestMessageDeserializer implements Deserializer<RequestMessage>
         }
     }
 
+    private Object readValue(byte[] rawData, Class<?> type) throws IOException {
+        if (binaryObjectMapper != null) {
+            return binaryObjectMapper.readValue(rawData, type);
+        }
+        return objectMapper.readValue(new String(rawData, encoding), type);
+    }
+
     private void putCachedMethodParametersWrapperClassInfo(String methodName, String methodParameters, Entry entry) {
         Lock writeLock = readWriteLock.writeLock();
         writeLock.lock();
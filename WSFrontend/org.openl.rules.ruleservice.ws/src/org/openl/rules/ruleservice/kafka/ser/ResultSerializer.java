@@ -6,9 +6,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.common.serialization.Serializer;
 
 import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.databinding.BinaryFormat;
 
 public class ResultSerializer implements Serializer<Object> {
     private final ObjectMapper objectMapper;
+    private ObjectMapper binaryObjectMapper;
     private String encoding = "UTF8";
 
     // Do not remove first argument. It is used by reflection.
@@ -25,11 +27,22 @@ public class ResultSerializer implements Serializer<Object> {
         if (encodingValue instanceof String) {
             encoding = (String) encodingValue;
         }
+        Object formatValue = configs.get("value.serializer.format");
+        if (formatValue == null) {
+            formatValue = configs.get("serializer.format");
+        }
+        if (formatValue instanceof String) {
+            BinaryFormat format = BinaryFormat.of((String) formatValue);
+            binaryObjectMapper = format != null ? format.copy(objectMapper) : null;
+        }
     }
 
     @Override
     public byte[] serialize(String topic, Object data) {
         try {
+            if (binaryObjectMapper != null) {
+                return binaryObjectMapper.writeValueAsBytes(data);
+            }
             if (data instanceof String) {
                 return ((String) data).getBytes(encoding);
             }
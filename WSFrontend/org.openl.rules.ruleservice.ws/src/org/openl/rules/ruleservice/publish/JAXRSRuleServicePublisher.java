@@ -1,5 +1,6 @@
 package org.openl.rules.ruleservice.publish;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -7,7 +8,9 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.ext.ExceptionMapper;
 
+import com.fasterxml.jackson.jaxrs.cbor.JacksonCBORProvider;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
 import io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils;
 import io.swagger.v3.oas.integration.ClasspathOpenApiConfigurationLoader;
@@ -33,6 +36,7 @@ import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
 import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
 import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.openl.rules.ruleservice.databinding.BinaryFormat;
 import org.openl.rules.ruleservice.publish.jaxrs.JAXRSOpenLServiceEnhancer;
 import org.openl.rules.ruleservice.publish.jaxrs.swagger.OpenApiHackContainerRequestFilter;
 import org.openl.rules.ruleservice.publish.jaxrs.swagger.OpenApiHackContainerResponseFilter;
@@ -59,6 +63,9 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
     @Value("${ruleservice.authentication.enabled}")
     private boolean authenticationEnabled;
 
+    @Value("${ruleservice.binary.formats.enabled}")
+    private boolean binaryFormatsEnabled;
+
     @Autowired
     @Qualifier("jaxrsOpenApiObjectMapper")
     private ObjectFactory<JacksonObjectMapperFactory> jaxrsOpenApiObjectMapper;
@@ -119,6 +126,14 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
 
             svrFactory.setProvider(new TextPlainMessageProvider(serviceObjectMapper));
             svrFactory.setProvider(new JacksonJsonProvider(serviceObjectMapper));
+            String[] mediaTypes = new String[0];
+            if (binaryFormatsEnabled) {
+                svrFactory.setProvider(new JacksonSmileProvider(BinaryFormat.SMILE.copy(serviceObjectMapper)));
+                svrFactory.setProvider(new JacksonCBORProvider(BinaryFormat.CBOR.copy(serviceObjectMapper)));
+                mediaTypes = Arrays.stream(BinaryFormat.values())
+                        .map(BinaryFormat::getMediaType)
+                        .toArray(String[]::new);
+            }
 
             if (getStoreLogDataManager().isEnabled()) {
                 var storeLogDataInInterceptor = new CollectRequestMessageInInterceptor();
@@ -145,7 +160,7 @@ public class JAXRSRuleServicePublisher implements RuleServicePublisher {
             svrFactory.setProvider(new OpenApiHackContainerRequestFilter(openApiObjectMapper));
             svrFactory.setProvider(new OpenApiHackContainerResponseFilter());
 
-            Object proxyServiceBean = new JAXRSOpenLServiceEnhancer().decorateServiceBean(service);
+            Object proxyServiceBean = new JAXRSOpenLServiceEnhancer().decorateServiceBean(service, mediaTypes);
             // The first one is a decorated interface
             Class<?> serviceClass = proxyServiceBean.getClass().getInterfaces()[0];
             svrFactory.setResourceClasses(serviceClass);
@@ -4,14 +4,25 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import javax.ws.rs.core.Response;
 
+import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+
+import org.openl.rules.ruleservice.core.ResultFieldsHolder;
 import org.openl.runtime.AbstractOpenLMethodHandler;
 
 public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Method> {
 
+    /**
+     * Request header with the comma separated list of the fields of the spreadsheet result required by the client.
+     */
+    public static final String RESULT_FIELDS_HEADER = "X-OpenL-Fields";
+
     private final Object target;
     private final Map<Method, Method> methodMap;
 
@@ -61,11 +72,14 @@ public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Metho
 
         Object o;
 
+        ResultFieldsHolder.set(getResultFieldsHeader());
         try {
             o = m.invoke(target, args);
         } catch (InvocationTargetException | UndeclaredThrowableException e) {
             Throwable ex = e.getCause();
             throw ex instanceof Exception ? (Exception) ex : e;
+        } finally {
+            ResultFieldsHolder.remove();
         }
 
         if (o instanceof Response) {
@@ -74,4 +88,16 @@ public class JAXRSMethodHandler extends AbstractOpenLMethodHandler<Method, Metho
             return Response.status(o == null ? Response.Status.NO_CONTENT : Response.Status.OK).entity(o).build();
         }
     }
-}
\ No newline at end of file
+
+    private static String getResultFieldsHeader() {
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message == null) {
+            return null;
+        }
+        Map<String, List<String>> headers = CastUtils.cast((Map<?, ?>) message.get(Message.PROTOCOL_HEADERS));
+        if (headers == null || headers.get(RESULT_FIELDS_HEADER) == null) {
+            return null;
+        }
+        return String.join(",", headers.get(RESULT_FIELDS_HEADER));
+    }
+}
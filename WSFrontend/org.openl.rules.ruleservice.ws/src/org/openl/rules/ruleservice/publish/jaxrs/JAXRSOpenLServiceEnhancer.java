@@ -14,7 +14,10 @@ import org.openl.runtime.ASMProxyFactory;
  */
 public final class JAXRSOpenLServiceEnhancer {
 
-    public Object decorateServiceBean(OpenLService service) throws Exception {
+    /**
+     * @param mediaTypes media types supported in addition to JSON by the service methods
+     */
+    public Object decorateServiceBean(OpenLService service, String... mediaTypes) throws Exception {
         Class<?> serviceClass = service.getServiceClass();
         Objects.requireNonNull(serviceClass, "Service class cannot be null");
         ClassLoader classLoader = service.getClassLoader();
@@ -22,7 +25,8 @@ public final class JAXRSOpenLServiceEnhancer {
                 service.getServiceBean(),
                 classLoader,
                 service.isProvideRuntimeContext(),
-                service.isProvideVariations()
+                service.isProvideVariations(),
+                mediaTypes
         );
         if (enhancedServiceClass.getPackage() == null) {
             throw new IllegalStateException("Package cannot be null");
@@ -81,6 +81,15 @@ public class AdminRestController {
         return okOrNotFound(serviceManager.getServiceErrors(deployPath));
     }
 
+    /**
+     * @return metrics of the result cache of the given OpenL service.
+     */
+    @GET
+    @Path("/services/{deployPath:.+}/cache/")
+    public Response getResultCacheStatistics(@PathParam("deployPath") final String deployPath) {
+        return okOrNotFound(serviceManager.getResultCacheStatistics(deployPath));
+    }
+
     @GET
     @Path("/services/{deployPath:.+}/MANIFEST.MF")
     public Response getManifest(@PathParam("deployPath") final String deployPath) {
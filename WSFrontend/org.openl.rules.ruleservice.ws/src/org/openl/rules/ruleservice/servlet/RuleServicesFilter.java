@@ -187,15 +187,15 @@ public class RuleServicesFilter implements Filter {
             }
         }
 
-        // Lock RuleServices until all services are available
-        // TODO: Replace locking of all requests by locking per OpenL service in RuleService
-        if (path.startsWith("/admin/")) { // Do not block admin functionality
+        // Lock the requested service, so it is not replaced until the request is processed
+        var lock = path.startsWith("/admin/") ? null // Do not block admin functionality
+                : RuleServiceRedeployLock.getInstance().findReadLock(path);
+        if (lock == null) {
             chain.doFilter(request, response);
             return;
         }
-        var lock = RuleServiceRedeployLock.getInstance().getReadLock();
+        lock.lock();
         try {
-            lock.lock();
             chain.doFilter(request, response);
         } finally {
             lock.unlock();
@@ -1,5 +1,6 @@
 package org.openl.rules.ruleservice.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -438,7 +439,16 @@ public class JAXRSOpenLServiceEnhancerTest {
         }
     }
 
-    private static Class<?> createService(Class<?> clazz) throws Exception {
+    @Test
+    public void testAdditionalMediaTypes() throws Exception {
+        Class<?> enhancedClass = createService(TestInterface.class, "application/cbor");
+        assertArrayEquals(new String[] { MediaType.APPLICATION_JSON, "application/cbor" },
+                enhancedClass.getAnnotation(Produces.class).value());
+        assertArrayEquals(new String[] { MediaType.APPLICATION_JSON, "application/cbor" },
+                enhancedClass.getAnnotation(Consumes.class).value());
+    }
+
+    private static Class<?> createService(Class<?> clazz, String... mediaTypes) throws Exception {
         ClassLoader classLoader = new ClassLoader() {
         };
         OpenLService service = new OpenLService.OpenLServiceBuilder().setClassLoader(classLoader)
@@ -452,7 +462,7 @@ public class JAXRSOpenLServiceEnhancerTest {
                     }
                 });
         service.setServiceBean(new Object());
-        Object proxy = new JAXRSOpenLServiceEnhancer().decorateServiceBean(service);
+        Object proxy = new JAXRSOpenLServiceEnhancer().decorateServiceBean(service, mediaTypes);
         return proxy.getClass().getInterfaces()[0];
     }
 }
@@ -0,0 +1,75 @@
+package org.openl.rules.ruleservice.databinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.serialization.JacksonObjectMapperFactoryBean;
+
+public class BinaryFormatTest {
+
+    public static class Bean {
+        private Double amount;
+        private Object value;
+        private Date date;
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public void setValue(Object value) {
+            this.value = value;
+        }
+
+        public Date getDate() {
+            return date;
+        }
+
+        public void setDate(Date date) {
+            this.date = date;
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ObjectMapper json = new JacksonObjectMapperFactoryBean().createJacksonObjectMapper();
+        Bean bean = new Bean();
+        bean.setAmount(0.1);
+        bean.setValue(new Bean());
+        bean.setDate(new Date(0));
+        for (BinaryFormat format : BinaryFormat.values()) {
+            ObjectMapper mapper = format.copy(json);
+            byte[] bytes = mapper.writeValueAsBytes(bean);
+            Bean result = mapper.readValue(bytes, Bean.class);
+            assertEquals(0.1, result.getAmount());
+            assertEquals(Bean.class, result.getValue().getClass());
+            assertEquals(new Date(0), result.getDate());
+            // The same settings as JSON
+            assertEquals(json.writeValueAsString(bean), json.writeValueAsString(result));
+        }
+    }
+
+    @Test
+    public void testOf() {
+        assertSame(BinaryFormat.SMILE, BinaryFormat.of("smile"));
+        assertSame(BinaryFormat.CBOR, BinaryFormat.of(" CBOR "));
+        assertNull(BinaryFormat.of("json"));
+        assertNull(BinaryFormat.of(""));
+        assertNull(BinaryFormat.of(null));
+        assertThrows(IllegalArgumentException.class, () -> BinaryFormat.of("xml"));
+    }
+}
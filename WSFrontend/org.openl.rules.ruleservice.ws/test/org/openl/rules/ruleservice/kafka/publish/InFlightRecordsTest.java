@@ -0,0 +1,87 @@
+package org.openl.rules.ruleservice.kafka.publish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class InFlightRecordsTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("topic", 0);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrderOfRecordsWithTheSameKey() throws Exception {
+        InFlightRecords records = new InFlightRecords(executor);
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        for (long offset = 0; offset < 100; offset++) {
+            long current = offset;
+            records.submit(record(offset, "key"), () -> processed.add(current));
+        }
+        records.drainAll();
+
+        assertEquals(100, processed.size());
+        for (int i = 0; i < processed.size(); i++) {
+            assertEquals(i, processed.get(i));
+        }
+        assertEquals(0, records.size());
+    }
+
+    @Test
+    public void testOffsetsAreCommittedUpToFirstNotProcessedRecord() throws Exception {
+        InFlightRecords records = new InFlightRecords(executor);
+        CountDownLatch latch = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(2);
+        records.submit(record(0, null), processed::countDown);
+        records.submit(record(1, null), () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        records.submit(record(2, null), processed::countDown);
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+        waitForSize(records, 1);
+
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(1)), records.collectOffsets());
+        assertTrue(records.collectOffsets().isEmpty());
+
+        latch.countDown();
+        waitForSize(records, 0);
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(3)), records.collectOffsets());
+        assertEquals(Map.of(PARTITION, new OffsetAndMetadata(3)), records.drainAll());
+        assertTrue(records.collectOffsets().isEmpty());
+    }
+
+    private static void waitForSize(InFlightRecords records, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (records.size() != size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, records.size());
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, String key) {
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, key, null);
+    }
+}
@@ -0,0 +1,243 @@
+package org.openl.rules.ruleservice.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a graph of dependent nodes. A node is compiled when all nodes it depends on have been compiled, independent
+ * nodes are compiled concurrently by a bounded number of threads. Nodes which are in a circular dependency or depend on
+ * such nodes are compiled one by one after the others, so the compiler reports the circular dependency as usual.
+ *
+ * @param <K> type of node keys
+ */
+public final class CompilationScheduler<K> {
+
+    private final Logger log = LoggerFactory.getLogger(CompilationScheduler.class);
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final int threads;
+    private final Map<K, Node<K>> nodes = new LinkedHashMap<>();
+    private final Map<K, Long> compilationTimes = new ConcurrentHashMap<>();
+
+    private static final class Node<K> {
+        private final K key;
+        private final String name;
+        private final Collection<? extends K> dependencies;
+        private final Runnable task;
+        private final List<Node<K>> dependents = new ArrayList<>();
+        private final AtomicInteger notCompiledDependencies = new AtomicInteger();
+
+        private Node(K key, String name, Collection<? extends K> dependencies, Runnable task) {
+            this.key = key;
+            this.name = name;
+            this.dependencies = dependencies;
+            this.task = task;
+        }
+    }
+
+    /**
+     * @param threads max number of nodes compiled at the same time
+     */
+    public CompilationScheduler(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive.");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Adds a node to the graph. Dependencies which are not added to the graph are ignored.
+     *
+     * @param key          unique key of the node
+     * @param name         name of the node used in logs
+     * @param dependencies keys of the nodes which must be compiled before this one
+     * @param task         compiles the node, if it fails then the node is left for compilation on demand
+     * @return false if the node with the same key has already been added
+     */
+    public boolean add(K key, String name, Collection<? extends K> dependencies, Runnable task) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(task, "task cannot be null");
+        if (nodes.containsKey(key)) {
+            return false;
+        }
+        nodes.put(key,
+                new Node<>(key, name, dependencies != null ? dependencies : Collections.emptyList(), task));
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    /**
+     * @return time of the node compilation in milliseconds or null if the node has not been compiled
+     */
+    public Long getCompilationTime(K key) {
+        return compilationTimes.get(key);
+    }
+
+    /**
+     * Compiles all nodes of the graph and waits for the completion.
+     */
+    public void run() throws InterruptedException {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (Node<K> node : nodes.values()) {
+            for (K dependency : node.dependencies) {
+                Node<K> dependencyNode = nodes.get(dependency);
+                if (dependencyNode != null && dependencyNode != node) {
+                    dependencyNode.dependents.add(node);
+                    node.notCompiledDependencies.incrementAndGet();
+                }
+            }
+        }
+        Collection<Node<K>> cyclicNodes = findCyclicNodes();
+        int acyclicNodes = nodes.size() - cyclicNodes.size();
+        if (acyclicNodes > 0) {
+            runConcurrently(acyclicNodes);
+        }
+        if (!cyclicNodes.isEmpty()) {
+            log.warn("Circular dependency is detected between: {}. These nodes are compiled one by one.",
+                    cyclicNodes.stream().map(e -> e.name).collect(Collectors.joining(", ")));
+            for (Node<K> node : cyclicNodes) {
+                compile(node);
+            }
+        }
+        log.info("{} node(s) have been compiled in [{}] ms by {} thread(s).",
+                nodes.size(),
+                System.currentTimeMillis() - start,
+                Math.min(threads, acyclicNodes));
+    }
+
+    private Collection<Node<K>> findCyclicNodes() {
+        Map<K, Collection<? extends K>> dependencies = new LinkedHashMap<>();
+        for (Node<K> node : nodes.values()) {
+            dependencies.put(node.key, node.dependencies);
+        }
+        return findCyclicKeys(dependencies).stream().map(nodes::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Removes the nodes from the graph in the topological order. The rest nodes are in a circular dependency or depend
+     * on such nodes. Dependencies on itself and on the keys which are absent in the graph are ignored.
+     *
+     * @param dependencies keys of the nodes mapped to keys of the nodes they depend on
+     * @return keys of the nodes which are in a circular dependency or depend on such nodes in the order of the graph
+     */
+    public static <K> Set<K> findCyclicKeys(Map<K, ? extends Collection<? extends K>> dependencies) {
+        Map<K, Integer> counters = new HashMap<>();
+        Map<K, List<K>> dependents = new HashMap<>();
+        for (Map.Entry<K, ? extends Collection<? extends K>> entry : dependencies.entrySet()) {
+            Set<K> distinct = new HashSet<>(entry.getValue() != null ? entry.getValue() : Collections.emptyList());
+            int counter = 0;
+            for (K dependency : distinct) {
+                if (dependencies.containsKey(dependency) && !Objects.equals(dependency, entry.getKey())) {
+                    dependents.computeIfAbsent(dependency, e -> new ArrayList<>()).add(entry.getKey());
+                    counter++;
+                }
+            }
+            counters.put(entry.getKey(), counter);
+        }
+        List<K> queue = new ArrayList<>();
+        for (Map.Entry<K, Integer> entry : counters.entrySet()) {
+            if (entry.getValue() == 0) {
+                queue.add(entry.getKey());
+            }
+        }
+        for (int i = 0; i < queue.size(); i++) {
+            for (K dependent : dependents.getOrDefault(queue.get(i), Collections.emptyList())) {
+                if (counters.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        Set<K> cyclicKeys = new LinkedHashSet<>();
+        for (K key : dependencies.keySet()) {
+            if (counters.get(key) > 0) {
+                cyclicKeys.add(key);
+            }
+        }
+        return cyclicKeys;
+    }
+
+    private void runConcurrently(int count) throws InterruptedException {
+        // Collect the nodes before submitting, because the counters are changed by the running tasks
+        List<Node<K>> independentNodes = nodes.values()
+                .stream()
+                .filter(e -> e.notCompiledDependencies.get() == 0)
+                .collect(Collectors.toList());
+        CountDownLatch completed = new CountDownLatch(count);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, count), newThreadFactory());
+        try {
+            for (Node<K> node : independentNodes) {
+                submit(executor, node, completed, classLoader);
+            }
+            completed.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit(ExecutorService executor, Node<K> node, CountDownLatch completed, ClassLoader classLoader) {
+        executor.execute(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader oldClassLoader = thread.getContextClassLoader();
+            try {
+                thread.setContextClassLoader(classLoader);
+                compile(node);
+            } finally {
+                thread.setContextClassLoader(oldClassLoader);
+                // Dependents are released even if the node has failed, otherwise the scheduler waits for them forever
+                for (Node<K> dependent : node.dependents) {
+                    if (dependent.notCompiledDependencies.decrementAndGet() == 0) {
+                        submit(executor, dependent, completed, classLoader);
+                    }
+                }
+                completed.countDown();
+            }
+        });
+    }
+
+    private void compile(Node<K> node) {
+        long start = System.currentTimeMillis();
+        try {
+            node.task.run();
+        } catch (Throwable e) {
+            log.error("Failed to compile '{}'. It is left for compilation on demand.", node.name, e);
+        }
+        long time = System.currentTimeMillis() - start;
+        compilationTimes.put(node.key, time);
+        log.info("'{}' has been compiled in [{}] ms.", node.name, time);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "openl-compilation-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -44,6 +44,7 @@ public final class OpenLService {
     private Map<String, String> urls = Collections.emptyMap();
     private final DeploymentDescription deployment;
     private ConfigurableApplicationContext serviceContext;
+    private ServiceResultCache resultCache;
 
     /**
      * Returns service classloader
@@ -314,6 +315,17 @@ public final class OpenLService {
         this.serviceContext = serviceContext;
     }
 
+    /**
+     * @return the cache of results of the service methods or null if the cache is disabled
+     */
+    public ServiceResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(ServiceResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,44 @@
+package org.openl.rules.ruleservice.core;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Thread-local holder for the fields of the spreadsheet result requested by the client. Publishers set the fields
+ * before the service method is invoked, so only the requested cells and the cells they depend on are calculated.
+ * <p/>
+ * Only for RuleService internal use.
+ */
+public final class ResultFieldsHolder {
+
+    private static final ThreadLocal<Set<String>> RESULT_FIELDS = new ThreadLocal<>();
+
+    private ResultFieldsHolder() {
+    }
+
+    public static Set<String> get() {
+        return RESULT_FIELDS.get();
+    }
+
+    /**
+     * @param fields comma separated list of the requested fields, blank value means that all fields are required
+     */
+    public static void set(String fields) {
+        Set<String> resultFields = Arrays.stream(StringUtils.defaultString(fields).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toUnmodifiableSet());
+        if (resultFields.isEmpty()) {
+            RESULT_FIELDS.remove();
+        } else {
+            RESULT_FIELDS.set(resultFields);
+        }
+    }
+
+    public static void remove() {
+        RESULT_FIELDS.remove();
+    }
+}
@@ -2,11 +2,15 @@ package org.openl.rules.ruleservice.core;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +25,8 @@ import org.openl.rules.project.instantiation.AbstractDependencyManager;
 import org.openl.rules.project.instantiation.DependencyLoaderInitializationException;
 import org.openl.rules.project.instantiation.IDependencyLoader;
 import org.openl.rules.project.model.Module;
+import org.openl.rules.project.model.ProjectDependencyDescriptor;
+import org.openl.rules.project.model.ProjectDescriptor;
 import org.openl.rules.ruleservice.loader.RuleServiceLoader;
 
 public class RuleServiceDependencyManager extends AbstractDependencyManager {
@@ -31,6 +37,8 @@ public class RuleServiceDependencyManager extends AbstractDependencyManager {
     private final DeploymentDescription deployment;
     private final ThreadLocal<Deque<CompilationInfo>> compilationInfoThreadLocal = ThreadLocal
             .withInitial(ArrayDeque::new);
+    private final Object compilationMonitorsLock = new Object();
+    private volatile Map<String, Object> compilationMonitors;
 
     private static class CompilationInfo {
         long time;
@@ -84,6 +92,111 @@ public class RuleServiceDependencyManager extends AbstractDependencyManager {
         }
     }
 
+    /**
+     * Projects which are not in a circular dependency and do not depend on such projects are guarded by their own
+     * monitors, so independent projects are compiled at the same time. A project and its modules share the same
+     * monitor. Other projects are guarded by the monitor of this manager, they can wait only for the projects of the
+     * first kind, so threads never wait for each other.
+     */
+    @Override
+    protected Object getCompilationMonitor(IDependencyLoader dependencyLoader) {
+        Object monitor = getCompilationMonitors().get(dependencyLoader.getProject().getName());
+        return monitor != null ? monitor : this;
+    }
+
+    private Map<String, Object> getCompilationMonitors() {
+        Map<String, Object> monitors = compilationMonitors;
+        if (monitors == null) {
+            synchronized (compilationMonitorsLock) {
+                monitors = compilationMonitors;
+                if (monitors == null) {
+                    Map<String, Set<String>> dependencies = new HashMap<>();
+                    for (IDependencyLoader dependencyLoader : getDependencyLoaders()) {
+                        if (dependencyLoader.isProjectLoader()) {
+                            dependencies.put(dependencyLoader.getProject().getName(),
+                                    getDependencyNames(dependencyLoader.getProject()));
+                        }
+                    }
+                    Set<String> cyclicProjects = CompilationScheduler.findCyclicKeys(dependencies);
+                    monitors = new HashMap<>();
+                    for (String projectName : dependencies.keySet()) {
+                        if (!cyclicProjects.contains(projectName)) {
+                            monitors.put(projectName, new Object());
+                        }
+                    }
+                    compilationMonitors = monitors;
+                }
+            }
+        }
+        return monitors;
+    }
+
+    /**
+     * Adds compilation of the projects which other projects of the deployment depend on to the scheduler. The nodes
+     * are keyed by {@link #getCompilationKey(DeploymentDescription, String)}, so the scheduler can be shared by several
+     * deployments. The projects are compiled under the monitors returned by
+     * {@link #getCompilationMonitor(IDependencyLoader)}, so independent projects are compiled at the same time.
+     */
+    public void scheduleDependencies(CompilationScheduler<Object> scheduler) {
+        Map<String, IDependencyLoader> projectLoaders = new HashMap<>();
+        for (IDependencyLoader dependencyLoader : getDependencyLoaders()) {
+            if (dependencyLoader.isProjectLoader()) {
+                projectLoaders.put(dependencyLoader.getProject().getName(), dependencyLoader);
+            }
+        }
+        for (IDependencyLoader dependencyLoader : projectLoaders.values()) {
+            for (String dependency : getDependencyNames(dependencyLoader.getProject())) {
+                IDependencyLoader loader = projectLoaders.get(dependency);
+                Object key = getCompilationKey(deployment, dependency);
+                if (loader != null && !scheduler.contains(key)) {
+                    scheduler.add(key,
+                            String.format("Project '%s' in deployment '%s'", dependency, deployment.getName()),
+                            getCompilationKeys(deployment, loader.getProject()),
+                            () -> compile(loader));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return key of the project compilation in {@link CompilationScheduler}
+     */
+    public static Object getCompilationKey(DeploymentDescription deployment, String projectName) {
+        return List.of(deployment, projectName);
+    }
+
+    /**
+     * @return keys of the compilation of the projects which the project depends on
+     */
+    public static Set<Object> getCompilationKeys(DeploymentDescription deployment, ProjectDescriptor project) {
+        return getDependencyNames(project)
+                .stream()
+                .map(name -> getCompilationKey(deployment, name))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * @return names of the projects which the project depends on
+     */
+    private static Set<String> getDependencyNames(ProjectDescriptor project) {
+        if (project.getDependencies() == null) {
+            return Collections.emptySet();
+        }
+        return project.getDependencies()
+                .stream()
+                .map(ProjectDependencyDescriptor::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private void compile(IDependencyLoader dependencyLoader) {
+        try {
+            MaxThreadsForCompileSemaphore.getInstance().run(dependencyLoader::getCompiledDependency);
+        } catch (Exception e) {
+            // The error is reported again when the dependent service is compiled
+            log.debug("Failed to compile dependency '{}'.", dependencyLoader.getDependency(), e);
+        }
+    }
+
     public RuleServiceDependencyManager(DeploymentDescription deploymentDescription,
                                         RuleServiceLoader ruleServiceLoader,
                                         ClassLoader rootClassLoader,
@@ -18,4 +18,12 @@ public interface RuleServiceInstantiationFactory {
     OpenLService createService(ServiceDescription serviceDescription) throws RuleServiceInstantiationException;
 
     void clean(ServiceDescription serviceDescription);
+
+    /**
+     * Adds compilation of the projects which services of the deployment depend on to the scheduler.
+     *
+     * @param serviceDescription any service of the deployment
+     */
+    default void scheduleDependencies(ServiceDescription serviceDescription, CompilationScheduler<Object> scheduler) {
+    }
 }
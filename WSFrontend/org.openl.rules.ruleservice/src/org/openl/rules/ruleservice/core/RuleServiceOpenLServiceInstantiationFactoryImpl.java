@@ -4,9 +4,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -47,7 +47,7 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
 
     private Map<String, Object> externalParameters;
 
-    private final Map<DeploymentDescription, RuleServiceDependencyManager> dependencyManagerMap = new HashMap<>();
+    private final Map<DeploymentDescription, RuleServiceDependencyManager> dependencyManagerMap = new ConcurrentHashMap<>();
 
     private ObjectProvider<Collection<ServiceInvocationAdviceListener>> serviceInvocationAdviceListeners;
 
@@ -133,6 +133,7 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
                     .newProxyInstance(classLoader, serviceInvocationAdvice, serviceClass);
             service.setServiceBean(proxyServiceBean);
             service.setServiceContext(serviceInvocationAdvice.serviceContext);
+            service.setResultCache(serviceInvocationAdvice.resultCache);
         } catch (Exception t) {
             throw new RuleServiceRuntimeException("Failed to create a proxy for service target object.", t);
         }
@@ -319,20 +320,17 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
         dependencyManagerMap.remove(serviceDescription.getDeployment()).resetAll();
     }
 
+    @Override
+    public void scheduleDependencies(ServiceDescription serviceDescription, CompilationScheduler<Object> scheduler) {
+        getDependencyManager(serviceDescription).scheduleDependencies(scheduler);
+    }
+
     private RuleServiceDependencyManager getDependencyManager(ServiceDescription serviceDescription) {
-        RuleServiceDependencyManager dependencyManager;
-        DeploymentDescription deployment = serviceDescription.getDeployment();
-        if (dependencyManagerMap.containsKey(deployment)) {
-            dependencyManager = dependencyManagerMap.get(deployment);
-        } else {
-            ClassLoader rootClassLoader = Thread.currentThread().getContextClassLoader();
-            dependencyManager = new RuleServiceDependencyManager(deployment,
-                    ruleServiceLoader,
-                    rootClassLoader,
-                    externalParameters);
-            dependencyManagerMap.put(deployment, dependencyManager);
-        }
-        return dependencyManager;
+        return dependencyManagerMap.computeIfAbsent(serviceDescription.getDeployment(),
+                deployment -> new RuleServiceDependencyManager(deployment,
+                        ruleServiceLoader,
+                        Thread.currentThread().getContextClassLoader(),
+                        externalParameters));
     }
 
 }
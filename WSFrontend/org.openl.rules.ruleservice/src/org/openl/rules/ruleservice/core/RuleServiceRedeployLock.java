@@ -1,9 +1,18 @@
 package org.openl.rules.ruleservice.core;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * Locks of the published services. A request to a service holds the read lock of the service, so the service is not
+ * undeployed or replaced while the request is processed. Every service has its own lock, so redeploying of one service
+ * does not block requests to other services.
+ */
 public final class RuleServiceRedeployLock {
     private static class RuleServiceRedeployLockHolder {
         private static final RuleServiceRedeployLock INSTANCE = new RuleServiceRedeployLock();
@@ -13,14 +22,52 @@ public final class RuleServiceRedeployLock {
         return RuleServiceRedeployLockHolder.INSTANCE;
     }
 
-    private final ReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
+    private final Map<String, ReadWriteLock> locks = new ConcurrentHashMap<>();
 
-    public Lock getReadLock() {
-        return reentrantReadWriteLock.readLock();
+    /**
+     * Returns the lock of the service published with the given URL. The lock is registered if it does not exist.
+     *
+     * @param url the URL of the service, percent-encoded as published
+     */
+    public ReadWriteLock getLock(String url) {
+        return locks.computeIfAbsent(decode(url), e -> new ReentrantReadWriteLock());
     }
 
-    public Lock getWriteLock() {
-        return reentrantReadWriteLock.writeLock();
+    public void removeLock(String url) {
+        locks.remove(decode(url));
     }
 
+    /**
+     * Returns the read lock of the service which URL is the longest prefix of the request path.
+     *
+     * @param path the decoded path of the request, as returned by {@code HttpServletRequest.getPathInfo()}
+     * @return the read lock or null if no service is published with the matched URL
+     */
+    public Lock findReadLock(String path) {
+        if (locks.isEmpty()) {
+            return null;
+        }
+        String p = removeLeadingSlash(path);
+        int end = p.length();
+        while (end > 0) {
+            ReadWriteLock lock = locks.get(p.substring(0, end));
+            if (lock != null) {
+                return lock.readLock();
+            }
+            end = p.lastIndexOf('/', end - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Service URLs are percent-encoded while request paths are decoded by the servlet container, so the locks are
+     * registered by decoded URLs. '+' is kept as is, because it is not an encoded space in a path.
+     */
+    private static String decode(String url) {
+        return removeLeadingSlash(URLDecoder.decode(url.replace("+", "%2B"), StandardCharsets.UTF_8));
+    }
+
+    private static String removeLeadingSlash(String url) {
+        return url.startsWith("/") ? url.substring(1) : url;
+    }
 }
@@ -8,11 +8,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -34,9 +39,13 @@ import org.openl.exception.OpenLRuntimeException;
 import org.openl.exception.OpenLUserRuntimeException;
 import org.openl.rules.calc.CombinedSpreadsheetResultOpenClass;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
+import org.openl.rules.calc.Spreadsheet;
 import org.openl.rules.calc.SpreadsheetResult;
 import org.openl.rules.calc.SpreadsheetResultBeanPropertyNamingStrategy;
+import org.openl.rules.calc.result.SpreadsheetResultBuilder;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.lang.xls.binding.wrapper.WrapperLogic;
+import org.openl.rules.method.ITablePropertiesMethod;
 import org.openl.rules.project.model.RulesDeploy;
 import org.openl.rules.ruleservice.core.annotations.BeanToSpreadsheetResultConvert;
 import org.openl.rules.ruleservice.core.annotations.ExternalParam;
@@ -58,10 +67,14 @@ import org.openl.rules.runtime.LoggingCapability;
 import org.openl.rules.runtime.LoggingHandler;
 import org.openl.rules.serialization.DefaultTypingMode;
 import org.openl.rules.serialization.ProjectJacksonObjectMapperFactoryBean;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.types.OpenMethodDispatcher;
+import org.openl.rules.vm.SimpleRulesRuntimeEnv;
 import org.openl.runtime.AbstractOpenLMethodHandler;
 import org.openl.runtime.IEngineWrapper;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMember;
+import org.openl.types.IOpenMethod;
 import org.openl.util.ArrayUtils;
 
 /**
@@ -98,6 +111,11 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
 
     private final Function<Object, String> serializer;
 
+    private final ObjectMapper argumentsMapper;
+    final ServiceResultCache resultCache;
+    private final Set<Method> cacheableMethods = new HashSet<>();
+    private final Set<Method> spreadsheetResultMethods = new HashSet<>();
+
     public ServiceInvocationAdvice(IOpenClass openClass,
                                    Object serviceTarget,
                                    Map<Method, Method> methodMap,
@@ -122,6 +140,7 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
         }
 
         final ObjectMapper mapper = configureObjectMapper(rulesDeploy, serviceClassLoader, (XlsModuleOpenClass) openClass);
+        this.argumentsMapper = mapper;
         serializer = (Object x) -> {
             try {
                 Object object;
@@ -140,6 +159,7 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
 
         this.loggingEnabled = Boolean
                 .parseBoolean(applicationContext.getEnvironment().getProperty("ruleservice.logging.enabled"));
+        this.resultCache = createResultCache(rulesDeploy, applicationContext);
 
         AnnotationConfigApplicationContext serviceContext = new AnnotationConfigApplicationContext();
         serviceContext.setClassLoader(serviceClassLoader);
@@ -171,12 +191,40 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
                 checkForAfterInterceptor(method);
                 checkForAroundInterceptor(method);
                 checkForServiceExtraMethodAnnotation(method);
+                checkForCacheableMethod(method);
+                checkForSpreadsheetResultMethod(method);
             }
         } finally {
             Thread.currentThread().setContextClassLoader(oldClassLoader);
         }
     }
 
+    private static ServiceResultCache createResultCache(RulesDeploy rulesDeploy, ApplicationContext applicationContext) {
+        int size = Integer.parseInt(getProperty("ruleservice.cache.size", "0", rulesDeploy, applicationContext));
+        if (size <= 0) {
+            return null;
+        }
+        long ttl = Long.parseLong(getProperty("ruleservice.cache.ttl", "0", rulesDeploy, applicationContext));
+        return new ServiceResultCache(size, ttl, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The setting from the rules-deploy.xml configuration has priority over the application one.
+     */
+    private static String getProperty(String key,
+                                      String defaultValue,
+                                      RulesDeploy rulesDeploy,
+                                      ApplicationContext applicationContext) {
+        Object value = null;
+        if (rulesDeploy != null && rulesDeploy.getConfiguration() != null) {
+            value = rulesDeploy.getConfiguration().get(key);
+        }
+        if (value == null) {
+            value = applicationContext.getEnvironment().getProperty(key);
+        }
+        return Objects.toString(value, defaultValue).trim();
+    }
+
     private ObjectMapper configureObjectMapper(RulesDeploy rulesDeploy,
                                                ClassLoader classLoader,
                                                XlsModuleOpenClass openClass) {
@@ -329,6 +377,68 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
         }
     }
 
+    /**
+     * Results are cached for the rules marked as cacheable only. Methods with 'after' or 'around' interceptors are not
+     * cached, because the interceptors can modify the shared result.
+     */
+    private void checkForCacheableMethod(Method method) {
+        if (resultCache == null) {
+            return;
+        }
+        IOpenMethod openMethod = getNotInterceptedOpenMethod(method);
+        if (openMethod != null && isCacheable(openMethod)) {
+            cacheableMethods.add(method);
+        }
+    }
+
+    private void checkForSpreadsheetResultMethod(Method method) {
+        IOpenMethod openMethod = getNotInterceptedOpenMethod(method);
+        if (openMethod != null && isSpreadsheetResultMethod(openMethod)) {
+            spreadsheetResultMethods.add(method);
+        }
+    }
+
+    /**
+     * @return the rules method if the service method result is returned to the client as is
+     */
+    private IOpenMethod getNotInterceptedOpenMethod(Method method) {
+        if (method.isAnnotationPresent(ServiceExtraMethod.class) || afterInterceptors
+                .containsKey(method) || aroundInterceptors.containsKey(method) || getTargetMember(method) == null) {
+            return null;
+        }
+        IOpenMember openMember;
+        try {
+            openMember = getOpenMember(method);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        return openMember instanceof IOpenMethod ? (IOpenMethod) openMember : null;
+    }
+
+    private static boolean isSpreadsheetResultMethod(IOpenMethod method) {
+        method = WrapperLogic.extractNonLazyMethod(WrapperLogic.unwrapOpenMethod(method));
+        if (method instanceof OpenMethodDispatcher) {
+            List<IOpenMethod> candidates = ((OpenMethodDispatcher) method).getCandidates();
+            return !candidates.isEmpty() && candidates.stream()
+                    .allMatch(ServiceInvocationAdvice::isSpreadsheetResultMethod);
+        }
+        return method instanceof Spreadsheet && ((Spreadsheet) method)
+                .getResultBuilder() instanceof SpreadsheetResultBuilder;
+    }
+
+    private static boolean isCacheable(IOpenMethod method) {
+        method = WrapperLogic.extractNonLazyMethod(WrapperLogic.unwrapOpenMethod(method));
+        if (method instanceof OpenMethodDispatcher) {
+            List<IOpenMethod> candidates = ((OpenMethodDispatcher) method).getCandidates();
+            return !candidates.isEmpty() && candidates.stream().allMatch(ServiceInvocationAdvice::isCacheable);
+        }
+        if (method instanceof ITablePropertiesMethod) {
+            ITableProperties properties = ((ITablePropertiesMethod) method).getMethodProperties();
+            return properties != null && Boolean.TRUE.equals(properties.getCacheable());
+        }
+        return false;
+    }
+
     private void checkForAfterInterceptor(Method method) {
         var annotations = method.getAnnotationsByType(ServiceCallAfterInterceptor.class);
         for (var annotation : annotations) {
@@ -456,7 +566,7 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
                     try {
                         if (beanMethod != null) {
                             args = processArguments(calledMethod, beanMethod, args);
-                            result = beanMethod.invoke(serviceTarget, args);
+                            result = invokeBeanMethod(calledMethod, beanMethod, args);
                         } else {
                             result = serviceExtraMethodInvoke(calledMethod, serviceTarget, args);
                         }
@@ -503,6 +613,53 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
         return result;
     }
 
+    private Object invokeBeanMethod(Method calledMethod, Method beanMethod, Object[] args) throws Exception {
+        Set<String> resultFields = getResultFields(calledMethod);
+        if (cacheableMethods.contains(calledMethod)) {
+            String serializedArgs;
+            try {
+                // The runtime context is the part of the arguments
+                serializedArgs = argumentsMapper.writeValueAsString(args);
+            } catch (JsonProcessingException e) {
+                log.debug("Arguments of method '{}' cannot be serialized. The result is not cached.",
+                        calledMethod.getName(),
+                        e);
+                return invokeBeanMethod(beanMethod, args, resultFields);
+            }
+            return resultCache.get(new ResultKey(calledMethod, serializedArgs, resultFields),
+                    () -> invokeBeanMethod(beanMethod, args, resultFields));
+        }
+        return invokeBeanMethod(beanMethod, args, resultFields);
+    }
+
+    /**
+     * @return fields of the spreadsheet result requested by the client or null if the whole result is required
+     */
+    private Set<String> getResultFields(Method calledMethod) {
+        Set<String> resultFields = ResultFieldsHolder.get();
+        if (resultFields == null || !spreadsheetResultMethods.contains(calledMethod)) {
+            return null;
+        }
+        if (serviceTarget instanceof IEngineWrapper && ((IEngineWrapper) serviceTarget)
+                .getRuntimeEnv() instanceof SimpleRulesRuntimeEnv) {
+            return resultFields;
+        }
+        return null;
+    }
+
+    private Object invokeBeanMethod(Method beanMethod, Object[] args, Set<String> resultFields) throws Exception {
+        if (resultFields == null) {
+            return beanMethod.invoke(serviceTarget, args);
+        }
+        SimpleRulesRuntimeEnv env = (SimpleRulesRuntimeEnv) ((IEngineWrapper) serviceTarget).getRuntimeEnv();
+        env.setResultFields(resultFields);
+        try {
+            return beanMethod.invoke(serviceTarget, args);
+        } finally {
+            env.setResultFields(null);
+        }
+    }
+
     private Object[] processArguments(Method interfaceMethod, Method beanMethod, Object[] args) {
         Object[] newArgs = new Object[beanMethod.getParameterCount()];
         int i = 0;
@@ -642,4 +799,34 @@ public final class ServiceInvocationAdvice extends AbstractOpenLMethodHandler<Me
     public Method getTargetMember(Method key) {
         return methodMap.get(key);
     }
+
+    private static final class ResultKey {
+        private final Method method;
+        private final String serializedArgs;
+        private final Set<String> resultFields;
+
+        private ResultKey(Method method, String serializedArgs, Set<String> resultFields) {
+            this.method = method;
+            this.serializedArgs = serializedArgs;
+            this.resultFields = resultFields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResultKey that = (ResultKey) o;
+            return method.equals(that.method) && serializedArgs.equals(that.serializedArgs) && Objects
+                    .equals(resultFields, that.resultFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * method.hashCode() + serializedArgs.hashCode()) + Objects.hashCode(resultFields);
+        }
+    }
 }
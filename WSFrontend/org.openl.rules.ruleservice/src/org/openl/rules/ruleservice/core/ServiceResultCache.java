@@ -0,0 +1,114 @@
+package org.openl.rules.ruleservice.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of service methods shared between the requests of one service. The least recently used results are evicted
+ * when the size limit is exceeded, and results older than the time to live are not returned. Thrown exceptions are
+ * not cached.
+ * <p/>
+ * Only for RuleService internal use.
+ */
+public final class ServiceResultCache {
+
+    private static final Object NULL = new Object();
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Object, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ServiceResultCache(int maxSize, long ttl, TimeUnit unit) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl > 0 ? unit.toNanos(ttl) : Long.MAX_VALUE;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached result for the given key or invokes the method and caches its result. Concurrent requests
+     * with the same key can invoke the method several times, the last result is cached.
+     */
+    public Object get(Object key, Callable<Object> invocation) throws Exception {
+        long now = System.nanoTime();
+        Object result;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.created >= ttlNanos) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            result = entry != null ? entry.value : null;
+        }
+        if (result != null) {
+            hits.increment();
+            return result == NULL ? null : result;
+        }
+        misses.increment();
+        result = invocation.call();
+        Entry entry = new Entry(result == null ? NULL : result, System.nanoTime());
+        synchronized (entries) {
+            entries.put(key, entry);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxSize) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached results, for example, when the service is redeployed.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return cache metrics for monitoring purposes
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("size", size());
+        statistics.put("maxSize", maxSize);
+        statistics.put("hits", hitCount);
+        statistics.put("misses", missCount);
+        statistics.put("hitRatio", requests == 0 ? 0.0 : (double) hitCount / requests);
+        statistics.put("evictions", evictions.sum());
+        return statistics;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long created;
+
+        private Entry(Object value, long created) {
+            this.value = value;
+            this.created = created;
+        }
+    }
+}
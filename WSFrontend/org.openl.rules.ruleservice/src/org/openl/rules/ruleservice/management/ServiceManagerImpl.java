@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,15 +33,21 @@ import org.openl.message.Severity;
 import org.openl.rules.common.CommonVersion;
 import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
 import org.openl.rules.project.model.RulesDeploy;
+import org.openl.rules.project.model.Module;
 import org.openl.rules.ruleservice.conf.ServiceConfigurer;
+import org.openl.rules.ruleservice.core.CompilationScheduler;
 import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.MaxThreadsForCompileSemaphore;
 import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.RuleServiceDependencyManager;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
 import org.openl.rules.ruleservice.core.RuleServiceRedeployLock;
+import org.openl.rules.ruleservice.core.RuleServiceStaticConfigurationUtil;
 import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
 import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.openl.rules.ruleservice.core.ServiceResultCache;
 import org.openl.rules.ruleservice.loader.DataSourceListener;
 import org.openl.rules.ruleservice.loader.DeploymentsUpdatedEvent;
 import org.openl.rules.ruleservice.loader.RuleServiceLoader;
@@ -68,8 +75,9 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
     private Collection<RuleServicePublisher> supportedPublishers;
     private Collection<RuleServicePublisherListener> listeners = Collections.emptyList();
 
-    private ServiceDescription serviceDescriptionInProcess;
-    private OpenLService openLServiceInProcess;
+    // Services are compiled concurrently, so the service in process is kept per thread
+    private final ThreadLocal<ServiceDescription> serviceDescriptionInProcess = new ThreadLocal<>();
+    private final ThreadLocal<OpenLService> openLServiceInProcess = new ThreadLocal<>();
 
     public void setRuleServiceLoader(RuleServiceLoader ruleServiceLoader) {
         if (this.ruleServiceLoader != null) {
@@ -153,32 +161,148 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         final Map<DeploymentDescription, List<ServiceDescription>> groupedServices = newServices.values()
                 .stream()
                 .collect(Collectors.groupingBy(ServiceDescription::getDeployment));
-        Lock lock = RuleServiceRedeployLock.getInstance().getWriteLock();
-        try {
-            lock.lock();
-            for (List<ServiceDescription> serviceDescriptionsForDeployment : groupedServices.values()) {
-                if (hasAtLeastOneToDeploy(serviceDescriptionsForDeployment)) {
-                    for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
-                        ServiceDescription old = services.get(serviceDescription.getDeployPath());
-                        if (old != null) {
-                            try {
-                                undeploy(old);
-                            } catch (Exception e) {
-                                log.error("Failed to undeploy service '{}'.", serviceDescription.getDeployPath(), e);
-                            }
-                        }
-                    }
-                    for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
-                        try {
-                            deploy(serviceDescription);
-                        } catch (Exception | LinkageError e) {
-                            log.error("Failed to deploy service '{}'.", serviceDescription.getDeployPath(), e);
-                        }
+        Map<ServiceDescription, OpenLService> newServicesToDeploy = new LinkedHashMap<>();
+        for (List<ServiceDescription> serviceDescriptionsForDeployment : groupedServices.values()) {
+            if (hasAtLeastOneToDeploy(serviceDescriptionsForDeployment)) {
+                for (ServiceDescription serviceDescription : serviceDescriptionsForDeployment) {
+                    try {
+                        newServicesToDeploy.put(serviceDescription, createService(serviceDescription));
+                    } catch (Exception | LinkageError e) {
+                        log.error("Failed to deploy service '{}'.", serviceDescription.getDeployPath(), e);
                     }
                 }
             }
+        }
+        // All deployments are compiled by the same scheduler, so the number of compilation threads stays bounded
+        compile(newServicesToDeploy);
+        for (Map.Entry<ServiceDescription, OpenLService> entry : newServicesToDeploy.entrySet()) {
+            try {
+                replace(entry.getKey(), entry.getValue());
+            } catch (Exception | LinkageError e) {
+                log.error("Failed to deploy service '{}'.", entry.getKey().getDeployPath(), e);
+            }
+        }
+    }
+
+    private OpenLService createService(ServiceDescription serviceDescription) throws RuleServiceDeployException {
+        try {
+            serviceDescriptionInProcess.set(serviceDescription);
+            return ruleServiceInstantiationFactory.createService(serviceDescription);
+        } catch (RuleServiceInstantiationException e) {
+            throw new RuleServiceDeployException("Failed on deploy a service.", e);
+        } finally {
+            serviceDescriptionInProcess.remove();
+        }
+    }
+
+    /**
+     * Compiles the services which are compiled on deploy by their publishers or which deployed versions have been
+     * compiled. So the old versions serve requests during the compilation. Independent services are compiled
+     * concurrently, the projects they depend on are compiled before them. Other services are compiled on demand.
+     */
+    private void compile(Map<ServiceDescription, OpenLService> newServices) {
+        CompilationScheduler<Object> scheduler = new CompilationScheduler<>(
+                RuleServiceStaticConfigurationUtil.getMaxThreadsForCompile());
+        for (Map.Entry<ServiceDescription, OpenLService> entry : newServices.entrySet()) {
+            ServiceDescription serviceDescription = entry.getKey();
+            OpenLService service = entry.getValue();
+            OpenLService oldService = getServiceByDeploy(serviceDescription.getDeployPath());
+            if (isCompiledOnDeploy(service) || oldService != null && isCompiled(oldService)) {
+                if (scheduler.add(service,
+                        String.format("Service '%s'", serviceDescription.getDeployPath()),
+                        getDependencyKeys(serviceDescription),
+                        () -> compile(serviceDescription, service))) {
+                    ruleServiceInstantiationFactory.scheduleDependencies(serviceDescription, scheduler);
+                }
+            }
+        }
+        try {
+            scheduler.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Compilation of services has been interrupted. Services are compiled on demand.");
+        }
+    }
+
+    private static Collection<Object> getDependencyKeys(ServiceDescription serviceDescription) {
+        Collection<Module> modules = serviceDescription.getModules();
+        if (CollectionUtils.isEmpty(modules) || modules.iterator().next().getProject() == null) {
+            return Collections.emptySet();
+        }
+        return RuleServiceDependencyManager.getCompilationKeys(serviceDescription.getDeployment(),
+                modules.iterator().next().getProject());
+    }
+
+    private void compile(ServiceDescription serviceDescription, OpenLService service) {
+        try {
+            serviceDescriptionInProcess.set(serviceDescription);
+            openLServiceInProcess.set(service);
+            MaxThreadsForCompileSemaphore.getInstance().run(service::getServiceBean);
+        } catch (Exception | LinkageError e) {
+            service.setException(ExceptionUtils.getRootCause(e));
+        } finally {
+            serviceDescriptionInProcess.remove();
+            openLServiceInProcess.remove();
+        }
+    }
+
+    private boolean isCompiledOnDeploy(OpenLService service) {
+        return getPublishers(service).stream().anyMatch(publisher -> !publisher.isLazyCompilation());
+    }
+
+    private static boolean isCompiled(OpenLService service) {
+        return service.getCompiledOpenClass() != null || service.getException() != null;
+    }
+
+    /**
+     * Replaces the deployed version of the service with the compiled one. Only requests to this service wait until the
+     * in-flight requests to the old version are completed and the new version is published.
+     */
+    private void replace(ServiceDescription serviceDescription,
+                         OpenLService newService) throws RuleServiceDeployException {
+        String servicePath = serviceDescription.getDeployPath();
+        ServiceDescription oldDescription = services.get(servicePath);
+        OpenLService oldService = getServiceByDeploy(servicePath);
+        List<Lock> locks = lockUrls(oldService);
+        try {
+            if (oldService != null) {
+                try {
+                    undeploy(oldDescription, oldService);
+                } catch (Exception e) {
+                    log.error("Failed to undeploy service '{}'.", servicePath, e);
+                }
+            }
+            deploy(serviceDescription, newService);
         } finally {
-            lock.unlock();
+            locks.forEach(Lock::unlock);
+            if (oldService != null) {
+                removeUnusedLocks(oldService, newService);
+                releaseResources(oldDescription, oldService);
+            }
+        }
+    }
+
+    private static List<Lock> lockUrls(OpenLService service) {
+        if (service == null) {
+            return Collections.emptyList();
+        }
+        List<Lock> locks = new ArrayList<>();
+        for (String url : service.getUrls().values()) {
+            if (url == null) {
+                continue;
+            }
+            Lock lock = RuleServiceRedeployLock.getInstance().getLock(url).writeLock();
+            lock.lock();
+            locks.add(lock);
+        }
+        return locks;
+    }
+
+    private static void removeUnusedLocks(OpenLService oldService, OpenLService newService) {
+        for (String url : oldService.getUrls().values()) {
+            if (url != null && (newService == null || !newService.getUrls().containsValue(url))) {
+                RuleServiceRedeployLock.getInstance().removeLock(url);
+            }
         }
     }
 
@@ -201,25 +325,43 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         Objects.requireNonNull(serviceDescription, "service cannot be null");
         String serviceName = serviceDescription.getDeployPath();
         OpenLService service = getServiceByDeploy(serviceName);
+        List<Lock> locks = lockUrls(service);
         try {
-            this.openLServiceInProcess = service;
-            this.serviceDescriptionInProcess = serviceDescription;
-            undeploy(serviceName);
-            log.info("Service '{}' has been undeployed successfully.", serviceName);
+            undeploy(serviceDescription, service);
         } finally {
-            this.openLServiceInProcess = null;
-            this.serviceDescriptionInProcess = null;
+            locks.forEach(Lock::unlock);
             startDates.remove(serviceName);
             services.remove(serviceName);
-            try {
-                ClassLoader classloader = service.getClassLoader();
-                OpenClassUtil.releaseClassLoader(classloader);
-            } catch (RuleServiceInstantiationException ignored) {
+            if (service != null) {
+                removeUnusedLocks(service, null);
+                releaseResources(serviceDescription, service);
             }
-            cleanDeploymentResources(serviceDescription);
         }
     }
 
+    private void undeploy(ServiceDescription serviceDescription,
+                          OpenLService service) throws RuleServiceUndeployException {
+        String serviceName = serviceDescription.getDeployPath();
+        try {
+            openLServiceInProcess.set(service);
+            serviceDescriptionInProcess.set(serviceDescription);
+            undeploy(serviceName);
+            log.info("Service '{}' has been undeployed successfully.", serviceName);
+        } finally {
+            openLServiceInProcess.remove();
+            serviceDescriptionInProcess.remove();
+        }
+    }
+
+    private void releaseResources(ServiceDescription serviceDescription, OpenLService service) {
+        try {
+            ClassLoader classloader = service.getClassLoader();
+            OpenClassUtil.releaseClassLoader(classloader);
+        } catch (RuleServiceInstantiationException ignored) {
+        }
+        cleanDeploymentResources(serviceDescription);
+    }
+
     private void cleanDeploymentResources(ServiceDescription serviceDescription) {
         boolean foundServiceWithThisDeployment = false;
         for (ServiceDescription sd : services.values()) {
@@ -233,24 +375,32 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         }
     }
 
-    private void deploy(ServiceDescription serviceDescription) throws RuleServiceDeployException {
+    private void deploy(ServiceDescription serviceDescription,
+                        OpenLService newService) throws RuleServiceDeployException {
         String servicePath = serviceDescription.getDeployPath();
         if (getServiceByDeploy(servicePath) != null) {
             throw new RuleServiceDeployException(
                     String.format("The service with path '%s' is already deployed.", servicePath));
         }
         try {
-            this.serviceDescriptionInProcess = serviceDescription;
-            OpenLService newService = ruleServiceInstantiationFactory.createService(serviceDescription);
-            this.openLServiceInProcess = newService;
-            this.serviceDescriptionInProcess = serviceDescription;
+            serviceDescriptionInProcess.set(serviceDescription);
+            openLServiceInProcess.set(newService);
+            if (newService.getException() != null) {
+                // Compilation has failed. Register the service to show its errors.
+                services2.put(servicePath, newService);
+                throw new RuleServiceDeployException("Failed on deploy a service.", newService.getException());
+            }
             deploy(newService);
+            for (String url : newService.getUrls().values()) {
+                if (url != null) {
+                    // Register the lock, so requests to the service hold it
+                    RuleServiceRedeployLock.getInstance().getLock(url);
+                }
+            }
             log.info("Service '{}' has been deployed successfully.", servicePath);
-        } catch (RuleServiceInstantiationException e) {
-            throw new RuleServiceDeployException("Failed on deploy a service.", e);
         } finally {
-            this.serviceDescriptionInProcess = null;
-            this.openLServiceInProcess = null;
+            serviceDescriptionInProcess.remove();
+            openLServiceInProcess.remove();
             // Register a service even it was deployed unsuccessfully.
             services.put(servicePath, serviceDescription);
             startDates.put(servicePath, new Date());
@@ -258,19 +408,21 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
     }
 
     public XlsModuleOpenClass getXlsModuleOpenClassInProcess() throws RuleServiceInstantiationException {
-        return openLServiceInProcess != null ? (XlsModuleOpenClass) openLServiceInProcess.getOpenClass() : null;
+        OpenLService service = openLServiceInProcess.get();
+        return service != null ? (XlsModuleOpenClass) service.getOpenClass() : null;
     }
 
     public RulesDeploy getRulesDeployInProcess() {
-        return serviceDescriptionInProcess != null ? serviceDescriptionInProcess.getRulesDeploy() : null;
+        ServiceDescription serviceDescription = serviceDescriptionInProcess.get();
+        return serviceDescription != null ? serviceDescription.getRulesDeploy() : null;
     }
 
     public OpenLService getOpenLServiceInProcess() {
-        return this.openLServiceInProcess;
+        return openLServiceInProcess.get();
     }
 
     public ServiceDescription getServiceDescriptionInProcess() {
-        return this.serviceDescriptionInProcess;
+        return serviceDescriptionInProcess.get();
     }
 
     @Override
@@ -303,6 +455,16 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         return service.getManifest();
     }
 
+    @Override
+    public Map<String, Object> getResultCacheStatistics(String deployPath) {
+        OpenLService service = getServiceByDeploy(deployPath);
+        if (service == null) {
+            return null;
+        }
+        ServiceResultCache resultCache = service.getResultCache();
+        return resultCache != null ? resultCache.getStatistics() : Collections.emptyMap();
+    }
+
     @Override
     public Collection<ServiceInfo> getServicesInfo() {
         return services.values().stream().map(s -> {
@@ -353,22 +515,7 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
     public void deploy(OpenLService service) throws RuleServiceDeployException {
         Objects.requireNonNull(service, "service cannot be null");
         final String servicePath = service.getDeployPath();
-        Collection<String> sp = service.getPublishers();
-        Collection<RuleServicePublisher> publishers = new ArrayList<>();
-        if (supportedPublishers.size() > 1) {
-            for (String p : sp) {
-                var publisher = supportedPublishers.stream().filter((n) -> n.name().equalsIgnoreCase(p)).findFirst();
-                if (publisher.isPresent()) {
-                    publishers.add(publisher.get());
-                } else {
-                    log.warn("Publisher for '{}' is not registered. Please, check the configuration for service '{}'.",
-                            p,
-                            service.getDeployPath());
-                }
-            }
-        } else {
-            publishers.addAll(supportedPublishers);
-        }
+        Collection<RuleServicePublisher> publishers = getPublishers(service);
         RuleServiceDeployException e1 = null;
         List<RuleServicePublisher> deployedPublishers = new ArrayList<>();
         for (RuleServicePublisher publisher : publishers) {
@@ -397,6 +544,26 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
         fireDeployListeners(service);
     }
 
+    private Collection<RuleServicePublisher> getPublishers(OpenLService service) {
+        Collection<String> sp = service.getPublishers();
+        Collection<RuleServicePublisher> publishers = new ArrayList<>();
+        if (supportedPublishers.size() > 1) {
+            for (String p : sp) {
+                var publisher = supportedPublishers.stream().filter((n) -> n.name().equalsIgnoreCase(p)).findFirst();
+                if (publisher.isPresent()) {
+                    publishers.add(publisher.get());
+                } else {
+                    log.warn("Publisher for '{}' is not registered. Please, check the configuration for service '{}'.",
+                            p,
+                            service.getDeployPath());
+                }
+            }
+        } else {
+            publishers.addAll(supportedPublishers);
+        }
+        return publishers;
+    }
+
     private void fireDeployListeners(OpenLService service) {
         for (RuleServicePublisherListener listener : listeners) {
             listener.onDeploy(service);
@@ -445,6 +612,10 @@ public class ServiceManagerImpl implements ServiceManager, DataSourceListener, S
                 serviceContext.close();
             }
             undeployService.setServiceContext(null);
+            var resultCache = undeployService.getResultCache();
+            if (resultCache != null) {
+                resultCache.invalidateAll();
+            }
             services2.remove(deployPath);
         } else {
             throw new RuleServiceUndeployException("Failed to undeploy a service.", e1);
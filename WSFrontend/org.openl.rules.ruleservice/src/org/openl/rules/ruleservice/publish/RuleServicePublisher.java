@@ -41,6 +41,14 @@ public interface RuleServicePublisher {
      */
     String getUrl(OpenLService service);
 
+    /**
+     * Returns true if the publisher does not compile a service on deploy, so the service is compiled when it is used
+     * for the first time.
+     */
+    default boolean isLazyCompilation() {
+        return false;
+    }
+
     /**
      * Publisher name for matching with the configuration from the rules-deploy.xml.
      */
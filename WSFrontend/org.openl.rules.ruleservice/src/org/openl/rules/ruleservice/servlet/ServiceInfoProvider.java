@@ -1,6 +1,7 @@
 package org.openl.rules.ruleservice.servlet;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.jar.Manifest;
 
 public interface ServiceInfoProvider {
@@ -15,6 +16,11 @@ public interface ServiceInfoProvider {
      */
     Manifest getManifest(String deployPath);
 
+    /**
+     * Returns metrics of the result cache for the given service. The metrics are empty if the cache is disabled.
+     */
+    Map<String, Object> getResultCacheStatistics(String deployPath);
+
     /**
      * Returns a list of deployed services.
      */
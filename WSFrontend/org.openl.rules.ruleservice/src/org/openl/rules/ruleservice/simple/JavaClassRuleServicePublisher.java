@@ -80,6 +80,11 @@ public class JavaClassRuleServicePublisher implements RuleServicePublisher {
         return null;
     }
 
+    @Override
+    public boolean isLazyCompilation() {
+        return true;
+    }
+
     @Override
     public String name() {
         return "JAVA";
@@ -7,7 +7,6 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import org.openl.binding.MethodUtil;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
-import org.openl.rules.ruleservice.core.RuleServiceRedeployLock;
 import org.openl.rules.ruleservice.core.RuleServiceWrapperException;
 import org.openl.util.ClassUtils;
 
@@ -118,13 +116,7 @@ public class RulesFrontendImpl implements RulesFrontend {
     }
 
     private OpenLService getService(String serviceName) {
-        Lock lock = RuleServiceRedeployLock.getInstance().getReadLock();
-        try {
-            lock.lock();
-            return runningServices.get(serviceName);
-        } finally {
-            lock.unlock();
-        }
+        return runningServices.get(serviceName);
     }
 
     /**
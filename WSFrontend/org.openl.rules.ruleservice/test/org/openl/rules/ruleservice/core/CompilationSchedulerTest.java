@@ -0,0 +1,91 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CompilationSchedulerTest {
+
+    @Test
+    public void testDependenciesAreCompiledFirst() throws InterruptedException {
+        List<String> compiled = Collections.synchronizedList(new ArrayList<>());
+        CompilationScheduler<String> scheduler = new CompilationScheduler<>(4);
+        assertTrue(scheduler.add("service", "Service", Set.of("a", "b", "unknown"), () -> compiled.add("service")));
+        assertTrue(scheduler.add("a", "A", Set.of("c"), () -> compiled.add("a")));
+        assertTrue(scheduler.add("b", "B", Set.of("c"), () -> compiled.add("b")));
+        assertTrue(scheduler.add("c", "C", null, () -> compiled.add("c")));
+        assertFalse(scheduler.add("c", "C", null, () -> compiled.add("c")));
+        scheduler.run();
+
+        assertEquals(4, compiled.size());
+        assertEquals("c", compiled.get(0));
+        assertEquals("service", compiled.get(3));
+        assertNotNull(scheduler.getCompilationTime("service"));
+    }
+
+    @Test
+    public void testIndependentNodesAreCompiledConcurrently() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                // Both tasks must be running at the same time to pass the latch
+                results.add(started.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompilationScheduler<String> scheduler = new CompilationScheduler<>(2);
+        scheduler.add("a", "A", null, task);
+        scheduler.add("b", "B", null, task);
+        scheduler.run();
+
+        assertEquals(List.of(true, true), results);
+    }
+
+    @Test
+    public void testCircularDependency() throws InterruptedException {
+        List<String> compiled = Collections.synchronizedList(new ArrayList<>());
+        CompilationScheduler<String> scheduler = new CompilationScheduler<>(2);
+        scheduler.add("a", "A", Set.of("b"), () -> compiled.add("a"));
+        scheduler.add("b", "B", Set.of("a"), () -> compiled.add("b"));
+        scheduler.add("c", "C", Set.of("a"), () -> compiled.add("c"));
+        scheduler.add("d", "D", null, () -> {
+            compiled.add("d");
+            throw new IllegalStateException("Compilation failure");
+        });
+        scheduler.run();
+
+        assertEquals(List.of("d", "a", "b", "c"), compiled);
+    }
+
+    @Test
+    public void testDependentsOfFailedNodeAreCompiled() throws InterruptedException {
+        List<String> compiled = Collections.synchronizedList(new ArrayList<>());
+        CompilationScheduler<String> scheduler = new CompilationScheduler<>(2);
+        scheduler.add("service", "Service", Set.of("a"), () -> compiled.add("service"));
+        scheduler.add("a", "A", Set.of("b"), () -> {
+            compiled.add("a");
+            throw new StackOverflowError();
+        });
+        scheduler.add("b", "B", null, () -> {
+            compiled.add("b");
+            throw new AssertionError("Compilation failure");
+        });
+        scheduler.run();
+
+        assertEquals(List.of("b", "a", "service"), compiled);
+        assertNotNull(scheduler.getCompilationTime("a"));
+    }
+}
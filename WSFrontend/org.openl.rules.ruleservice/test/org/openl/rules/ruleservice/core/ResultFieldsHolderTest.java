@@ -0,0 +1,34 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ResultFieldsHolderTest {
+
+    @AfterEach
+    public void tearDown() {
+        ResultFieldsHolder.remove();
+    }
+
+    @Test
+    public void testFieldsAreParsed() {
+        ResultFieldsHolder.set(" $Value$A, Value_B,,C ");
+        assertEquals(Set.of("$Value$A", "Value_B", "C"), ResultFieldsHolder.get());
+        ResultFieldsHolder.remove();
+        assertNull(ResultFieldsHolder.get());
+    }
+
+    @Test
+    public void testBlankFieldsAreIgnored() {
+        ResultFieldsHolder.set("A");
+        ResultFieldsHolder.set(" , ");
+        assertNull(ResultFieldsHolder.get());
+        ResultFieldsHolder.set(null);
+        assertNull(ResultFieldsHolder.get());
+    }
+}
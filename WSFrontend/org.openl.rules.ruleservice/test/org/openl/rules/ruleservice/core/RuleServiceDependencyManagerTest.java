@@ -0,0 +1,122 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.dependency.CompiledDependency;
+import org.openl.exception.OpenLCompilationException;
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.project.instantiation.AbstractDependencyManager;
+import org.openl.rules.project.instantiation.IDependencyLoader;
+import org.openl.rules.project.instantiation.SimpleDependencyLoader;
+import org.openl.rules.project.model.ProjectDependencyDescriptor;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.rules.ruleservice.loader.RuleServiceLoader;
+
+public class RuleServiceDependencyManagerTest {
+
+    @Test
+    public void testIndependentProjectsAreCompiledConcurrently() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+        TestDependencyManager dependencyManager = new TestDependencyManager(Map.of("a", Set.of(), "b", Set.of()),
+                () -> {
+                    started.countDown();
+                    // Both projects must be compiling at the same time to pass the latch
+                    results.add(started.await(10, TimeUnit.SECONDS));
+                });
+        List<Thread> threads = new ArrayList<>();
+        for (String project : List.of("a", "b")) {
+            Thread thread = new Thread(() -> assertThrows(OpenLCompilationException.class,
+                    () -> dependencyManager.loadDependency(AbstractDependencyManager.buildResolvedDependency(project))));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(List.of(true, true), results);
+    }
+
+    @Test
+    public void testCompilationMonitors() {
+        Map<String, Set<String>> projects = Map.of("a", Set.of(), "b", Set.of("a"), "c", Set.of("d"), "d", Set.of("c"),
+                "e", Set.of("a", "c"));
+        TestDependencyManager dependencyManager = new TestDependencyManager(projects, () -> {
+        });
+        Object a = dependencyManager.getCompilationMonitor(dependencyManager.findLoader("a"));
+        Object b = dependencyManager.getCompilationMonitor(dependencyManager.findLoader("b"));
+        assertNotSame(dependencyManager, a);
+        assertNotSame(dependencyManager, b);
+        assertNotSame(a, b);
+        // Circular dependency and the projects which depend on it are guarded by the manager
+        assertSame(dependencyManager, dependencyManager.getCompilationMonitor(dependencyManager.findLoader("c")));
+        assertSame(dependencyManager, dependencyManager.getCompilationMonitor(dependencyManager.findLoader("d")));
+        assertSame(dependencyManager, dependencyManager.getCompilationMonitor(dependencyManager.findLoader("e")));
+    }
+
+    private interface Compilation {
+        void run() throws InterruptedException;
+    }
+
+    private static class TestDependencyManager extends RuleServiceDependencyManager {
+
+        private final Map<String, Set<String>> projects;
+        private final Compilation compilation;
+
+        TestDependencyManager(Map<String, Set<String>> projects, Compilation compilation) {
+            super(new DeploymentDescription("deployment", new CommonVersionImpl(0)),
+                    mock(RuleServiceLoader.class),
+                    null,
+                    null);
+            this.projects = projects;
+            this.compilation = compilation;
+        }
+
+        IDependencyLoader findLoader(String projectName) {
+            return findDependencyLoader(buildResolvedDependency(projectName));
+        }
+
+        @Override
+        protected Set<IDependencyLoader> initDependencyLoaders() {
+            Set<IDependencyLoader> dependencyLoaders = new HashSet<>();
+            for (Map.Entry<String, Set<String>> entry : projects.entrySet()) {
+                ProjectDescriptor project = new ProjectDescriptor();
+                project.setName(entry.getKey());
+                project.setDependencies(entry.getValue().stream().map(name -> {
+                    ProjectDependencyDescriptor dependency = new ProjectDependencyDescriptor();
+                    dependency.setName(name);
+                    return dependency;
+                }).collect(Collectors.toList()));
+                dependencyLoaders.add(new SimpleDependencyLoader(project, null, true, this) {
+                    @Override
+                    protected CompiledDependency compileDependency() throws OpenLCompilationException {
+                        try {
+                            compilation.run();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return null;
+                    }
+                });
+            }
+            return dependencyLoaders;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.ruleservice.publish.URLHelper;
+
+public class RuleServiceRedeployLockTest {
+
+    @Test
+    public void testFindReadLock() {
+        RuleServiceRedeployLock locks = RuleServiceRedeployLock.getInstance();
+        var serviceLock = locks.getLock("lock-test/service");
+        var restLock = locks.getLock("REST/lock-test/service");
+        try {
+            assertSame(serviceLock, locks.getLock("/lock-test/service"));
+            assertSame(serviceLock.readLock(), locks.findReadLock("/lock-test/service/method"));
+            assertSame(serviceLock.readLock(), locks.findReadLock("/lock-test/service"));
+            assertSame(restLock.readLock(), locks.findReadLock("/REST/lock-test/service/method/1"));
+            assertNull(locks.findReadLock("/lock-test/service2/method"));
+            assertNull(locks.findReadLock("/lock-test"));
+            assertNull(locks.findReadLock("/"));
+        } finally {
+            locks.removeLock("lock-test/service");
+            locks.removeLock("/REST/lock-test/service");
+        }
+        assertNull(locks.findReadLock("/lock-test/service/method"));
+        assertNotNull(locks.getLock("lock-test/service"));
+        locks.removeLock("lock-test/service");
+    }
+
+    @Test
+    public void testFindReadLockOfEncodedUrl() {
+        RuleServiceRedeployLock locks = RuleServiceRedeployLock.getInstance();
+        String url = URLHelper.processURL("lock-test/my service+1");
+        assertEquals("lock-test/my%20service%2B1", url);
+        var serviceLock = locks.getLock(url);
+        try {
+            assertSame(serviceLock.readLock(), locks.findReadLock("/lock-test/my service+1/method"));
+            assertSame(serviceLock.readLock(), locks.findReadLock("/lock-test/my service+1"));
+            assertNull(locks.findReadLock("/lock-test/my%20service%2B1/method"));
+            assertNull(locks.findReadLock("/lock-test/my service"));
+        } finally {
+            locks.removeLock(url);
+        }
+        assertNull(locks.findReadLock("/lock-test/my service+1/method"));
+    }
+}
@@ -0,0 +1,77 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ServiceResultCacheTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private Object invoke() {
+        return invocations.incrementAndGet();
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        ServiceResultCache cache = new ServiceResultCache(10, 0, TimeUnit.SECONDS);
+        assertEquals(1, cache.get("a", this::invoke));
+        assertEquals(1, cache.get("a", this::invoke));
+        assertEquals(2, cache.get("b", this::invoke));
+        assertNull(cache.get("c", () -> null));
+        assertNull(cache.get("c", this::invoke));
+        assertEquals(2, invocations.get());
+
+        Map<String, Object> statistics = cache.getStatistics();
+        assertEquals(3, statistics.get("size"));
+        assertEquals(2L, statistics.get("hits"));
+        assertEquals(3L, statistics.get("misses"));
+        assertEquals(0.4, statistics.get("hitRatio"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        ServiceResultCache cache = new ServiceResultCache(2, 0, TimeUnit.SECONDS);
+        cache.get("a", this::invoke);
+        cache.get("b", this::invoke);
+        cache.get("a", this::invoke);
+        cache.get("c", this::invoke);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a", this::invoke));
+        assertEquals(4, cache.get("b", this::invoke));
+        assertEquals(2L, cache.getStatistics().get("evictions"));
+    }
+
+    @Test
+    public void testExpiredResultIsRecalculated() throws Exception {
+        ServiceResultCache cache = new ServiceResultCache(2, 1, TimeUnit.MILLISECONDS);
+        cache.get("a", this::invoke);
+        Thread.sleep(5);
+        assertEquals(2, cache.get("a", this::invoke));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testExceptionIsNotCached() throws Exception {
+        ServiceResultCache cache = new ServiceResultCache(2, 0, TimeUnit.SECONDS);
+        assertThrows(IllegalStateException.class, () -> cache.get("a", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, cache.get("a", this::invoke));
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        ServiceResultCache cache = new ServiceResultCache(2, 0, TimeUnit.SECONDS);
+        cache.get("a", this::invoke);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.get("a", this::invoke));
+    }
+}
@@ -0,0 +1,126 @@
+package org.openl.rules.ruleservice.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+import org.openl.rules.common.impl.CommonVersionImpl;
+import org.openl.rules.ruleservice.core.DeploymentDescription;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.core.RuleServiceInstantiationFactory;
+import org.openl.rules.ruleservice.core.RuleServiceRedeployLock;
+import org.openl.rules.ruleservice.core.ServiceDescription;
+import org.openl.rules.ruleservice.publish.RuleServicePublisher;
+
+public class ServiceManagerImplTest {
+
+    private volatile int version = 1;
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testReplaceWaitsForInFlightRequests() throws Exception {
+        Publisher publisher = new Publisher();
+        ServiceManagerImpl serviceManager = new ServiceManagerImpl();
+        serviceManager.setServiceConfigurer(loader -> Collections.singleton(serviceDescription(version)));
+        serviceManager.setRuleServiceInstantiationFactory(new InstantiationFactory());
+        serviceManager.setSupportedPublishers(Collections.singleton(publisher));
+        serviceManager.start();
+        OpenLService oldService = serviceManager.getServiceByDeploy("drain-test");
+        assertNotNull(oldService);
+        assertEquals(List.of("deploy 1"), events);
+
+        // a request in process to the deployed service
+        Lock request = RuleServiceRedeployLock.getInstance().findReadLock("/drain-test/my service/method");
+        assertNotNull(request);
+        request.lock();
+        Thread redeploy;
+        try {
+            version = 2;
+            redeploy = new Thread(serviceManager::onDeploymentAdded);
+            redeploy.start();
+            redeploy.join(500);
+            assertTrue(redeploy.isAlive(), "Replacing must wait for the request");
+            assertSame(oldService, serviceManager.getServiceByDeploy("drain-test"));
+            assertEquals(List.of("deploy 1"), events);
+        } finally {
+            request.unlock();
+        }
+        redeploy.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(redeploy.isAlive());
+        assertEquals(List.of("deploy 1", "undeploy 1", "deploy 2"), events);
+        assertEquals("2", serviceManager.getServiceByDeploy("drain-test").getDeployment().getVersion().getRevision());
+        assertNotNull(RuleServiceRedeployLock.getInstance().findReadLock("/drain-test/my service/method"));
+
+        serviceManager.setServiceConfigurer(loader -> Collections.emptySet());
+        serviceManager.onDeploymentAdded();
+        assertEquals(List.of("deploy 1", "undeploy 1", "deploy 2", "undeploy 2"), events);
+        assertTrue(serviceManager.getServices().isEmpty());
+    }
+
+    private static ServiceDescription serviceDescription(int version) {
+        return new ServiceDescription.ServiceDescriptionBuilder().setName("drain-test")
+                .setServicePath("drain-test")
+                .setResourceLoader(location -> null)
+                .setModules(Collections.emptyList())
+                .setDeployment(new DeploymentDescription("drain-test", new CommonVersionImpl(version)))
+                .build();
+    }
+
+    private static final class InstantiationFactory implements RuleServiceInstantiationFactory {
+        @Override
+        public OpenLService createService(ServiceDescription serviceDescription) {
+            return new OpenLService.OpenLServiceBuilder().setName(serviceDescription.getName())
+                    .setDeployPath(serviceDescription.getDeployPath())
+                    .setDeployment(serviceDescription.getDeployment())
+                    .build(service -> {
+                    });
+        }
+
+        @Override
+        public void clean(ServiceDescription serviceDescription) {
+        }
+    }
+
+    private final class Publisher implements RuleServicePublisher {
+        private final Map<String, OpenLService> deployed = new ConcurrentHashMap<>();
+
+        @Override
+        public void deploy(OpenLService service) {
+            deployed.put(service.getDeployPath(), service);
+            events.add("deploy " + service.getDeployment().getVersion().getRevision());
+        }
+
+        @Override
+        public void undeploy(OpenLService service) {
+            deployed.remove(service.getDeployPath());
+            events.add("undeploy " + service.getDeployment().getVersion().getRevision());
+        }
+
+        @Override
+        public OpenLService getServiceByDeploy(String deployPath) {
+            return deployed.get(deployPath);
+        }
+
+        @Override
+        public String getUrl(OpenLService service) {
+            return "drain-test/my%20service";
+        }
+
+        @Override
+        public boolean isLazyCompilation() {
+            return true;
+        }
+    }
+}